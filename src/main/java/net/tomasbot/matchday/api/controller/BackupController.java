@@ -1,6 +1,10 @@
 package net.tomasbot.matchday.api.controller;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.UUID;
@@ -14,6 +18,7 @@ import org.springframework.hateoas.CollectionModel;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/system")
@@ -65,9 +70,16 @@ public class BackupController {
   }
 
   @GetMapping(value = "/dehydrate", produces = MediaType.APPLICATION_JSON_VALUE)
-  @ResponseBody
-  public String dehydrateSystem() {
-    return JsonParser.toJson(backupService.dehydrate(), SystemImage.class);
+  public ResponseEntity<StreamingResponseBody> dehydrateSystem() {
+    // the image is written as it is read from the database, rather than built in memory
+    final StreamingResponseBody body =
+        out -> {
+          final Writer writer =
+              new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+          backupService.dehydrate(writer);
+          writer.flush();
+        };
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
   }
 
   @PostMapping(value = "/rehydrate", consumes = MediaType.APPLICATION_JSON_VALUE)
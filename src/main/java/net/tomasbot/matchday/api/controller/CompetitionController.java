@@ -26,6 +26,7 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import net.tomasbot.matchday.api.resource.ArtworkCollectionResource;
 import net.tomasbot.matchday.api.resource.ArtworkCollectionResource.ArtworkCollectionModeller;
@@ -39,6 +40,7 @@ import net.tomasbot.matchday.api.resource.TeamResource;
 import net.tomasbot.matchday.api.resource.TeamResource.TeamModeller;
 import net.tomasbot.matchday.api.service.CompetitionService;
 import net.tomasbot.matchday.api.service.EventService;
+import net.tomasbot.matchday.api.service.RevisionService;
 import net.tomasbot.matchday.api.service.TeamService;
 import net.tomasbot.matchday.model.Artwork;
 import net.tomasbot.matchday.model.ArtworkCollection;
@@ -46,7 +48,10 @@ import net.tomasbot.matchday.model.ArtworkRole;
 import net.tomasbot.matchday.model.Competition;
 import net.tomasbot.matchday.model.Event;
 import net.tomasbot.matchday.model.Image;
+import net.tomasbot.matchday.model.ImageResource;
+import net.tomasbot.matchday.model.Revision;
 import net.tomasbot.matchday.model.Team;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.http.MediaType;
@@ -73,6 +78,7 @@ public class CompetitionController {
   private final EventsModeller eventsModeller;
   private final ArtworkModeller artworkModeller;
   private final ArtworkCollectionModeller collectionModeller;
+  private final RevisionService revisionService;
 
   public CompetitionController(
       EventService eventService,
@@ -82,7 +88,8 @@ public class CompetitionController {
       TeamModeller teamModeller,
       EventsModeller eventsModeller,
       ArtworkModeller artworkModeller,
-      ArtworkCollectionModeller collectionModeller) {
+      ArtworkCollectionModeller collectionModeller,
+      RevisionService revisionService) {
 
     this.competitionService = competitionService;
     this.competitionModeller = competitionModeller;
@@ -92,6 +99,7 @@ public class CompetitionController {
     this.eventsModeller = eventsModeller;
     this.artworkModeller = artworkModeller;
     this.collectionModeller = collectionModeller;
+    this.revisionService = revisionService;
   }
 
   /**
@@ -104,6 +112,10 @@ public class CompetitionController {
       method = RequestMethod.GET,
       produces = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<CollectionModel<CompetitionResource>> fetchAllCompetitions() {
+    if (ConditionalRequests.isNotModified(revisionService.fetchCompetitionsRevision())) {
+      return ConditionalRequests.notModified();
+    }
+    // Competitions are few, so they are listed whole rather than paged like Teams & Events
     final List<Competition> competitions = competitionService.fetchAll();
     final CollectionModel<CompetitionResource> model =
         competitionModeller.toCollectionModel(competitions);
@@ -124,6 +136,10 @@ public class CompetitionController {
   public ResponseEntity<CompetitionResource> fetchCompetitionById(
       @PathVariable final UUID competitionId) {
 
+    final Optional<Revision> revision = revisionService.fetchCompetitionRevision(competitionId);
+    if (revision.isPresent() && ConditionalRequests.isNotModified(revision.get())) {
+      return ConditionalRequests.notModified();
+    }
     return competitionService
         .fetchById(competitionId)
         .map(competitionModeller::toModel)
@@ -246,13 +262,24 @@ public class CompetitionController {
       value = "/competition/{competitionId}/{role}/selected",
       method = RequestMethod.GET,
       produces = {MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_JPEG_VALUE, IMAGE_SVG_VALUE})
-  public ResponseEntity<byte[]> fetchSelectedArtwork(
+  public ResponseEntity<Resource> fetchSelectedArtwork(
       @PathVariable UUID competitionId, @PathVariable ArtworkRole role) throws IOException {
 
-    final Image image = competitionService.fetchSelectedArtworkImage(competitionId, role);
-    return image != null
-        ? ResponseEntity.ok().contentType(image.contentType()).body(image.data())
-        : ResponseEntity.notFound().build();
+    final ImageResource image = competitionService.fetchSelectedArtworkImage(competitionId, role);
+    return ImageResponses.revalidated(image);
+  }
+
+  @RequestMapping(
+      value = "/competition/{competitionId}/{role}/selected/resized/{size}",
+      method = RequestMethod.GET,
+      produces = {MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_JPEG_VALUE, IMAGE_SVG_VALUE})
+  public ResponseEntity<Resource> fetchResizedSelectedArtwork(
+      @PathVariable UUID competitionId, @PathVariable ArtworkRole role, @PathVariable int size)
+      throws IOException {
+
+    final ImageResource image =
+        competitionService.fetchSelectedArtworkImage(competitionId, role, size);
+    return ImageResponses.revalidated(image);
   }
 
   @RequestMapping(
@@ -284,14 +311,30 @@ public class CompetitionController {
       method = RequestMethod.GET,
       produces = {MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_JPEG_VALUE, IMAGE_SVG_VALUE})
   @ResponseBody
-  public ResponseEntity<byte[]> fetchArtworkImageData(
+  public ResponseEntity<Resource> fetchArtworkImageData(
       @PathVariable UUID competitionId,
       @PathVariable ArtworkRole role,
       @PathVariable Long artworkId)
       throws IOException {
 
-    final Image image = competitionService.fetchArtworkData(competitionId, role, artworkId);
-    return ResponseEntity.ok().contentType(image.contentType()).body(image.data());
+    final ImageResource image = competitionService.fetchArtworkData(competitionId, role, artworkId);
+    return ImageResponses.immutable(image);
+  }
+
+  @RequestMapping(
+      value = "/competition/{competitionId}/{role}/{artworkId}/resized/{size}",
+      method = RequestMethod.GET,
+      produces = {MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_JPEG_VALUE, IMAGE_SVG_VALUE})
+  public ResponseEntity<Resource> fetchResizedArtworkImageData(
+      @PathVariable UUID competitionId,
+      @PathVariable ArtworkRole role,
+      @PathVariable Long artworkId,
+      @PathVariable int size)
+      throws IOException {
+
+    final ImageResource image =
+        competitionService.fetchArtworkData(competitionId, role, artworkId, size);
+    return ImageResponses.immutable(image);
   }
 
   @RequestMapping(
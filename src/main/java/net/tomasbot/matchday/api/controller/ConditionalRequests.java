@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.tomasbot.matchday.api.controller;
+
+import java.time.Instant;
+import javax.servlet.http.HttpServletResponse;
+import net.tomasbot.matchday.model.Revision;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Answers conditional requests for JSON resources. Validators are checked before the resource is
+ * loaded, so a client polling an unchanged resource costs only the query for its Revision.
+ */
+final class ConditionalRequests {
+
+  // without an explicit policy, clients may reuse a response with Last-Modified without asking
+  private static final String NO_CACHE = CacheControl.noCache().getHeaderValue();
+
+  private ConditionalRequests() {}
+
+  /**
+   * Compare the validators sent with the current request to the current Revision of the requested
+   * resource, and add the current validators to the response.
+   *
+   * @param revision The current Revision of the requested resource
+   * @return True if the client's copy is current, in which case the status is already 304
+   */
+  static boolean isNotModified(@NotNull Revision revision) {
+    final ServletRequestAttributes attributes =
+        (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+    final HttpServletResponse response = attributes.getResponse();
+    if (response != null) {
+      response.setHeader(HttpHeaders.CACHE_CONTROL, NO_CACHE);
+    }
+    final ServletWebRequest request = new ServletWebRequest(attributes.getRequest(), response);
+    final Instant lastModified = revision.lastModified();
+    return lastModified != null
+        ? request.checkNotModified(revision.etag(), lastModified.toEpochMilli())
+        : request.checkNotModified(revision.etag());
+  }
+
+  static <T> @NotNull ResponseEntity<T> notModified() {
+    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+  }
+}
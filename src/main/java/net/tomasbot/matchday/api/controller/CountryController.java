@@ -20,12 +20,16 @@
 package net.tomasbot.matchday.api.controller;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import net.tomasbot.matchday.api.resource.CountryResource;
 import net.tomasbot.matchday.api.resource.CountryResource.CountryResourceAssembler;
 import net.tomasbot.matchday.api.service.CountryService;
 import net.tomasbot.matchday.model.Country;
+import net.tomasbot.matchday.model.ImageResource;
+import org.springframework.core.io.Resource;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -73,8 +77,8 @@ public class CountryController {
       value = "/{name}/flag",
       method = RequestMethod.GET,
       produces = MEDIA_TYPE_SVG_IMAGE)
-  public ResponseEntity<byte[]> getFlagForCountry(@PathVariable String name) throws IOException {
-    final byte[] flag = service.getFlag(name);
-    return ResponseEntity.ok(flag);
+  public ResponseEntity<Resource> getFlagForCountry(@PathVariable String name) throws IOException {
+    final ImageResource flag = service.getFlagResource(name);
+    return ImageResponses.revalidated(flag, CacheControl.maxAge(Duration.ofDays(1)));
   }
 }
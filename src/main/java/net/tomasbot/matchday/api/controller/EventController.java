@@ -30,10 +30,13 @@ import net.tomasbot.matchday.api.resource.EventsResource.EventsModeller;
 import net.tomasbot.matchday.api.resource.VideoFileSourceResource;
 import net.tomasbot.matchday.api.resource.VideoPlaylistResource;
 import net.tomasbot.matchday.api.service.EventService;
+import net.tomasbot.matchday.api.service.RevisionService;
 import net.tomasbot.matchday.model.Event;
+import net.tomasbot.matchday.model.EventCursor;
 import net.tomasbot.matchday.model.video.VideoFileSource;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -47,16 +50,19 @@ public class EventController {
   private final EventsModeller eventAssembler;
   private final VideoFileSourceResource.VideoSourceModeller fileSourceAssembler;
   private final VideoPlaylistResource.VideoPlaylistResourceAssembler playlistAssembler;
+  private final RevisionService revisionService;
 
   EventController(
       EventService eventService,
       EventsModeller eventAssembler,
       VideoFileSourceResource.VideoSourceModeller fileSourceAssembler,
-      VideoPlaylistResource.VideoPlaylistResourceAssembler playlistAssembler) {
+      VideoPlaylistResource.VideoPlaylistResourceAssembler playlistAssembler,
+      RevisionService revisionService) {
     this.eventService = eventService;
     this.eventAssembler = eventAssembler;
     this.fileSourceAssembler = fileSourceAssembler;
     this.playlistAssembler = playlistAssembler;
+    this.revisionService = revisionService;
   }
 
   @NotNull
@@ -72,6 +78,9 @@ public class EventController {
   public ResponseEntity<EventsResource> fetchAllEvents(
       @RequestParam(name = "page", defaultValue = "0") int page,
       @RequestParam(name = "size", defaultValue = "16") int size) {
+    if (ConditionalRequests.isNotModified(revisionService.fetchEventsRevision(page, size))) {
+      return ConditionalRequests.notModified();
+    }
     Page<Event> events = eventService.fetchAllPaged(page, size);
     EventsResource resource = eventAssembler.toModel(events.getContent());
 
@@ -83,6 +92,31 @@ public class EventController {
     return ResponseEntity.ok(resource);
   }
 
+  /**
+   * Scroll through all Events, newest first. Each response links to the next via an opaque
+   * cursor, so deep pages cost the same as the first.
+   *
+   * @param cursor The cursor from a previous response, or none for the newest Events
+   * @param size The maximum number of Events to return
+   * @return A slice of Events
+   */
+  @ResponseBody
+  @RequestMapping(value = "/scroll", method = RequestMethod.GET)
+  public ResponseEntity<EventsResource> scrollEvents(
+      @RequestParam(name = "cursor", required = false) String cursor,
+      @RequestParam(name = "size", defaultValue = "16") int size) {
+    Slice<Event> events = eventService.fetchSlice(EventCursor.decode(cursor), size);
+    EventsResource resource = eventAssembler.toModel(events.getContent());
+
+    if (events.hasNext()) {
+      String next = EventCursor.after(events.getContent()).encode();
+      resource.add(
+          linkTo(methodOn(EventController.class).scrollEvents(next, size)).withRel(NEXT_LINK));
+    }
+
+    return ResponseEntity.ok(resource);
+  }
+
   // TODO: move to VideoStreamingController
   @RequestMapping(
       value = {"/event/{eventId}/video"},
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.tomasbot.matchday.api.controller;
+
+import java.time.Duration;
+import net.tomasbot.matchday.model.ImageResource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Builds image responses. The ETag is set on the response entity, so Spring answers a matching
+ * If-None-Match with 304 Not Modified without streaming the body.
+ */
+final class ImageResponses {
+
+  private static final String IMMUTABLE =
+      CacheControl.maxAge(Duration.ofDays(365)).cachePublic().getHeaderValue() + ", immutable";
+
+  private ImageResponses() {}
+
+  /**
+   * For URLs which always refer to the same image, e.g., artwork by ID.
+   *
+   * @param image The image, or null if not found
+   * @return A response which may be cached indefinitely
+   */
+  static @NotNull ResponseEntity<Resource> immutable(@Nullable ImageResource image) {
+    if (image == null) {
+      return ResponseEntity.notFound().build();
+    }
+    if (image.etag() == null) {
+      return revalidated(image);
+    }
+    return ResponseEntity.ok()
+        .contentType(image.contentType())
+        .contentLength(image.contentLength())
+        .eTag(image.etag())
+        .header(HttpHeaders.CACHE_CONTROL, IMMUTABLE)
+        .body(image.data());
+  }
+
+  /**
+   * For URLs whose image may change, e.g., the selected artwork of a collection.
+   *
+   * @param image The image, or null if not found
+   * @return A response which clients must revalidate before reuse
+   */
+  static @NotNull ResponseEntity<Resource> revalidated(@Nullable ImageResource image) {
+    return revalidated(image, CacheControl.noCache());
+  }
+
+  static @NotNull ResponseEntity<Resource> revalidated(
+      @Nullable ImageResource image, @NotNull CacheControl cacheControl) {
+    if (image == null) {
+      return ResponseEntity.notFound().build();
+    }
+    final ResponseEntity.BodyBuilder builder =
+        ResponseEntity.ok().contentType(image.contentType()).contentLength(image.contentLength());
+    if (image.etag() != null) {
+      builder.eTag(image.etag()).cacheControl(cacheControl);
+    } else {
+      builder.cacheControl(CacheControl.noStore());
+    }
+    return builder.body(image.data());
+  }
+}
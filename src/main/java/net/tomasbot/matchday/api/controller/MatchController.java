@@ -26,6 +26,8 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import net.tomasbot.matchday.api.resource.ArtworkResource;
 import net.tomasbot.matchday.api.resource.ArtworkResource.ArtworkModeller;
@@ -34,14 +36,21 @@ import net.tomasbot.matchday.api.resource.EventsResource.EventsModeller;
 import net.tomasbot.matchday.api.resource.MatchResource;
 import net.tomasbot.matchday.api.resource.MatchResource.MatchResourceAssembler;
 import net.tomasbot.matchday.api.service.InvalidEventException;
+import net.tomasbot.matchday.api.service.MatchArtworkRegenerationService;
 import net.tomasbot.matchday.api.service.MatchService;
+import net.tomasbot.matchday.api.service.RevisionService;
 import net.tomasbot.matchday.model.Artwork;
-import net.tomasbot.matchday.model.Image;
+import net.tomasbot.matchday.model.ArtworkRegenerationJob;
+import net.tomasbot.matchday.model.EventCursor;
+import net.tomasbot.matchday.model.ImageResource;
 import net.tomasbot.matchday.model.Match;
+import net.tomasbot.matchday.model.Revision;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -62,19 +71,25 @@ public class MatchController {
   private static final Logger logger = LogManager.getLogger(MatchController.class);
 
   private final MatchService matchService;
+  private final MatchArtworkRegenerationService artworkRegenerationService;
   private final EventsModeller eventsAssembler;
   private final MatchResourceAssembler matchAssembler;
   private final ArtworkModeller artworkModeller;
+  private final RevisionService revisionService;
 
   public MatchController(
       MatchService matchService,
+      MatchArtworkRegenerationService artworkRegenerationService,
       EventsModeller eventsAssembler,
       MatchResourceAssembler matchAssembler,
-      ArtworkModeller artworkModeller) {
+      ArtworkModeller artworkModeller,
+      RevisionService revisionService) {
     this.matchService = matchService;
+    this.artworkRegenerationService = artworkRegenerationService;
     this.eventsAssembler = eventsAssembler;
     this.matchAssembler = matchAssembler;
     this.artworkModeller = artworkModeller;
+    this.revisionService = revisionService;
   }
 
   private static void addArtworkLinks(@NotNull ArtworkResource model, UUID matchId) {
@@ -101,6 +116,9 @@ public class MatchController {
   public ResponseEntity<EventsResource> fetchAllMatches(
       @RequestParam(name = "page", defaultValue = "0") int page,
       @RequestParam(name = "size", defaultValue = "16") int size) {
+    if (ConditionalRequests.isNotModified(revisionService.fetchMatchesRevision(page, size))) {
+      return ConditionalRequests.notModified();
+    }
     final Page<Match> matchPage = matchService.fetchAllPaged(page, size);
     final EventsResource resource = eventsAssembler.toModel(matchPage.getContent());
     if (matchPage.hasNext()) {
@@ -111,6 +129,28 @@ public class MatchController {
     return ResponseEntity.ok(resource);
   }
 
+  /**
+   * Scroll through all Matches, newest first, using the cursor from the previous response.
+   *
+   * @param cursor The cursor from a previous response, or none for the newest Matches
+   * @param size The maximum number of Matches to return
+   * @return A slice of Matches, with a link to the next slice
+   */
+  @RequestMapping(value = "/scroll", method = RequestMethod.GET)
+  @ResponseBody
+  public ResponseEntity<EventsResource> scrollMatches(
+      @RequestParam(name = "cursor", required = false) String cursor,
+      @RequestParam(name = "size", defaultValue = "16") int size) {
+    final Slice<Match> matches = matchService.fetchSlice(EventCursor.decode(cursor), size);
+    final EventsResource resource = eventsAssembler.toModel(matches.getContent());
+    if (matches.hasNext()) {
+      final String next = EventCursor.after(matches.getContent()).encode();
+      resource.add(
+          linkTo(methodOn(MatchController.class).scrollMatches(next, size)).withRel(NEXT_LINK));
+    }
+    return ResponseEntity.ok(resource);
+  }
+
   /**
    * Fetch a specific Match from the local DB, specified by the Match ID
    *
@@ -120,6 +160,10 @@ public class MatchController {
   @RequestMapping(value = "/match/{matchId}", method = RequestMethod.GET)
   @ResponseBody
   public ResponseEntity<MatchResource> fetchMatchById(@PathVariable UUID matchId) {
+    final Optional<Revision> revision = revisionService.fetchMatchRevision(matchId);
+    if (revision.isPresent() && ConditionalRequests.isNotModified(revision.get())) {
+      return ConditionalRequests.notModified();
+    }
     return matchService
         .fetchById(matchId)
         .map(matchAssembler::toModel)
@@ -161,12 +205,22 @@ public class MatchController {
       value = "/match/{matchId}/artwork",
       method = RequestMethod.GET,
       produces = {MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_JPEG_VALUE, IMAGE_SVG_VALUE})
-  public ResponseEntity<byte[]> fetchMatchArtworkImage(
+  public ResponseEntity<Resource> fetchMatchArtworkImage(
       @PathVariable UUID matchId, @RequestParam(name = "v", defaultValue = "0") long version)
       throws IOException {
     logger.info("Fetching Artwork for Match: {}, v: {}", matchId, version);
-    final Image artwork = matchService.fetchMatchArtwork(matchId);
-    return ResponseEntity.ok().contentType(artwork.contentType()).body(artwork.data());
+    final ImageResource artwork = matchService.fetchMatchArtwork(matchId);
+    return ImageResponses.revalidated(artwork);
+  }
+
+  @RequestMapping(
+      value = "/match/{matchId}/artwork/resized/{size}",
+      method = RequestMethod.GET,
+      produces = {MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_JPEG_VALUE, IMAGE_SVG_VALUE})
+  public ResponseEntity<Resource> fetchResizedMatchArtworkImage(
+      @PathVariable UUID matchId, @PathVariable int size) throws IOException {
+    final ImageResource artwork = matchService.fetchMatchArtwork(matchId, size);
+    return ImageResponses.revalidated(artwork);
   }
 
   @RequestMapping(
@@ -192,6 +246,48 @@ public class MatchController {
     return ResponseEntity.ok().body(model);
   }
 
+  /**
+   * Regenerate artwork for all Matches of a Team, all Matches of a Competition, or, if neither is
+   * given, all Matches. Returns immediately; the job can be polled for progress.
+   */
+  @RequestMapping(
+      value = "/artwork/regenerate",
+      method = RequestMethod.POST,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<ArtworkRegenerationJob> regenerateMatchArtwork(
+      @RequestParam(name = "teamId", required = false) UUID teamId,
+      @RequestParam(name = "competitionId", required = false) UUID competitionId) {
+    final ArtworkRegenerationJob job;
+    if (teamId != null) {
+      job = artworkRegenerationService.regenerateForTeam(teamId);
+    } else if (competitionId != null) {
+      job = artworkRegenerationService.regenerateForCompetition(competitionId);
+    } else {
+      job = artworkRegenerationService.regenerateAll();
+    }
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+  }
+
+  @RequestMapping(
+      value = "/artwork/regenerate/jobs",
+      method = RequestMethod.GET,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<List<ArtworkRegenerationJob>> fetchArtworkRegenerationJobs() {
+    return ResponseEntity.ok(artworkRegenerationService.fetchAllJobs());
+  }
+
+  @RequestMapping(
+      value = "/artwork/regenerate/jobs/{jobId}",
+      method = RequestMethod.GET,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<ArtworkRegenerationJob> fetchArtworkRegenerationJob(
+      @PathVariable UUID jobId) {
+    return artworkRegenerationService
+        .fetchJob(jobId)
+        .map(ResponseEntity::ok)
+        .orElse(ResponseEntity.notFound().build());
+  }
+
   @ExceptionHandler(InvalidEventException.class)
   @ResponseStatus(HttpStatus.BAD_REQUEST)
   @ResponseBody
@@ -27,6 +27,7 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.Optional;
 import java.util.UUID;
 import net.tomasbot.matchday.api.resource.*;
 import net.tomasbot.matchday.api.resource.ArtworkCollectionResource.ArtworkCollectionModeller;
@@ -35,15 +36,21 @@ import net.tomasbot.matchday.api.resource.CompetitionResource.CompetitionModelle
 import net.tomasbot.matchday.api.resource.TeamResource.TeamModeller;
 import net.tomasbot.matchday.api.service.CompetitionService;
 import net.tomasbot.matchday.api.service.MatchService;
+import net.tomasbot.matchday.api.service.RevisionService;
 import net.tomasbot.matchday.api.service.TeamService;
 import net.tomasbot.matchday.model.Artwork;
 import net.tomasbot.matchday.model.ArtworkCollection;
 import net.tomasbot.matchday.model.ArtworkRole;
+import net.tomasbot.matchday.model.EventCursor;
 import net.tomasbot.matchday.model.Image;
+import net.tomasbot.matchday.model.ImageResource;
 import net.tomasbot.matchday.model.Match;
+import net.tomasbot.matchday.model.Revision;
 import net.tomasbot.matchday.model.Team;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -67,6 +74,7 @@ public class TeamController {
   private final EventsModeller eventsModeller;
   private final ArtworkModeller artworkModeller;
   private final ArtworkCollectionModeller collectionModeller;
+  private final RevisionService revisionService;
 
   public TeamController(
       TeamService teamService,
@@ -76,7 +84,8 @@ public class TeamController {
       CompetitionModeller competitionModeller,
       EventsModeller eventsModeller,
       ArtworkModeller artworkModeller,
-      ArtworkCollectionModeller collectionModeller) {
+      ArtworkCollectionModeller collectionModeller,
+      RevisionService revisionService) {
     this.teamService = teamService;
     this.teamModeller = teamModeller;
     this.competitionService = competitionService;
@@ -85,6 +94,7 @@ public class TeamController {
     this.eventsModeller = eventsModeller;
     this.artworkModeller = artworkModeller;
     this.collectionModeller = collectionModeller;
+    this.revisionService = revisionService;
   }
 
   private static void addArtworkLinks(
@@ -114,6 +124,9 @@ public class TeamController {
   public ResponseEntity<CollectionModel<TeamResource>> fetchAllTeams(
       @RequestParam(name = "page", defaultValue = "0") int page,
       @RequestParam(name = "size", defaultValue = "20") int size) {
+    if (ConditionalRequests.isNotModified(revisionService.fetchTeamsRevision(page, size))) {
+      return ConditionalRequests.notModified();
+    }
     final Page<Team> teamPage = teamService.fetchAllPaged(page, size);
     final CollectionModel<TeamResource> model =
         teamModeller.toCollectionModel(teamPage.getContent());
@@ -136,6 +149,10 @@ public class TeamController {
       method = RequestMethod.GET,
       produces = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<TeamResource> fetchTeamByName(@PathVariable final UUID teamId) {
+    final Optional<Revision> revision = revisionService.fetchTeamRevision(teamId);
+    if (revision.isPresent() && ConditionalRequests.isNotModified(revision.get())) {
+      return ConditionalRequests.notModified();
+    }
     return teamService
         .fetchById(teamId)
         .map(teamModeller::toModel)
@@ -173,6 +190,37 @@ public class TeamController {
     return ResponseEntity.ok(eventResources);
   }
 
+  /**
+   * Scroll through the Matches of a Team, newest first, using the cursor from the previous
+   * response.
+   *
+   * @param teamId The ID of the Team.
+   * @param cursor The cursor from a previous response, or none for the newest Matches
+   * @param size The maximum number of Matches to return
+   * @return A slice of Matches, with a link to the next slice
+   */
+  @RequestMapping(
+      value = "/team/{teamId}/matches/scroll",
+      method = RequestMethod.GET,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<EventsResource> scrollEventsForTeam(
+      @PathVariable final UUID teamId,
+      @RequestParam(name = "cursor", required = false) String cursor,
+      @RequestParam(name = "size", defaultValue = "16") int size) {
+    Slice<Match> events =
+        matchService.fetchMatchesForTeam(teamId, EventCursor.decode(cursor), size);
+
+    EventsResource eventResources = eventsModeller.toModel(events.getContent());
+    if (events.hasNext()) {
+      String next = EventCursor.after(events.getContent()).encode();
+      eventResources.add(
+          linkTo(methodOn(TeamController.class).scrollEventsForTeam(teamId, next, size))
+              .withRel(LinkRelations.NEXT_LINK));
+    }
+
+    return ResponseEntity.ok(eventResources);
+  }
+
   @RequestMapping(
       value = "/team/{teamId}/competitions",
       method = RequestMethod.GET,
@@ -235,12 +283,21 @@ public class TeamController {
       value = "/team/{teamId}/{role}/selected",
       method = RequestMethod.GET,
       produces = {MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_JPEG_VALUE, IMAGE_SVG_VALUE})
-  public ResponseEntity<byte[]> fetchSelectedArtwork(
+  public ResponseEntity<Resource> fetchSelectedArtwork(
       @PathVariable UUID teamId, @PathVariable ArtworkRole role) throws IOException {
-    final Image image = teamService.fetchSelectedArtwork(teamId, role);
-    return image != null
-        ? ResponseEntity.ok().contentType(image.contentType()).body(image.data())
-        : ResponseEntity.notFound().build();
+    final ImageResource image = teamService.fetchSelectedArtwork(teamId, role);
+    return ImageResponses.revalidated(image);
+  }
+
+  @RequestMapping(
+      value = "/team/{teamId}/{role}/selected/resized/{size}",
+      method = RequestMethod.GET,
+      produces = {MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_JPEG_VALUE, IMAGE_SVG_VALUE})
+  public ResponseEntity<Resource> fetchResizedSelectedArtwork(
+      @PathVariable UUID teamId, @PathVariable ArtworkRole role, @PathVariable int size)
+      throws IOException {
+    final ImageResource image = teamService.fetchSelectedArtwork(teamId, role, size);
+    return ImageResponses.revalidated(image);
   }
 
   @RequestMapping(
@@ -264,13 +321,25 @@ public class TeamController {
       value = "/team/{teamId}/{role}/{artworkId}",
       method = RequestMethod.GET,
       produces = {MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_JPEG_VALUE, IMAGE_SVG_VALUE})
-  public ResponseEntity<byte[]> fetchTeamArtworkImageData(
+  public ResponseEntity<Resource> fetchTeamArtworkImageData(
       @PathVariable UUID teamId, @PathVariable ArtworkRole role, @PathVariable Long artworkId)
       throws IOException {
-    final Image image = teamService.fetchArtworkImageData(teamId, role, artworkId);
-    return image != null
-        ? ResponseEntity.ok().contentType(image.contentType()).body(image.data())
-        : ResponseEntity.notFound().build();
+    final ImageResource image = teamService.fetchArtworkImageData(teamId, role, artworkId);
+    return ImageResponses.immutable(image);
+  }
+
+  @RequestMapping(
+      value = "/team/{teamId}/{role}/{artworkId}/resized/{size}",
+      method = RequestMethod.GET,
+      produces = {MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_JPEG_VALUE, IMAGE_SVG_VALUE})
+  public ResponseEntity<Resource> fetchResizedTeamArtworkImageData(
+      @PathVariable UUID teamId,
+      @PathVariable ArtworkRole role,
+      @PathVariable Long artworkId,
+      @PathVariable int size)
+      throws IOException {
+    final ImageResource image = teamService.fetchArtworkImageData(teamId, role, artworkId, size);
+    return ImageResponses.immutable(image);
   }
 
   @RequestMapping(
@@ -24,14 +24,12 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 import com.fasterxml.jackson.annotation.JsonRootName;
-import java.io.IOException;
-import java.io.UncheckedIOException;
+import java.util.Map;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
-import lombok.SneakyThrows;
 import net.tomasbot.matchday.api.controller.CompetitionController;
 import net.tomasbot.matchday.api.controller.RootController;
 import net.tomasbot.matchday.api.resource.ArtworkCollectionResource.ArtworkCollectionModeller;
@@ -60,7 +58,42 @@ public class CompetitionResource extends RepresentationModel<CompetitionResource
 
   @Component
   public static class CompetitionModeller extends EntityModeller<Competition, CompetitionResource> {
-    
+
+    private static final LinkTemplate SELF_LINK =
+        LinkTemplate.forEntity(
+            id -> methodOn(CompetitionController.class).fetchCompetitionById(id));
+    private static final LinkTemplate EVENTS_LINK =
+        LinkTemplate.forEntity(
+            id ->
+                methodOn(CompetitionController.class)
+                    .fetchCompetitionEvents(
+                        id, RootController.DEFAULT_PAGE, RootController.DEFAULT_PAGE_SIZE));
+    private static final LinkTemplate TEAMS_LINK =
+        LinkTemplate.forEntity(
+            id -> methodOn(CompetitionController.class).fetchCompetitionTeams(id));
+    private static final Map<ArtworkRole, LinkTemplate> SELECTED_ARTWORK_LINKS =
+        LinkTemplate.forEach(
+            ArtworkRole.class,
+            role ->
+                LinkTemplate.forEntity(
+                    id -> methodOn(CompetitionController.class).fetchSelectedArtwork(id, role)));
+    private static final Map<ArtworkRole, LinkTemplate> ARTWORK_METADATA_LINKS =
+        LinkTemplate.forEach(
+            ArtworkRole.class,
+            role ->
+                LinkTemplate.forArtwork(
+                    (id, artworkId) ->
+                        methodOn(CompetitionController.class)
+                            .fetchArtworkMetadata(id, role, artworkId)));
+    private static final Map<ArtworkRole, LinkTemplate> ARTWORK_IMAGE_LINKS =
+        LinkTemplate.forEach(
+            ArtworkRole.class,
+            role ->
+                LinkTemplate.forArtwork(
+                    (id, artworkId) ->
+                        methodOn(CompetitionController.class)
+                            .fetchArtworkImageData(id, role, artworkId)));
+
     private final ArtworkCollectionModeller artworkModeller;
 
     public CompetitionModeller(ArtworkCollectionModeller artworkModeller) {
@@ -72,24 +105,15 @@ public class CompetitionResource extends RepresentationModel<CompetitionResource
         @NotNull UUID competitionId,
         @NotNull ArtworkRole role,
         @NotNull ArtworkResource artworkResource) {
-      try {
-        final Long artworkId = artworkResource.getId();
-        artworkResource.add(
-            linkTo(
-                    methodOn(CompetitionController.class)
-                        .fetchArtworkMetadata(competitionId, role, artworkId))
-                .withRel(LinkRelations.METADATA_REL));
-        artworkResource.add(
-            linkTo(
-                    methodOn(CompetitionController.class)
-                        .fetchArtworkImageData(competitionId, role, artworkId))
-                .withRel(LinkRelations.IMAGE_REL));
-      } catch (IOException e) {
-        throw new UncheckedIOException(e);
-      }
+      final Long artworkId = artworkResource.getId();
+      artworkResource.add(
+          ARTWORK_METADATA_LINKS
+              .get(role)
+              .withRel(LinkRelations.METADATA_REL, competitionId, artworkId));
+      artworkResource.add(
+          ARTWORK_IMAGE_LINKS.get(role).withRel(LinkRelations.IMAGE_REL, competitionId, artworkId));
     }
 
-    @SneakyThrows
     @NotNull
     @Override
     @Transactional
@@ -114,31 +138,18 @@ public class CompetitionResource extends RepresentationModel<CompetitionResource
           .forEach(artwork -> addArtworkLinks(competitionId, ArtworkRole.EMBLEM, artwork));
 
       // links
-      competitionResource.add(
-          linkTo(methodOn(CompetitionController.class).fetchCompetitionById(competitionId))
-              .withSelfRel());
-      competitionResource.add(
-          linkTo(
-                  methodOn(CompetitionController.class)
-                      .fetchCompetitionEvents(
-                          competitionId,
-                          RootController.DEFAULT_PAGE,
-                          RootController.DEFAULT_PAGE_SIZE))
-              .withRel(LinkRelations.EVENTS_REL));
-      competitionResource.add(
-          linkTo(methodOn(CompetitionController.class).fetchCompetitionTeams(competitionId))
-              .withRel(LinkRelations.TEAMS_REL));
+      competitionResource.add(SELF_LINK.withSelfRel(competitionId));
+      competitionResource.add(EVENTS_LINK.withRel(LinkRelations.EVENTS_REL, competitionId));
+      competitionResource.add(TEAMS_LINK.withRel(LinkRelations.TEAMS_REL, competitionId));
       // artwork collection links
       competitionResource.add(
-          linkTo(
-                  methodOn(CompetitionController.class)
-                      .fetchSelectedArtwork(competitionId, ArtworkRole.EMBLEM))
-              .withRel(LinkRelations.EMBLEM_REL));
+          SELECTED_ARTWORK_LINKS
+              .get(ArtworkRole.EMBLEM)
+              .withRel(LinkRelations.EMBLEM_REL, competitionId));
       competitionResource.add(
-          linkTo(
-                  methodOn(CompetitionController.class)
-                      .fetchSelectedArtwork(competitionId, ArtworkRole.FANART))
-              .withRel(LinkRelations.FANART_REL));
+          SELECTED_ARTWORK_LINKS
+              .get(ArtworkRole.FANART)
+              .withRel(LinkRelations.FANART_REL, competitionId));
       return competitionResource;
     }
 
@@ -20,7 +20,6 @@
 package net.tomasbot.matchday.api.resource;
 
 import static net.tomasbot.matchday.util.Constants.LinkRelations.VIDEO_LINK_REL;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -64,6 +63,11 @@ public class HighlightResource extends RepresentationModel<HighlightResource> {
   public static class HighlightResourceAssembler
       extends EntityModeller<Highlight, HighlightResource> {
 
+    private static final LinkTemplate SELF_LINK =
+        LinkTemplate.forEntity(id -> methodOn(HighlightController.class).fetchHighlightById(id));
+    private static final LinkTemplate VIDEO_LINK =
+        LinkTemplate.forEntity(id -> methodOn(EventController.class).getVideoResources(id));
+
     private final CompetitionModeller competitionModeller;
 
     public HighlightResourceAssembler(CompetitionModeller competitionModeller) {
@@ -85,11 +89,8 @@ public class HighlightResource extends RepresentationModel<HighlightResource> {
       resource.setSeason(entity.getSeason());
       resource.setFixture(entity.getFixture());
       resource.setDate(entity.getDate());
-      resource.add(
-          linkTo(methodOn(EventController.class).getVideoResources(eventId))
-              .withRel(VIDEO_LINK_REL));
-      resource.add(
-          linkTo(methodOn(HighlightController.class).fetchHighlightById(eventId)).withSelfRel());
+      resource.add(VIDEO_LINK.withRel(VIDEO_LINK_REL, eventId));
+      resource.add(SELF_LINK.withSelfRel(eventId));
       return resource;
     }
 
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.tomasbot.matchday.api.resource;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * A link to a controller method, resolved once and then expanded by string substitution.
+ *
+ * <p>The first time a link is needed, the controller method is invoked through {@code
+ * linkTo(methodOn(...))} with placeholder IDs, and the resulting href is split around them. Later
+ * links append the real IDs to the literal parts, after the base URI of the current request. The
+ * output is identical to {@code linkTo(methodOn(...))}; if a link cannot be split (e.g., there is
+ * no current request), it falls back to building the link in full.
+ */
+public final class LinkTemplate {
+
+  private static final String BASE_URI_ATTRIBUTE = LinkTemplate.class.getName() + ".BASE_URI";
+  // values which cannot otherwise appear in a link
+  private static final UUID ID_PLACEHOLDER = UUID.randomUUID();
+  private static final Long ARTWORK_ID_PLACEHOLDER = -7_357_735_773_577_357L;
+
+  private final ControllerInvocation invocation;
+  private final Object[] placeholders;
+  private volatile Compiled compiled;
+
+  private LinkTemplate(@NotNull ControllerInvocation invocation, Object @NotNull ... placeholders) {
+    this.invocation = invocation;
+    this.placeholders = placeholders;
+  }
+
+  /**
+   * A link to a controller method which takes one entity ID.
+   *
+   * @param invocation e.g., {@code id -> methodOn(MatchController.class).fetchMatchById(id)}
+   * @return The link template
+   */
+  public static @NotNull LinkTemplate forEntity(@NotNull EntityInvocation invocation) {
+    return new LinkTemplate(args -> invocation.invoke((UUID) args[0]), ID_PLACEHOLDER);
+  }
+
+  /**
+   * A link to a controller method which takes the ID of an entity and of one of its Artwork.
+   *
+   * @param invocation e.g., {@code (id, artworkId) -> methodOn(...).fetchArtwork(id, artworkId)}
+   * @return The link template
+   */
+  public static @NotNull LinkTemplate forArtwork(@NotNull ArtworkInvocation invocation) {
+    return new LinkTemplate(
+        args -> invocation.invoke((UUID) args[0], (Long) args[1]),
+        ID_PLACEHOLDER,
+        ARTWORK_ID_PLACEHOLDER);
+  }
+
+  /**
+   * Create a template for each constant of an enum, e.g., each ArtworkRole.
+   *
+   * @param type The enum type
+   * @param factory Creates the template for a constant
+   * @return Templates by constant
+   */
+  public static <E extends Enum<E>> @NotNull Map<E, LinkTemplate> forEach(
+      @NotNull Class<E> type, @NotNull Function<E, LinkTemplate> factory) {
+    final Map<E, LinkTemplate> templates = new EnumMap<>(type);
+    for (E constant : type.getEnumConstants()) {
+      templates.put(constant, factory.apply(constant));
+    }
+    return templates;
+  }
+
+  private static @Nullable String getBaseUri() {
+    final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes == null) {
+      return null;
+    }
+    final Object cached =
+        attributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    if (cached instanceof String baseUri) {
+      return baseUri;
+    }
+    final String baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString();
+    attributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+    return baseUri;
+  }
+
+  public @NotNull Link withSelfRel(Object @NotNull ... args) {
+    return withRel(IanaLinkRelations.SELF, args);
+  }
+
+  public @NotNull Link withRel(@NotNull LinkRelation rel, Object @NotNull ... args) {
+    final String baseUri = getBaseUri();
+    final Compiled template = baseUri != null ? getCompiled(baseUri) : null;
+    if (template == null) {
+      return linkTo(invoke(args)).withRel(rel);
+    }
+    return Link.of(template.expand(baseUri, args), rel);
+  }
+
+  private @Nullable Compiled getCompiled(@NotNull String baseUri) {
+    Compiled template = this.compiled;
+    if (template == null) {
+      synchronized (this) {
+        template = this.compiled;
+        if (template == null) {
+          final String href = linkTo(invoke(placeholders)).withSelfRel().getHref();
+          template = Compiled.split(href, baseUri, placeholders);
+          this.compiled = template;
+        }
+      }
+    }
+    return template.isUsable() ? template : null;
+  }
+
+  private Object invoke(Object[] args) {
+    try {
+      return invocation.invoke(args);
+    } catch (Exception e) {
+      // controller proxies record the invocation; they do not execute the method
+      throw new IllegalStateException("Could not create link", e);
+    }
+  }
+
+  @FunctionalInterface
+  public interface EntityInvocation {
+    Object invoke(UUID id) throws Exception;
+  }
+
+  @FunctionalInterface
+  public interface ArtworkInvocation {
+    Object invoke(UUID id, Long artworkId) throws Exception;
+  }
+
+  @FunctionalInterface
+  private interface ControllerInvocation {
+    Object invoke(Object[] args) throws Exception;
+  }
+
+  /**
+   * The literal parts of a link path, between which arguments are substituted.
+   *
+   * @param literals One more literal than there are arguments
+   * @param arguments The index of the argument which follows each literal
+   */
+  private record Compiled(String @Nullable [] literals, int[] arguments) {
+
+    private static final Compiled UNUSABLE = new Compiled(null, new int[0]);
+
+    static @NotNull Compiled split(
+        @NotNull String href, @NotNull String baseUri, Object @NotNull [] placeholders) {
+      if (!href.startsWith(baseUri)) {
+        return UNUSABLE;
+      }
+      final String path = href.substring(baseUri.length());
+      final String[] values = new String[placeholders.length];
+      for (int i = 0; i < placeholders.length; i++) {
+        values[i] = placeholders[i].toString();
+        // each placeholder must appear exactly once
+        final int first = path.indexOf(values[i]);
+        if (first < 0 || path.indexOf(values[i], first + 1) >= 0) {
+          return UNUSABLE;
+        }
+      }
+      final List<String> literals = new ArrayList<>();
+      final List<Integer> arguments = new ArrayList<>();
+      int position = 0;
+      while (arguments.size() < values.length) {
+        int next = -1;
+        int argument = -1;
+        for (int i = 0; i < values.length; i++) {
+          final int index = path.indexOf(values[i], position);
+          if (index >= 0 && (next < 0 || index < next)) {
+            next = index;
+            argument = i;
+          }
+        }
+        literals.add(path.substring(position, next));
+        arguments.add(argument);
+        position = next + values[argument].length();
+      }
+      literals.add(path.substring(position));
+      return new Compiled(
+          literals.toArray(String[]::new), arguments.stream().mapToInt(i -> i).toArray());
+    }
+
+    boolean isUsable() {
+      return literals != null;
+    }
+
+    @NotNull
+    String expand(@NotNull String baseUri, Object @NotNull [] args) {
+      assert literals != null;
+      final StringBuilder href = new StringBuilder(baseUri).append(literals[0]);
+      for (int i = 0; i < arguments.length; i++) {
+        href.append(args[arguments[i]]).append(literals[i + 1]);
+      }
+      return href.toString();
+    }
+  }
+}
@@ -21,13 +21,10 @@ package net.tomasbot.matchday.api.resource;
 
 import static net.tomasbot.matchday.util.Constants.LinkRelations.ARTWORK_REL;
 import static net.tomasbot.matchday.util.Constants.LinkRelations.VIDEO_LINK_REL;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonRootName;
-import java.io.IOException;
-import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
@@ -66,6 +63,15 @@ public class MatchResource extends RepresentationModel<MatchResource> {
   @Component
   public static class MatchResourceAssembler extends EntityModeller<Match, MatchResource> {
 
+    private static final LinkTemplate SELF_LINK =
+        LinkTemplate.forEntity(id -> methodOn(MatchController.class).fetchMatchById(id));
+    private static final LinkTemplate ARTWORK_LINK =
+        LinkTemplate.forArtwork(
+            (id, artworkId) ->
+                methodOn(MatchController.class).fetchMatchArtworkImage(id, artworkId));
+    private static final LinkTemplate VIDEO_LINK =
+        LinkTemplate.forEntity(id -> methodOn(EventController.class).getVideoResources(id));
+
     private final CompetitionModeller competitionAssembler;
     private final TeamModeller teamAssembler;
 
@@ -78,40 +84,30 @@ public class MatchResource extends RepresentationModel<MatchResource> {
 
     @Override
     public @NotNull MatchResource toModel(@NotNull Match entity) {
-      try {
-        final MatchResource resource = instantiateModel(entity);
-        final CompetitionResource competition =
-            competitionAssembler.toModel(entity.getCompetition());
-        final TeamResource homeTeam = teamAssembler.toModel(entity.getHomeTeam());
-        final TeamResource awayTeam = teamAssembler.toModel(entity.getAwayTeam());
+      final MatchResource resource = instantiateModel(entity);
+      final CompetitionResource competition =
+          competitionAssembler.toModel(entity.getCompetition());
+      final TeamResource homeTeam = teamAssembler.toModel(entity.getHomeTeam());
+      final TeamResource awayTeam = teamAssembler.toModel(entity.getAwayTeam());
 
-        final UUID eventId = entity.getEventId();
-        resource.setEventId(eventId);
-        resource.setTitle(entity.getTitle());
-        resource.setSeason(entity.getSeason());
-        resource.setFixture(entity.getFixture());
-        resource.setDate(entity.getDate());
-        resource.setCompetition(competition);
-        resource.setHomeTeam(homeTeam);
-        resource.setAwayTeam(awayTeam);
+      final UUID eventId = entity.getEventId();
+      resource.setEventId(eventId);
+      resource.setTitle(entity.getTitle());
+      resource.setSeason(entity.getSeason());
+      resource.setFixture(entity.getFixture());
+      resource.setDate(entity.getDate());
+      resource.setCompetition(competition);
+      resource.setHomeTeam(homeTeam);
+      resource.setAwayTeam(awayTeam);
 
-        resource.add(linkTo(methodOn(MatchController.class).fetchMatchById(eventId)).withSelfRel());
-        Artwork artwork = entity.getArtwork();
-        if (artwork != null)
-          resource.add(
-              linkTo(
-                      methodOn(MatchController.class)
-                          .fetchMatchArtworkImage(eventId, artwork.getId()))
-                  .withRel(ARTWORK_REL));
+      resource.add(SELF_LINK.withSelfRel(eventId));
+      Artwork artwork = entity.getArtwork();
+      if (artwork != null)
+        resource.add(ARTWORK_LINK.withRel(ARTWORK_REL, eventId, artwork.getId()));
 
-        resource.add(
-            linkTo(methodOn(EventController.class).getVideoResources(eventId))
-                .withRel(VIDEO_LINK_REL));
+      resource.add(VIDEO_LINK.withRel(VIDEO_LINK_REL, eventId));
 
-        return resource;
-      } catch (IOException e) {
-        throw new UncheckedIOException(e);
-      }
+      return resource;
     }
 
     @Override
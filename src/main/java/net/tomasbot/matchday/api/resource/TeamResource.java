@@ -20,18 +20,15 @@
 package net.tomasbot.matchday.api.resource;
 
 import static net.tomasbot.matchday.util.Constants.*;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 import com.fasterxml.jackson.annotation.JsonRootName;
-import java.io.IOException;
-import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
-import lombok.SneakyThrows;
 import net.tomasbot.matchday.api.controller.RootController;
 import net.tomasbot.matchday.api.controller.TeamController;
 import net.tomasbot.matchday.api.resource.ArtworkCollectionResource.ArtworkCollectionModeller;
@@ -59,6 +56,37 @@ public class TeamResource extends RepresentationModel<TeamResource> {
   @Component
   public static class TeamModeller extends EntityModeller<Team, TeamResource> {
 
+    private static final LinkTemplate SELF_LINK =
+        LinkTemplate.forEntity(id -> methodOn(TeamController.class).fetchTeamByName(id));
+    private static final LinkTemplate EVENTS_LINK =
+        LinkTemplate.forEntity(
+            id ->
+                methodOn(TeamController.class)
+                    .fetchEventsForTeam(
+                        id, RootController.DEFAULT_PAGE, RootController.DEFAULT_PAGE_SIZE));
+    private static final Map<ArtworkRole, LinkTemplate> SELECTED_ARTWORK_LINKS =
+        LinkTemplate.forEach(
+            ArtworkRole.class,
+            role ->
+                LinkTemplate.forEntity(
+                    id -> methodOn(TeamController.class).fetchSelectedArtwork(id, role)));
+    private static final Map<ArtworkRole, LinkTemplate> ARTWORK_METADATA_LINKS =
+        LinkTemplate.forEach(
+            ArtworkRole.class,
+            role ->
+                LinkTemplate.forArtwork(
+                    (id, artworkId) ->
+                        methodOn(TeamController.class)
+                            .fetchTeamArtworkMetadata(id, role, artworkId)));
+    private static final Map<ArtworkRole, LinkTemplate> ARTWORK_IMAGE_LINKS =
+        LinkTemplate.forEach(
+            ArtworkRole.class,
+            role ->
+                LinkTemplate.forArtwork(
+                    (id, artworkId) ->
+                        methodOn(TeamController.class)
+                            .fetchTeamArtworkImageData(id, role, artworkId)));
+
     private final ArtworkCollectionModeller artworkModeller;
     private final ColorResourceModeller colorModeller;
 
@@ -71,22 +99,13 @@ public class TeamResource extends RepresentationModel<TeamResource> {
 
     public static void addArtworkLinks(
         @NotNull UUID teamId, @NotNull ArtworkRole role, @NotNull ArtworkResource resource) {
-      try {
-        final Long artworkId = resource.getId();
-        resource.add(
-            linkTo(methodOn(TeamController.class).fetchTeamArtworkMetadata(teamId, role, artworkId))
-                .withRel(LinkRelations.METADATA_REL));
-        resource.add(
-            linkTo(
-                    methodOn(TeamController.class)
-                        .fetchTeamArtworkImageData(teamId, role, artworkId))
-                .withRel(LinkRelations.IMAGE_REL));
-      } catch (IOException e) {
-        throw new UncheckedIOException(e);
-      }
+      final Long artworkId = resource.getId();
+      resource.add(
+          ARTWORK_METADATA_LINKS.get(role).withRel(LinkRelations.METADATA_REL, teamId, artworkId));
+      resource.add(
+          ARTWORK_IMAGE_LINKS.get(role).withRel(LinkRelations.IMAGE_REL, teamId, artworkId));
     }
 
-    @SneakyThrows
     @NotNull
     @Override
     public TeamResource toModel(@NotNull Team team) {
@@ -112,22 +131,14 @@ public class TeamResource extends RepresentationModel<TeamResource> {
           .forEach(artwork -> addArtworkLinks(teamId, ArtworkRole.FANART, artwork));
 
       // attach links
-      teamResource.add(
-          linkTo(methodOn(TeamController.class).fetchTeamByName(teamId)).withSelfRel());
+      teamResource.add(SELF_LINK.withSelfRel(teamId));
       // artwork
       teamResource.add(
-          linkTo(methodOn(TeamController.class).fetchSelectedArtwork(teamId, ArtworkRole.EMBLEM))
-              .withRel(LinkRelations.EMBLEM_REL));
+          SELECTED_ARTWORK_LINKS.get(ArtworkRole.EMBLEM).withRel(LinkRelations.EMBLEM_REL, teamId));
       teamResource.add(
-          linkTo(methodOn(TeamController.class).fetchSelectedArtwork(teamId, ArtworkRole.FANART))
-              .withRel(LinkRelations.FANART_REL));
+          SELECTED_ARTWORK_LINKS.get(ArtworkRole.FANART).withRel(LinkRelations.FANART_REL, teamId));
       // events
-      teamResource.add(
-          linkTo(
-                  methodOn(TeamController.class)
-                      .fetchEventsForTeam(
-                          teamId, RootController.DEFAULT_PAGE, RootController.DEFAULT_PAGE_SIZE))
-              .withRel(LinkRelations.EVENTS_REL));
+      teamResource.add(EVENTS_LINK.withRel(LinkRelations.EVENTS_REL, teamId));
 
       return teamResource;
     }
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.tomasbot.matchday.api.service;
+
+import static net.tomasbot.matchday.config.settings.ArtworkStorageLocation.ARTWORK_LOCATION;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.imageio.ImageIO;
+import net.tomasbot.matchday.model.Artwork;
+import net.tomasbot.matchday.model.ImageResource;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+/**
+ * Resized copies of Artwork, for views which display artwork smaller than its original size. Each
+ * copy is created on first request and kept on disk, beside (not inside) the Artwork storage
+ * location. The least-recently served copies are removed when the cache exceeds its size limit.
+ */
+@Service
+@PropertySource("classpath:artwork.properties")
+public class ArtworkDerivativeCache {
+
+  private static final Logger logger = LogManager.getLogger(ArtworkDerivativeCache.class);
+  private static final String DERIVATIVE_DIR_SUFFIX = "-derivatives";
+
+  private final SettingsService settingsService;
+  private final Set<Integer> sizes;
+  private final long maxCacheSize;
+  // derivative files & their sizes, least-recently served first
+  private final Map<Path, Long> index = new LinkedHashMap<>(16, 0.75f, true);
+  private Path indexedDirectory;
+  private long cachedBytes;
+
+  public ArtworkDerivativeCache(
+      SettingsService settingsService,
+      @Value("${artwork.derivative.sizes}") int[] sizes,
+      @Value("${artwork.derivative.max-cache-size}") long maxCacheSize) {
+    this.settingsService = settingsService;
+    this.sizes = Arrays.stream(sizes).boxed().collect(Collectors.toUnmodifiableSet());
+    this.maxCacheSize = maxCacheSize;
+  }
+
+  private static @NotNull BufferedImage scale(@NotNull BufferedImage image, int width, int height) {
+    final int type =
+        image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+    BufferedImage scaled = image;
+    int w = image.getWidth();
+    int h = image.getHeight();
+    // halve repeatedly, so bilinear sampling never skips source pixels
+    do {
+      w = Math.max(width, w / 2);
+      h = Math.max(height, h / 2);
+      final BufferedImage step = new BufferedImage(w, h, type);
+      final Graphics2D graphics = step.createGraphics();
+      try {
+        graphics.setRenderingHint(
+            RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.setRenderingHint(
+            RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        graphics.drawImage(scaled, 0, 0, w, h, null);
+      } finally {
+        graphics.dispose();
+      }
+      scaled = step;
+    } while (w != width || h != height);
+    return scaled;
+  }
+
+  public boolean isSupportedSize(int size) {
+    return sizes.contains(size);
+  }
+
+  public List<Integer> getSizes() {
+    return sizes.stream().sorted().toList();
+  }
+
+  /**
+   * Get a copy of Artwork which fits within a square of the given size, creating it if necessary.
+   *
+   * @param artwork The original Artwork
+   * @param size The maximum width & height; must be one of the supported sizes
+   * @return The resized Artwork, or null if the original already fits or cannot be resized
+   * @throws IOException If the resized Artwork could not be read or written
+   * @throws IllegalArgumentException If the size is not supported
+   */
+  public @Nullable ImageResource getResized(@NotNull Artwork artwork, int size)
+      throws IOException {
+    if (!isSupportedSize(size)) {
+      throw new IllegalArgumentException(
+          String.format("Unsupported artwork size: %d; supported sizes: %s", size, getSizes()));
+    }
+    if (artwork.getWidth() <= size && artwork.getHeight() <= size) {
+      return null;
+    }
+    final MediaType type = getDerivativeType(artwork);
+    final Path derivative = getDerivativeDirectory().resolve(getDerivativeName(artwork, size));
+    if (!isCached(derivative) && !createDerivative(artwork, size, type, derivative)) {
+      return null;
+    }
+    final String etag =
+        String.format("\"artwork-%d-%d-%d\"", artwork.getId(), artwork.getFileSize(), size);
+    return new ImageResource(
+        new FileSystemResource(derivative), type, Files.size(derivative), etag);
+  }
+
+  /**
+   * Remove all resized copies of Artwork, e.g., because it has been deleted.
+   *
+   * @param artwork The original Artwork
+   */
+  public void invalidate(@NotNull Artwork artwork) {
+    final Path directory = getDerivativeDirectory();
+    if (!Files.isDirectory(directory)) {
+      return;
+    }
+    final List<Path> removed = new ArrayList<>();
+    try (final DirectoryStream<Path> derivatives =
+        Files.newDirectoryStream(directory, artwork.getId() + "-*")) {
+      for (Path derivative : derivatives) {
+        Files.deleteIfExists(derivative);
+        removed.add(derivative);
+      }
+    } catch (IOException e) {
+      logger.error("Could not remove resized copies of Artwork: {}", artwork, e);
+    }
+    synchronized (this) {
+      removed.forEach(path -> cachedBytes -= index.getOrDefault(path, 0L));
+      removed.forEach(index::remove);
+    }
+  }
+
+  /** Remove all resized Artwork, e.g., after Artwork IDs have been reassigned by a restore. */
+  public synchronized void clear() {
+    final Path directory = getDerivativeDirectory();
+    if (Files.isDirectory(directory)) {
+      try (final DirectoryStream<Path> derivatives = Files.newDirectoryStream(directory)) {
+        for (Path derivative : derivatives) {
+          Files.deleteIfExists(derivative);
+        }
+      } catch (IOException e) {
+        logger.error("Could not clear resized Artwork from: {}", directory, e);
+      }
+    }
+    index.clear();
+    cachedBytes = 0;
+  }
+
+  private @NotNull String getDerivativeName(@NotNull Artwork artwork, int size) {
+    final String extension = getDerivativeType(artwork).getSubtype();
+    return String.format("%d-%d.%s", artwork.getId(), size, extension);
+  }
+
+  private @NotNull MediaType getDerivativeType(@NotNull Artwork artwork) {
+    // keep photographs lossy; everything else may need transparency
+    return MediaType.IMAGE_JPEG_VALUE.equals(artwork.getMediaType())
+        ? MediaType.IMAGE_JPEG
+        : MediaType.IMAGE_PNG;
+  }
+
+  private @NotNull Path getDerivativeDirectory() {
+    final Path storage = settingsService.getSetting(ARTWORK_LOCATION, Path.class).toAbsolutePath();
+    return storage.resolveSibling(storage.getFileName() + DERIVATIVE_DIR_SUFFIX);
+  }
+
+  private synchronized boolean isCached(@NotNull Path derivative) throws IOException {
+    loadIndex(derivative.getParent());
+    if (index.get(derivative) != null) {
+      return Files.isRegularFile(derivative);
+    }
+    return false;
+  }
+
+  private boolean createDerivative(
+      @NotNull Artwork artwork, int size, @NotNull MediaType type, @NotNull Path derivative)
+      throws IOException {
+    final BufferedImage original = ImageIO.read(artwork.getFile().toFile());
+    if (original == null) {
+      logger.warn("Cannot resize Artwork which ImageIO cannot decode: {}", artwork);
+      return false;
+    }
+    final double scale =
+        Math.min((double) size / original.getWidth(), (double) size / original.getHeight());
+    final int width = Math.max(1, (int) Math.round(original.getWidth() * scale));
+    final int height = Math.max(1, (int) Math.round(original.getHeight() * scale));
+    final BufferedImage resized = scale(original, width, height);
+
+    // write beside the final location, then move, so a partial file is never served
+    final Path directory = Files.createDirectories(derivative.getParent());
+    final Path tmp = Files.createTempFile(directory, derivative.getFileName().toString(), ".tmp");
+    try {
+      if (!ImageIO.write(resized, type.getSubtype(), tmp.toFile())) {
+        throw new IOException("No image writer for: " + type);
+      }
+      Files.move(tmp, derivative, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+    record(derivative, Files.size(derivative));
+    return true;
+  }
+
+  private synchronized void record(@NotNull Path derivative, long size) {
+    final Long previous = index.put(derivative, size);
+    cachedBytes += size - (previous != null ? previous : 0);
+    evict();
+  }
+
+  private void evict() {
+    final Iterator<Map.Entry<Path, Long>> entries = index.entrySet().iterator();
+    while (cachedBytes > maxCacheSize && index.size() > 1 && entries.hasNext()) {
+      final Map.Entry<Path, Long> eldest = entries.next();
+      try {
+        Files.deleteIfExists(eldest.getKey());
+      } catch (IOException e) {
+        logger.error("Could not evict resized Artwork: {}", eldest.getKey(), e);
+        continue;
+      }
+      cachedBytes -= eldest.getValue();
+      entries.remove();
+    }
+  }
+
+  /** Index derivatives left on disk by a previous run, oldest first. */
+  private void loadIndex(@NotNull Path directory) throws IOException {
+    if (directory.equals(indexedDirectory)) {
+      return;
+    }
+    index.clear();
+    cachedBytes = 0;
+    indexedDirectory = directory;
+    if (!Files.isDirectory(directory)) {
+      return;
+    }
+    try (final Stream<Path> files = Files.list(directory)) {
+      final List<Path> derivatives =
+          files
+              .filter(Files::isRegularFile)
+              .filter(path -> !path.toString().endsWith(".tmp"))
+              .sorted(Comparator.comparing(path -> path.toFile().lastModified()))
+              .toList();
+      for (Path derivative : derivatives) {
+        final long size = Files.size(derivative);
+        index.put(derivative, size);
+        cachedBytes += size;
+      }
+    }
+    logger.info("Found {} resized Artwork files ({} bytes)", index.size(), cachedBytes);
+    evict();
+  }
+}
@@ -23,19 +23,31 @@ import static net.tomasbot.matchday.config.settings.ArtworkStorageLocation.ARTWO
 
 import java.awt.image.BufferedImage;
 import java.io.*;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 import net.tomasbot.matchday.db.ArtworkCollectionRepository;
 import net.tomasbot.matchday.db.ArtworkRepository;
 import net.tomasbot.matchday.model.*;
 import net.tomasbot.matchday.plugin.artwork.creator.ArtworkCreatorPlugin;
+import net.tomasbot.matchday.util.TransactionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -45,12 +57,22 @@ import org.springframework.transaction.annotation.Transactional;
 @PropertySource("classpath:artwork.properties")
 public class ArtworkService {
 
+  private static final Logger logger = LogManager.getLogger(ArtworkService.class);
   private static final String IMAGE_CONTENT_TYPE_PATTERN = "image/(\\w+)[+\\w]*";
+  private static final int FILE_LOCK_STRIPES = 64;
 
   private final ArtworkRepository artworkRepository;
   private final ArtworkCollectionRepository collectionRepository;
   private final ArtworkCreatorPlugin creatorPlugin;
   private final SettingsService settingsService;
+  private final ArtworkDerivativeCache derivativeCache;
+  private final Map<Long, byte[]> hotArtwork;
+  // files written by transactions which have not yet completed, so their rows are not yet visible
+  private final Map<Path, Integer> pendingFiles = new ConcurrentHashMap<>();
+  private final Object[] fileLocks = createFileLocks();
+
+  @Value("${artwork.cache.max-file-size}")
+  private long MAX_CACHED_FILE_SIZE;
 
   @Value("${artwork.min-image-dimension}")
   private int MIN_IMAGE_DIMENSION;
@@ -62,11 +84,106 @@ public class ArtworkService {
       ArtworkRepository artworkRepository,
       ArtworkCollectionRepository collectionRepository,
       ArtworkCreatorPlugin creatorPlugin,
-      SettingsService settingsService) {
+      SettingsService settingsService,
+      ArtworkDerivativeCache derivativeCache,
+      @Value("${artwork.cache.max-entries}") int maxCachedArtwork) {
     this.artworkRepository = artworkRepository;
     this.collectionRepository = collectionRepository;
     this.creatorPlugin = creatorPlugin;
     this.settingsService = settingsService;
+    this.derivativeCache = derivativeCache;
+    this.hotArtwork = createArtworkCache(maxCachedArtwork);
+  }
+
+  private static Object @NotNull [] createFileLocks() {
+    final Object[] locks = new Object[FILE_LOCK_STRIPES];
+    Arrays.setAll(locks, i -> new Object());
+    return locks;
+  }
+
+  /**
+   * Get a hex-encoded SHA-256 digest of image data, which is used to name its file on disk.
+   *
+   * @param data Image data, as it will be stored
+   * @return The content hash
+   */
+  public static @NotNull String getContentHash(byte @NotNull [] data) {
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(data));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  private static @NotNull Map<Long, byte[]> createArtworkCache(int maxEntries) {
+    // access-ordered, so the least-recently served artwork is evicted first
+    return Collections.synchronizedMap(
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Long, byte[]> eldest) {
+            return size() > maxEntries;
+          }
+        });
+  }
+
+  /**
+   * A strong entity tag for Artwork. Artwork files are never rewritten in place (changed artwork
+   * gets a new ID), so the ID and file size identify the data.
+   *
+   * @param artwork The Artwork
+   * @return A quoted ETag value
+   */
+  public static @NotNull String getETag(@NotNull Artwork artwork) {
+    return String.format("\"artwork-%d-%d\"", artwork.getId(), artwork.getFileSize());
+  }
+
+  /** Forget all cached image data, e.g., after the Artwork store has been replaced. */
+  public void clearCaches() {
+    hotArtwork.clear();
+    derivativeCache.clear();
+  }
+
+  /**
+   * Get Artwork data for serving. Small files (e.g., emblems) are kept in memory after they are
+   * first read; larger files are streamed from disk.
+   *
+   * @param artwork The Artwork
+   * @return The image data
+   * @throws FileNotFoundException If the Artwork file is missing
+   */
+  public ImageResource readArtworkResource(@NotNull Artwork artwork) throws IOException {
+    final MediaType mediaType = MediaType.valueOf(artwork.getMediaType());
+    final String etag = getETag(artwork);
+    final byte[] cached = hotArtwork.get(artwork.getId());
+    if (cached != null) {
+      return new ImageResource(new ByteArrayResource(cached), mediaType, cached.length, etag);
+    }
+    final Path file = artwork.getFile();
+    if (file == null || !Files.isRegularFile(file)) {
+      throw new FileNotFoundException("Artwork file not found: " + artwork);
+    }
+    final long size = Files.size(file);
+    if (size <= MAX_CACHED_FILE_SIZE) {
+      final byte[] data = Files.readAllBytes(file);
+      hotArtwork.put(artwork.getId(), data);
+      return new ImageResource(new ByteArrayResource(data), mediaType, data.length, etag);
+    }
+    return new ImageResource(new FileSystemResource(file), mediaType, size, etag);
+  }
+
+  /**
+   * Get Artwork data for serving, resized to fit within a square of the given size. The original is
+   * served if it is already small enough.
+   *
+   * @param artwork The Artwork
+   * @param size One of the supported derivative sizes
+   * @return The image data
+   * @throws IllegalArgumentException If the size is not supported
+   */
+  public ImageResource readArtworkResource(@NotNull Artwork artwork, int size) throws IOException {
+    final ImageResource resized = derivativeCache.getResized(artwork, size);
+    return resized != null ? resized : readArtworkResource(artwork);
   }
 
   public Image readArtworkData(@NotNull Artwork artwork) throws IOException {
@@ -79,8 +196,8 @@ public class ArtworkService {
     return artworkRepository.findAll();
   }
 
-  public Optional<Artwork> fetchArtworkAt(@NotNull Path path) {
-    return artworkRepository.findByFile(path);
+  public Optional<Artwork> fetchArtworkById(@NotNull Long artworkId) {
+    return artworkRepository.findById(artworkId);
   }
 
   private byte @NotNull [] readArtworkImageData(@NotNull Artwork artwork) throws IOException {
@@ -98,30 +215,167 @@ public class ArtworkService {
     return collectionRepository.saveAndFlush(collection);
   }
 
+  /**
+   * Validate and store an image. Only the image header is read for validation; if the data is
+   * already in the declared format, it is stored exactly as received. Otherwise, it is converted.
+   * Files are named by their content, so identical images share a single file.
+   *
+   * @param image The image data & its declared type
+   * @return The saved Artwork
+   * @throws IOException If the image could not be read or written
+   */
   public Artwork createArtwork(@NotNull Image image) throws IOException {
     final byte[] data = image.data();
     final MediaType type = image.contentType();
-    // parse image
-    final ByteArrayInputStream inputStream = new ByteArrayInputStream(data);
-    final BufferedImage bufferedImage = ImageIO.read(inputStream);
-    // validate image
-    validateImage(bufferedImage);
-    final Path imageLocation = getImageLocation(type);
-    final String extension = getArtworkExtension(type);
-    // write data to disk
-    ImageIO.write(bufferedImage, extension, imageLocation.toFile());
+    final ImageHeader header = readImageHeader(data);
+    validateImage(header);
+    final byte[] content = header.isType(type) ? data : convertImage(data, type);
+    final String contentHash = getContentHash(content);
+    final Path imageLocation = storeContent(content, contentHash, type);
     final Artwork artwork =
         Artwork.builder()
             .created(LocalDateTime.now())
             .mediaType(type.toString())
-            .height(bufferedImage.getHeight())
-            .width(bufferedImage.getWidth())
-            .fileSize((long) data.length)
+            .height(header.height())
+            .width(header.width())
+            .fileSize((long) content.length)
             .file(imageLocation)
+            .contentHash(contentHash)
             .build();
     return artworkRepository.save(artwork);
   }
 
+  /**
+   * Read the format & dimensions of an image without decoding its pixels.
+   *
+   * @param data Encoded image data
+   * @return The image header
+   * @throws IOException If the data could not be read
+   * @throws InvalidArtworkException If the data is not in a recognized image format
+   */
+  private @NotNull ImageHeader readImageHeader(byte @NotNull [] data) throws IOException {
+    try (final ImageInputStream input =
+        ImageIO.createImageInputStream(new ByteArrayInputStream(data))) {
+      final Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+      if (!readers.hasNext()) {
+        throw new InvalidArtworkException("Unrecognized image format");
+      }
+      final ImageReader reader = readers.next();
+      try {
+        reader.setInput(input, true, true);
+        final String[] mimeTypes = reader.getOriginatingProvider().getMIMETypes();
+        return new ImageHeader(
+            mimeTypes != null ? Set.of(mimeTypes) : Set.of(),
+            reader.getWidth(0),
+            reader.getHeight(0));
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  private byte @NotNull [] convertImage(byte @NotNull [] data, @NotNull MediaType type)
+      throws IOException {
+    final BufferedImage bufferedImage = ImageIO.read(new ByteArrayInputStream(data));
+    if (bufferedImage == null) {
+      throw new InvalidArtworkException("Could not decode image for conversion to: " + type);
+    }
+    final String extension = getArtworkExtension(type);
+    final ByteArrayOutputStream converted = new ByteArrayOutputStream();
+    if (!ImageIO.write(bufferedImage, extension, converted)) {
+      throw new InvalidArtworkException("Cannot convert image to: " + type);
+    }
+    return converted.toByteArray();
+  }
+
+  /**
+   * Write image data to its content-addressed location, unless an identical file is already there.
+   * The file is held until the current transaction completes, so that it is not removed while the
+   * row referencing it is still uncommitted.
+   *
+   * @param data Image data
+   * @param contentHash The hash of the data
+   * @param type The image type
+   * @return The location of the stored data
+   */
+  private @NotNull Path storeContent(
+      byte @NotNull [] data, @NotNull String contentHash, @NotNull MediaType type)
+      throws IOException {
+    final Path location = getImageLocation(contentHash, type);
+    synchronized (getFileLock(location)) {
+      if (!Files.isRegularFile(location) || Files.size(location) != data.length) {
+        writeAtomically(location, data);
+      }
+      holdUntilCompletion(location);
+    }
+    return location;
+  }
+
+  private static void writeAtomically(@NotNull Path location, byte @NotNull [] data)
+      throws IOException {
+    // write beside the final location, then move, so a partial file is never visible
+    final Path directory = Files.createDirectories(location.getParent());
+    final Path tmp = Files.createTempFile(directory, location.getFileName().toString(), ".tmp");
+    try {
+      Files.write(tmp, data);
+      Files.move(
+          tmp, location, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  private void holdUntilCompletion(@NotNull Path file) {
+    pendingFiles.merge(file, 1, Integer::sum);
+    TransactionUtils.afterCompletion(
+        () -> {
+          synchronized (getFileLock(file)) {
+            pendingFiles.computeIfPresent(file, (path, holds) -> holds > 1 ? holds - 1 : null);
+          }
+        });
+  }
+
+  private @NotNull Object getFileLock(@NotNull Path file) {
+    return fileLocks[Math.floorMod(file.hashCode(), FILE_LOCK_STRIPES)];
+  }
+
+  /**
+   * Move Artwork stored before files were content-addressed to their hashed location, merging
+   * identical files. Old files are removed once the change is committed.
+   *
+   * @return The number of Artwork records updated
+   */
+  public int deduplicateArtworkFiles() {
+    final List<Artwork> unhashed = artworkRepository.findAllByContentHashIsNull();
+    final Set<Path> replaced = new HashSet<>();
+    int updated = 0;
+    for (Artwork artwork : unhashed) {
+      final Path file = artwork.getFile();
+      if (file == null || !Files.isRegularFile(file)) {
+        // left for the sanity report
+        continue;
+      }
+      try {
+        final byte[] data = Files.readAllBytes(file);
+        final String contentHash = getContentHash(data);
+        final Path location =
+            storeContent(data, contentHash, MediaType.valueOf(artwork.getMediaType()));
+        if (!location.equals(file.toAbsolutePath())) {
+          replaced.add(file);
+        }
+        artwork.setFile(location);
+        artwork.setContentHash(contentHash);
+        artwork.setFileSize((long) data.length);
+        updated++;
+      } catch (IOException | InvalidArtworkException e) {
+        logger.error("Could not move Artwork to content-addressed storage: {}", artwork, e);
+      }
+    }
+    artworkRepository.saveAll(unhashed);
+    TransactionUtils.afterCommit(() -> replaced.forEach(this::deleteFileIfUnreferenced));
+    return updated;
+  }
+
   public Artwork createArtwork(@NotNull Class<?> type, @NotNull Collection<Param<?>> params)
       throws IOException {
     final Image artwork = creatorPlugin.createArtwork(type, params);
@@ -175,10 +429,9 @@ public class ArtworkService {
     }
   }
 
-  private @NotNull Path getImageLocation(@NotNull MediaType type) {
-    UUID fileId = UUID.randomUUID();
+  private @NotNull Path getImageLocation(@NotNull String contentHash, @NotNull MediaType type) {
     String extension = getArtworkExtension(type);
-    String fileName = String.format("%s.%s", fileId, extension);
+    String fileName = String.format("%s.%s", contentHash, extension);
     Path storageLocation = settingsService.getSetting(ARTWORK_LOCATION, Path.class);
     return storageLocation.toAbsolutePath().resolve(fileName);
   }
@@ -195,9 +448,9 @@ public class ArtworkService {
     return matcher.group(1);
   }
 
-  private void validateImage(@NotNull BufferedImage image) {
-    final int height = image.getHeight();
-    final int width = image.getWidth();
+  private void validateImage(@NotNull ImageHeader image) {
+    final int height = image.height();
+    final int width = image.width();
     if (height > MAX_IMAGE_DIMENSION
         || height < MIN_IMAGE_DIMENSION
         || width > MAX_IMAGE_DIMENSION
@@ -271,13 +524,82 @@ public class ArtworkService {
     }
   }
 
+  /**
+   * Delete an Artwork record, but keep its file on disk until the current transaction commits, so
+   * that a rollback never leaves a record pointing to a missing file.
+   *
+   * @param artwork The Artwork to delete
+   */
+  public void deleteArtworkAfterCommit(@NotNull Artwork artwork) {
+    artworkRepository.deleteById(artwork.getId());
+    TransactionUtils.afterCommit(() -> deleteArtworkFromDiskQuietly(artwork));
+  }
+
+  /**
+   * Remove the file of newly-created Artwork if the current transaction rolls back, since its
+   * record will not exist.
+   *
+   * @param artwork Artwork created in the current transaction
+   */
+  public void deleteArtworkFromDiskOnRollback(@NotNull Artwork artwork) {
+    TransactionUtils.afterRollback(() -> deleteArtworkFromDiskQuietly(artwork));
+  }
+
+  private void deleteArtworkFromDiskQuietly(@NotNull Artwork artwork) {
+    try {
+      deleteArtworkFromDisk(artwork);
+    } catch (IOException e) {
+      logger.error("Could not remove Artwork file: {}; {}", artwork.getFile(), e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Remove the file of Artwork from disk, unless other Artwork shares it.
+   *
+   * @param artwork The Artwork which no longer needs its file
+   * @throws IOException If the file could not be deleted
+   */
   public void deleteArtworkFromDisk(Artwork artwork) throws IOException {
     if (artwork == null) return;
-    final File artworkFile = artwork.getFile().toFile();
+    hotArtwork.remove(artwork.getId());
+    derivativeCache.invalidate(artwork);
+    final Path file = artwork.getFile();
+    if (file == null) return;
+    synchronized (getFileLock(file)) {
+      if (pendingFiles.containsKey(file)
+          || artworkRepository.countOtherReferences(file, artwork.getId()) > 0) {
+        return;
+      }
+      deleteFile(file);
+    }
+  }
+
+  private void deleteFileIfUnreferenced(@NotNull Path file) {
+    synchronized (getFileLock(file)) {
+      if (pendingFiles.containsKey(file) || artworkRepository.countReferences(file) > 0) {
+        return;
+      }
+      try {
+        deleteFile(file);
+      } catch (IOException e) {
+        logger.error("Could not remove unreferenced Artwork file: {}", file, e);
+      }
+    }
+  }
+
+  private static void deleteFile(@NotNull Path file) throws IOException {
+    final File artworkFile = file.toFile();
     if (!artworkFile.exists()) return;
     final boolean deleted = artworkFile.delete();
     if (!deleted || artworkFile.exists()) {
-      throw new IOException("Could not delete Artwork from disk: " + artwork);
+      throw new IOException("Could not delete Artwork from disk: " + file);
+    }
+  }
+
+  private record ImageHeader(Set<String> mimeTypes, int width, int height) {
+
+    boolean isType(@NotNull MediaType type) {
+      return mimeTypes.contains(type.getType() + "/" + type.getSubtype());
     }
   }
 }
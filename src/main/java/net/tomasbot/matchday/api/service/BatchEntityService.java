@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.tomasbot.matchday.api.service;
+
+import java.util.List;
+import net.tomasbot.matchday.model.IngestReport;
+import org.jetbrains.annotations.NotNull;
+
+/** An EntityService which can ingest many entities at once, in a single transaction. */
+public interface BatchEntityService<T> {
+
+  /**
+   * Correct, validate, deduplicate & persist a batch of entities. Entities which fail correction or
+   * validation are recorded in the report and skipped; the rest of the batch is still saved.
+   *
+   * @param batch The entities to save
+   * @param report The report to which the outcome for each entity is added
+   */
+  void saveBatch(@NotNull List<? extends T> batch, @NotNull IngestReport report);
+}
@@ -40,15 +40,24 @@ public class CompetitionService implements EntityService<Competition, UUID> {
   private final CompetitionRepository competitionRepository;
   private final CompetitionValidator validator;
   private final ArtworkService artworkService;
+  private final ProperNameIndex properNameIndex;
+  private final EntityCache entityCache;
+  private final EventKeyIndex eventKeyIndex;
   private final Map<ArtworkRole, Function<Competition, ArtworkCollection>> methodRegistry;
 
   public CompetitionService(
       CompetitionRepository competitionRepository,
       CompetitionValidator validator,
-      ArtworkService artworkService) {
+      ArtworkService artworkService,
+      ProperNameIndex properNameIndex,
+      EntityCache entityCache,
+      EventKeyIndex eventKeyIndex) {
     this.competitionRepository = competitionRepository;
     this.validator = validator;
     this.artworkService = artworkService;
+    this.properNameIndex = properNameIndex;
+    this.entityCache = entityCache;
+    this.eventKeyIndex = eventKeyIndex;
     methodRegistry = createMethodRegistry();
   }
 
@@ -86,7 +95,7 @@ public class CompetitionService implements EntityService<Competition, UUID> {
   @Override
   public List<Competition> fetchAll() {
 
-    final List<Competition> competitions = competitionRepository.findAll();
+    final List<Competition> competitions = competitionRepository.fetchAllForList();
     if (!competitions.isEmpty()) {
       competitions.sort(Comparator.comparing(Competition::getName));
       competitions.forEach(this::initialize);
@@ -123,8 +132,12 @@ public class CompetitionService implements EntityService<Competition, UUID> {
 
   public ArtworkCollection fetchArtworkCollection(
       @NotNull UUID competitionId, @NotNull ArtworkRole role) {
+    return getArtworkCollection(getCompetitionForArtwork(competitionId, role), role);
+  }
+
+  private Competition getCompetitionForArtwork(
+      @NotNull UUID competitionId, @NotNull ArtworkRole role) {
     return fetchById(competitionId)
-        .map(competition -> getArtworkCollection(competition, role))
         .orElseThrow(
             () ->
                 new IllegalArgumentException(
@@ -142,11 +155,20 @@ public class CompetitionService implements EntityService<Competition, UUID> {
     return fetchArtworkCollection(competitionId, role).getSelected();
   }
 
-  public Image fetchSelectedArtworkImage(@NotNull UUID competitionId, @NotNull ArtworkRole role)
-      throws IOException {
+  public ImageResource fetchSelectedArtworkImage(
+      @NotNull UUID competitionId, @NotNull ArtworkRole role) throws IOException {
     final Artwork artwork = fetchSelectedArtworkMetadata(competitionId, role);
     if (artwork != null && artwork.getFile() != null) {
-      return artworkService.readArtworkData(artwork);
+      return artworkService.readArtworkResource(artwork);
+    }
+    return null;
+  }
+
+  public ImageResource fetchSelectedArtworkImage(
+      @NotNull UUID competitionId, @NotNull ArtworkRole role, int size) throws IOException {
+    final Artwork artwork = fetchSelectedArtworkMetadata(competitionId, role);
+    if (artwork != null && artwork.getFile() != null) {
+      return artworkService.readArtworkResource(artwork, size);
     }
     return null;
   }
@@ -164,24 +186,34 @@ public class CompetitionService implements EntityService<Competition, UUID> {
                         artworkId, role, competitionId)));
   }
 
-  public Image fetchArtworkData(
+  public ImageResource fetchArtworkData(
       @NotNull UUID competitionId, @NotNull ArtworkRole role, @NotNull Long artworkId)
       throws IOException {
     final Artwork artwork = fetchArtworkMetadata(competitionId, role, artworkId);
-    return artworkService.readArtworkData(artwork);
+    return artworkService.readArtworkResource(artwork);
+  }
+
+  public ImageResource fetchArtworkData(
+      @NotNull UUID competitionId, @NotNull ArtworkRole role, @NotNull Long artworkId, int size)
+      throws IOException {
+    final Artwork artwork = fetchArtworkMetadata(competitionId, role, artworkId);
+    return artworkService.readArtworkResource(artwork, size);
   }
 
   public ArtworkCollection addArtworkToCollection(
       @NotNull UUID competitionId, ArtworkRole role, @NotNull Image image) throws IOException {
-    final ArtworkCollection collection = fetchArtworkCollection(competitionId, role);
-    return artworkService.addArtworkToCollection(collection, image);
+    final Competition competition = getCompetitionForArtwork(competitionId, role);
+    competition.markModified();
+    return artworkService.addArtworkToCollection(getArtworkCollection(competition, role), image);
   }
 
   public ArtworkCollection removeCompetitionArtwork(
       @NotNull UUID competitionId, @NotNull ArtworkRole role, @NotNull Long artworkId)
       throws IOException {
-    final ArtworkCollection collection = fetchArtworkCollection(competitionId, role);
-    return artworkService.deleteArtworkFromCollection(collection, artworkId);
+    final Competition competition = getCompetitionForArtwork(competitionId, role);
+    competition.markModified();
+    return artworkService.deleteArtworkFromCollection(
+        getArtworkCollection(competition, role), artworkId);
   }
 
   /**
@@ -194,6 +226,7 @@ public class CompetitionService implements EntityService<Competition, UUID> {
   public Competition save(@NotNull final Competition competition) {
     validator.validate(competition);
     final Competition saved = competitionRepository.saveAndFlush(competition);
+    properNameIndex.indexAfterCommit(saved);
     return initialize(saved);
   }
 
@@ -206,18 +239,32 @@ public class CompetitionService implements EntityService<Competition, UUID> {
 
   @Override
   public Competition update(@NotNull Competition competition) {
-    fetchById(competition.getId())
-        .ifPresentOrElse(
-            existing -> validator.validateForUpdate(existing, competition),
-            () -> {
-              throw new IllegalArgumentException(
-                  "Trying to update unknown Competition: " + competition);
-            });
+    final Competition existing =
+        fetchById(competition.getId())
+            .orElseThrow(
+                () ->
+                    new IllegalArgumentException(
+                        "Trying to update unknown Competition: " + competition));
+    validator.validateForUpdate(existing, competition);
+    // read before saving, since saving merges the update into the existing Competition
+    final String previousName = existing.getName().getName();
 
     // correct missing artwork file paths
     artworkService.repairArtworkFilePaths(competition.getEmblem());
     artworkService.repairArtworkFilePaths(competition.getFanart());
-    return save(competition);
+    // an update may change only artwork, which is not a column of the Competition
+    competition.markModified();
+    final Competition updated = save(competition);
+    evictAfterCompletion(updated);
+    if (!previousName.equals(updated.getName().getName())) {
+      eventKeyIndex.rekeyEventsOf(updated);
+    }
+    return updated;
+  }
+
+  private void evictAfterCompletion(@NotNull Competition competition) {
+    entityCache.evictAfterCompletion(Competition.class, competition.getId());
+    entityCache.evictAfterCompletion(competition.getName());
   }
 
   @Override
@@ -240,6 +287,8 @@ public class CompetitionService implements EntityService<Competition, UUID> {
       // save artwork for deletion
       competitionRepository.delete(competition);
       competitionRepository.flush();
+      properNameIndex.removeAfterCommit(competitionId);
+      evictAfterCompletion(competition);
       final List<Artwork> artworks = new ArrayList<>();
       artworks.addAll(competition.getEmblem().getCollection());
       artworks.addAll(competition.getFanart().getCollection());
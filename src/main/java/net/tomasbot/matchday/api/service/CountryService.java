@@ -23,20 +23,30 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import net.tomasbot.matchday.db.CountryRepository;
 import net.tomasbot.matchday.model.Country;
+import net.tomasbot.matchday.model.ImageResource;
 import net.tomasbot.matchday.util.ResourceFileReader;
 import org.hibernate.Hibernate;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional
 public class CountryService {
 
+  private static final MediaType FLAG_TYPE = MediaType.valueOf("image/svg+xml");
+
   private final CountryRepository countryRepository;
+  // flags are bundled resources, so there are only as many as there are Countries
+  private final Map<String, FlagData> flags = new ConcurrentHashMap<>();
 
   public CountryService(CountryRepository countryRepository) {
     this.countryRepository = countryRepository;
@@ -74,9 +84,35 @@ public class CountryService {
     throw new IllegalArgumentException("No such country: " + countryName);
   }
 
+  /**
+   * Get the flag image for the specified country, for serving. Flag data is read once, then kept
+   * in memory.
+   *
+   * @param countryName The (primary) name of the Country
+   * @return The flag image
+   * @throws IllegalArgumentException if a Country cannot be found for the specified name
+   */
+  public ImageResource getFlagResource(@NotNull String countryName) throws IOException {
+    final Country country =
+        countryRepository
+            .findById(countryName)
+            .orElseThrow(() -> new IllegalArgumentException("No such country: " + countryName));
+    final String path = country.getFlagFileName();
+    FlagData flag = flags.get(path);
+    if (flag == null) {
+      final byte[] data = readFlagData(country);
+      flag = new FlagData(data, "\"flag-" + DigestUtils.md5DigestAsHex(data) + "\"");
+      flags.put(path, flag);
+    }
+    return new ImageResource(
+        new ByteArrayResource(flag.data()), FLAG_TYPE, flag.data().length, flag.etag());
+  }
+
   private byte @NotNull [] readFlagData(@NotNull Country country) throws IOException {
     final String path = country.getFlagFileName();
     final String data = ResourceFileReader.readTextResource(path);
     return data.getBytes(StandardCharsets.UTF_8);
   }
+
+  private record FlagData(byte[] data, String etag) {}
 }
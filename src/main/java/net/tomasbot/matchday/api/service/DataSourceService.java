@@ -26,6 +26,7 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
+import lombok.Getter;
 import net.tomasbot.matchday.db.DataSourceRepository;
 import net.tomasbot.matchday.db.PatternKitRepository;
 import net.tomasbot.matchday.model.DataSource;
@@ -33,8 +34,12 @@ import net.tomasbot.matchday.model.PlaintextDataSource;
 import net.tomasbot.matchday.model.Snapshot;
 import net.tomasbot.matchday.model.SnapshotRequest;
 import net.tomasbot.matchday.plugin.datasource.DataSourcePlugin;
+import net.tomasbot.matchday.util.PrefixTrie;
+import net.tomasbot.matchday.util.TransactionUtils;
 import org.hibernate.Hibernate;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -44,16 +49,21 @@ public class DataSourceService implements EntityService<DataSource<?>, UUID> {
   private final DataSourcePluginService pluginService;
   private final DataSourceRepository dataSourceRepository;
   private final PatternKitRepository patternKitRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  // IDs of DataSources by base URI; read when first needed after DataSources are written
+  private volatile PrefixTrie<UUID> urlIndex;
 
   DataSourceService(
       SnapshotService snapshotService,
       DataSourceRepository dataSourceRepository,
       DataSourcePluginService pluginService,
-      PatternKitRepository patternKitRepository) {
+      PatternKitRepository patternKitRepository,
+      ApplicationEventPublisher eventPublisher) {
     this.snapshotService = snapshotService;
     this.dataSourceRepository = dataSourceRepository;
     this.pluginService = pluginService;
     this.patternKitRepository = patternKitRepository;
+    this.eventPublisher = eventPublisher;
   }
 
   /**
@@ -101,14 +111,48 @@ public class DataSourceService implements EntityService<DataSource<?>, UUID> {
   }
 
   private Optional<DataSource<?>> findDataSourceForUrl(@NotNull URL url) {
-    List<DataSource<?>> dataSources = dataSourceRepository.findAll();
-    for (DataSource<?> dataSource : dataSources) {
-      String sourceHost = dataSource.getBaseUri().toString();
-      if (url.toString().startsWith(sourceHost)) {
-        return Optional.of(dataSource);
+    return getUrlIndex().findLongestPrefix(url.toString()).flatMap(dataSourceRepository::findById);
+  }
+
+  private @NotNull PrefixTrie<UUID> getUrlIndex() {
+    PrefixTrie<UUID> index = urlIndex;
+    if (index == null) {
+      synchronized (this) {
+        if (urlIndex == null) {
+          urlIndex = readUrlIndex();
+        }
+        index = urlIndex;
       }
     }
-    return Optional.empty();
+    return index;
+  }
+
+  private @NotNull PrefixTrie<UUID> readUrlIndex() {
+    final PrefixTrie<UUID> index = new PrefixTrie<>();
+    for (DataSource<?> dataSource : dataSourceRepository.findAll()) {
+      if (dataSource.getBaseUri() != null) {
+        index.put(dataSource.getBaseUri().toString(), dataSource.getDataSourceId());
+      }
+    }
+    return index;
+  }
+
+  // once committed, so the index is not re-read before the write is visible
+  private void invalidateUrlIndex() {
+    TransactionUtils.afterCommit(this::clearUrlIndex);
+  }
+
+  // parsers may hold state compiled from a DataSource's PatternKits; re-read it either way
+  private void onDataSourceUpdated(UUID dataSourceId) {
+    if (dataSourceId != null) {
+      TransactionUtils.afterCompletion(
+          () -> eventPublisher.publishEvent(new DataSourceUpdatedEvent(this, dataSourceId)));
+    }
+  }
+
+  /** Forget the base URIs of DataSources, e.g., after they were restored around this service. */
+  public synchronized void clearUrlIndex() {
+    urlIndex = null;
   }
 
   @Override
@@ -123,7 +167,10 @@ public class DataSourceService implements EntityService<DataSource<?>, UUID> {
     if (dataSource instanceof final PlaintextDataSource<?> plaintext) {
       patternKitRepository.saveAll(plaintext.getPatternKits());
     }
-    return dataSourceRepository.save(dataSource);
+    final DataSource<?> saved = dataSourceRepository.save(dataSource);
+    invalidateUrlIndex();
+    onDataSourceUpdated(saved.getDataSourceId());
+    return saved;
   }
 
   @Override
@@ -153,7 +200,10 @@ public class DataSourceService implements EntityService<DataSource<?>, UUID> {
     final Optional<DataSource<?>> sourceOptional = dataSourceRepository.findById(dataSourceId);
     if (sourceOptional.isPresent()) {
       pluginService.validateDataSource(dataSource);
-      return dataSourceRepository.saveAndFlush(dataSource);
+      final DataSource<?> updated = dataSourceRepository.saveAndFlush(dataSource);
+      invalidateUrlIndex();
+      onDataSourceUpdated(dataSourceId);
+      return updated;
     }
     // else...
     throw new IllegalArgumentException(
@@ -170,10 +220,26 @@ public class DataSourceService implements EntityService<DataSource<?>, UUID> {
   @Override
   public void delete(@NotNull UUID dataSourceId) {
     dataSourceRepository.deleteById(dataSourceId);
+    invalidateUrlIndex();
+    onDataSourceUpdated(dataSourceId);
   }
 
   @Override
   public void deleteAll(@NotNull Iterable<? extends DataSource<?>> entities) {
     dataSourceRepository.deleteAll(entities);
+    invalidateUrlIndex();
+    entities.forEach(dataSource -> onDataSourceUpdated(dataSource.getDataSourceId()));
+  }
+
+  /** Published once a DataSource has been saved, updated or deleted. */
+  @Getter
+  public static final class DataSourceUpdatedEvent extends ApplicationEvent {
+
+    private final UUID dataSourceId;
+
+    public DataSourceUpdatedEvent(Object source, UUID dataSourceId) {
+      super(source);
+      this.dataSourceId = dataSourceId;
+    }
   }
 }
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.tomasbot.matchday.api.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import javax.persistence.EntityManagerFactory;
+import net.tomasbot.matchday.model.Competition;
+import net.tomasbot.matchday.model.Match;
+import net.tomasbot.matchday.model.Md5Id;
+import net.tomasbot.matchday.model.ProperName;
+import net.tomasbot.matchday.model.Synonym;
+import net.tomasbot.matchday.util.TransactionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.tuple.entity.EntityMetamodel;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.stereotype.Service;
+
+/**
+ * The second-level cache of Teams, Competitions, Countries & ProperNames, which are read on almost
+ * every request but rarely change. Hibernate keeps the cache consistent with writes made through
+ * an EntityManager; evictions here cover what it cannot see, such as collections changed from the
+ * other side, or data restored directly into the database. Evictions are applied once the writing
+ * transaction completes, so a concurrent reader cannot re-cache the old state.
+ *
+ * <p>It also holds the roster of each Competition: the IDs of the Teams which play in it. A roster
+ * is evicted whenever a Match in its Competition is written.
+ */
+@Service
+public class EntityCache implements MeterBinder {
+
+  private static final Logger logger = LogManager.getLogger(EntityCache.class);
+
+  private static final String METRIC_PREFIX = "matchday.entity.cache.";
+  private static final String SYNONYMS_ROLE = ProperName.class.getName() + ".synonyms";
+  // properties of a Match which decide the roster of its Competition
+  private static final List<String> ROSTER_PROPERTIES =
+      List.of("competition", "homeTeam", "awayTeam");
+
+  private final SessionFactory sessionFactory;
+  private final Map<UUID, List<UUID>> rosters = new ConcurrentHashMap<>();
+  // advanced by every roster eviction; a roster read before an eviction is not cached
+  private final AtomicLong rosterGeneration = new AtomicLong();
+
+  public EntityCache(@NotNull EntityManagerFactory entityManagerFactory) {
+    this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    registerRosterListener(entityManagerFactory.unwrap(SessionFactoryImplementor.class));
+  }
+
+  private static long count(
+      @NotNull Statistics statistics,
+      @NotNull String region,
+      @NotNull ToLongFunction<CacheRegionStatistics> counter) {
+    final CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+    return regionStatistics != null ? counter.applyAsLong(regionStatistics) : 0;
+  }
+
+  /**
+   * @param type A cached entity type
+   * @param ids The IDs of entities of that type
+   * @return Whether every one of the entities is in the second-level cache
+   */
+  public boolean containsAll(@NotNull Class<?> type, @NotNull Collection<?> ids) {
+    final Cache cache = getCache();
+    return ids.stream().allMatch(id -> cache.contains(type, id));
+  }
+
+  public void evictAfterCompletion(@NotNull Class<?> type, @Nullable Serializable id) {
+    if (id != null) {
+      TransactionUtils.afterCompletion(() -> getCache().evictEntityData(type, id));
+    }
+  }
+
+  /**
+   * Evict a ProperName and its Synonyms, e.g., when Synonyms are removed from it.
+   *
+   * @param name The ProperName
+   */
+  public void evictAfterCompletion(@Nullable ProperName name) {
+    if (name != null && name.getId() != null) {
+      final Long id = name.getId();
+      TransactionUtils.afterCompletion(
+          () -> {
+            getCache().evictEntityData(ProperName.class, id);
+            getCache().evictCollectionData(SYNONYMS_ROLE, id);
+          });
+    }
+  }
+
+  /**
+   * Evict a deleted Synonym. The ProperName it belonged to is not known, so the Synonyms of all
+   * ProperNames are evicted.
+   *
+   * @param id The ID of the Synonym
+   */
+  public void evictSynonymAfterCompletion(@Nullable Md5Id id) {
+    if (id != null) {
+      TransactionUtils.afterCompletion(
+          () -> {
+            getCache().evictEntityData(Synonym.class, id);
+            getCache().evictCollectionData(SYNONYMS_ROLE);
+          });
+    }
+  }
+
+  /**
+   * Get the roster of a Competition, reading it only if it is not cached.
+   *
+   * @param competitionId The ID of the Competition
+   * @param reader Reads the IDs of the Teams which play in the Competition
+   * @return The IDs of the Teams, in the order they were read
+   */
+  public @NotNull List<UUID> getRoster(
+      @NotNull UUID competitionId, @NotNull Function<UUID, List<UUID>> reader) {
+    final List<UUID> cached = rosters.get(competitionId);
+    if (cached != null) {
+      return cached;
+    }
+    final long generation = rosterGeneration.get();
+    final List<UUID> roster = List.copyOf(reader.apply(competitionId));
+    if (rosterGeneration.get() == generation) {
+      rosters.putIfAbsent(competitionId, roster);
+    }
+    return roster;
+  }
+
+  public void evictRosterAfterCompletion(@Nullable Competition competition) {
+    if (competition != null && competition.getId() != null) {
+      final UUID id = competition.getId();
+      rosterGeneration.incrementAndGet();
+      TransactionUtils.afterCompletion(
+          () -> {
+            rosterGeneration.incrementAndGet();
+            rosters.remove(id);
+          });
+    }
+  }
+
+  private void registerRosterListener(@NotNull SessionFactoryImplementor sessionFactory) {
+    final RosterListener listener = new RosterListener();
+    final EventListenerRegistry registry =
+        sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+    registry.appendListeners(EventType.POST_INSERT, listener);
+    registry.appendListeners(EventType.POST_UPDATE, listener);
+    registry.appendListeners(EventType.POST_DELETE, listener);
+  }
+
+  /** Evict everything, e.g., after the database has been restored from a backup. */
+  public void evictAll() {
+    rosterGeneration.incrementAndGet();
+    rosters.clear();
+    getCache().evictAllRegions();
+    logger.info("Evicted all entities from the second-level cache");
+  }
+
+  public boolean contains(@NotNull Class<?> type, @NotNull Serializable id) {
+    return getCache().containsEntity(type, id);
+  }
+
+  /**
+   * Hit, miss & put counts of the cache region holding the given type of entity.
+   *
+   * @param type A cached entity type
+   * @return Statistics of its region, or null if the type is not cached
+   */
+  public @Nullable CacheRegionStatistics getStatistics(@NotNull Class<?> type) {
+    return sessionFactory.getStatistics().getCacheRegionStatistics(type.getName());
+  }
+
+  private Cache getCache() {
+    return sessionFactory.getCache();
+  }
+
+  @Override
+  public void bindTo(@NotNull MeterRegistry registry) {
+    final Statistics statistics = sessionFactory.getStatistics();
+    if (!statistics.isStatisticsEnabled()) {
+      // see entity-cache.statistics.enabled
+      return;
+    }
+    for (String region : statistics.getSecondLevelCacheRegionNames()) {
+      FunctionCounter.builder(
+              METRIC_PREFIX + "hits",
+              statistics,
+              stats -> count(stats, region, CacheRegionStatistics::getHitCount))
+          .tag("region", region)
+          .register(registry);
+      FunctionCounter.builder(
+              METRIC_PREFIX + "misses",
+              statistics,
+              stats -> count(stats, region, CacheRegionStatistics::getMissCount))
+          .tag("region", region)
+          .register(registry);
+      FunctionCounter.builder(
+              METRIC_PREFIX + "puts",
+              statistics,
+              stats -> count(stats, region, CacheRegionStatistics::getPutCount))
+          .tag("region", region)
+          .register(registry);
+    }
+  }
+
+  /** Evicts the rosters of the Competitions of written Matches, wherever they are written from. */
+  private final class RosterListener
+      implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    @Override
+    public void onPostInsert(@NotNull PostInsertEvent event) {
+      if (event.getEntity() instanceof Match match) {
+        evictRosterAfterCompletion(match.getCompetition());
+      }
+    }
+
+    @Override
+    public void onPostUpdate(@NotNull PostUpdateEvent event) {
+      if (event.getEntity() instanceof Match match && isRosterChanged(event)) {
+        evictRosterAfterCompletion(match.getCompetition());
+        // the Match may have been moved from another Competition
+        final Object[] oldState = event.getOldState();
+        if (oldState != null) {
+          final int competition =
+              event.getPersister().getEntityMetamodel().getPropertyIndex("competition");
+          if (oldState[competition] instanceof Competition previous) {
+            evictRosterAfterCompletion(previous);
+          }
+        }
+      }
+    }
+
+    // e.g., re-rendered artwork leaves the roster as it was
+    private boolean isRosterChanged(@NotNull PostUpdateEvent event) {
+      final int[] dirtyProperties = event.getDirtyProperties();
+      if (dirtyProperties == null) {
+        return true;
+      }
+      final EntityMetamodel metamodel = event.getPersister().getEntityMetamodel();
+      for (String property : ROSTER_PROPERTIES) {
+        final int index = metamodel.getPropertyIndex(property);
+        if (Arrays.stream(dirtyProperties).anyMatch(dirty -> dirty == index)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public void onPostDelete(@NotNull PostDeleteEvent event) {
+      if (event.getEntity() instanceof Match match) {
+        evictRosterAfterCompletion(match.getCompetition());
+      }
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(@NotNull EntityPersister persister) {
+      return false;
+    }
+  }
+}
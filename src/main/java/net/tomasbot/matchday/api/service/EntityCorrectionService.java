@@ -19,10 +19,19 @@
 
 package net.tomasbot.matchday.api.service;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import net.tomasbot.matchday.Corrected;
 import net.tomasbot.matchday.CorrectedOrNull;
 import net.tomasbot.matchday.model.Competition;
@@ -30,118 +39,213 @@ import net.tomasbot.matchday.model.ProperName;
 import net.tomasbot.matchday.model.Team;
 import net.tomasbot.matchday.util.ReflectionUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+// not transactional: a failed correction must not mark the caller's transaction for rollback,
+// since batch ingest skips the entity & saves the rest of the batch
 @Service
-@Transactional
 public class EntityCorrectionService {
 
-  private final SynonymService synonymService;
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
+  private final Map<Class<?>, CorrectionPlan> correctionPlans = new ConcurrentHashMap<>();
+  private final Map<Class<?>, Optional<MethodHandle>> nameGetters = new ConcurrentHashMap<>();
+  private final ProperNameIndex properNameIndex;
   private final CompetitionService competitionService;
   private final TeamService teamService;
 
   public EntityCorrectionService(
-      SynonymService synonymService,
+      ProperNameIndex properNameIndex,
       CompetitionService competitionService,
       TeamService teamService) {
-    this.synonymService = synonymService;
+    this.properNameIndex = properNameIndex;
     this.competitionService = competitionService;
     this.teamService = teamService;
   }
 
   public <T> void correctEntityFields(@NotNull T entity) throws ReflectiveOperationException {
-    final Class<?> clazz = entity.getClass();
-    final Field[] fields = ReflectionUtils.getAllFields(clazz);
-    for (Field field : fields) {
-      if (!Modifier.isStatic(field.getModifiers())) {
-        final Method getter = getGetterMethod(clazz, field);
-        final Object currentValue = getter.invoke(entity);
-        validateCorrectedIsNotNull(field, currentValue);
-        if (isCorrectable(field, currentValue)) {
-          final Method setter = getSetterMethod(clazz, field);
-          final Object correctedEntity = getCorrectedEntity(currentValue);
-          setter.invoke(entity, correctedEntity);
+    correctEntityFields(entity, null);
+  }
+
+  /**
+   * Correct the fields of an entity, reusing corrections already made for entities of the same
+   * type & name (e.g., earlier in the same batch), and recording new ones.
+   *
+   * @param entity The entity to correct
+   * @param corrections Corrected entities, by type & name; if null, nothing is reused or recorded
+   * @throws ReflectiveOperationException If entity accessors cannot be invoked
+   */
+  public <T> void correctEntityFields(@NotNull T entity, @Nullable Corrections corrections)
+      throws ReflectiveOperationException {
+    final CorrectionPlan plan = correctionPlans.computeIfAbsent(entity.getClass(), this::plan);
+    if (plan.failure != null) {
+      throw plan.failure;
+    }
+    for (CorrectedProperty property : plan.properties) {
+      final Object currentValue = property.get(entity);
+      if (currentValue == null) {
+        if (!property.nullable) {
+          final String msg =
+              String.format("Field: [%s] marked with @Corrected was null", property.field);
+          throw new IllegalArgumentException(msg);
+        }
+        continue;
+      }
+      final String name = getName(currentValue);
+      final Object correctedEntity;
+      if (corrections == null) {
+        correctedEntity = getCorrectedEntity(currentValue, name);
+      } else {
+        final Map<String, Object> named = corrections.forType(currentValue.getClass());
+        final Object previous = named.get(name);
+        if (previous != null) {
+          correctedEntity = previous;
+        } else {
+          correctedEntity = getCorrectedEntity(currentValue, name);
+          named.put(name, correctedEntity);
         }
       }
+      property.set(entity, correctedEntity);
     }
   }
 
-  private void validateCorrectedIsNotNull(@NotNull Field field, Object fieldValue) {
-    if (field.getAnnotation(Corrected.class) != null && fieldValue == null) {
-      final String msg = String.format("Field: [%s] marked with @Corrected was null", field);
-      throw new IllegalArgumentException(msg);
+  /**
+   * Determine which fields of the given class are corrected, and bind their accessors. Computed
+   * once per class; a class which cannot be planned records the failure, which is rethrown on each
+   * correction attempt.
+   */
+  private @NotNull CorrectionPlan plan(@NotNull Class<?> clazz) {
+    try {
+      final List<CorrectedProperty> properties = new ArrayList<>();
+      for (Field field : ReflectionUtils.getAllFields(clazz)) {
+        if (Modifier.isStatic(field.getModifiers())) {
+          continue;
+        }
+        final boolean corrected = field.getAnnotation(Corrected.class) != null;
+        final boolean correctedOrNull = field.getAnnotation(CorrectedOrNull.class) != null;
+        if (corrected || correctedOrNull) {
+          final String stub = getAccessorMethodStub(field);
+          final Method getter = clazz.getMethod("get" + stub);
+          final Method setter = clazz.getMethod("set" + stub, field.getType());
+          properties.add(
+              new CorrectedProperty(
+                  field,
+                  !corrected,
+                  LOOKUP.unreflect(getter).asType(GETTER_TYPE),
+                  LOOKUP.unreflect(setter).asType(SETTER_TYPE)));
+        }
+      }
+      return new CorrectionPlan(properties.toArray(new CorrectedProperty[0]), null);
+    } catch (ReflectiveOperationException e) {
+      return new CorrectionPlan(new CorrectedProperty[0], e);
     }
   }
 
-  private boolean isCorrectable(@NotNull Field field, Object fieldValue) {
-    final boolean isCorrected = field.getAnnotation(Corrected.class) != null;
-    final boolean isCorrectedOrNull =
-        field.getAnnotation(CorrectedOrNull.class) != null && fieldValue != null;
-    return isCorrected || isCorrectedOrNull;
-  }
-
-  @NotNull
-  private Method getGetterMethod(@NotNull Class<?> clazz, @NotNull Field field)
-      throws NoSuchMethodException {
-    final String methodStub = getAccessorMethodStub(field);
-    return clazz.getDeclaredMethod("get" + methodStub);
-  }
-
-  @NotNull
-  private Method getSetterMethod(@NotNull Class<?> clazz, @NotNull Field field)
-      throws NoSuchMethodException {
-    final String methodStub = getAccessorMethodStub(field);
-    return clazz.getDeclaredMethod("set" + methodStub, field.getType());
-  }
-
   private @NotNull String getAccessorMethodStub(@NotNull Field field) {
     final String fieldName = field.getName();
     return fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
   }
 
+  /**
+   * Find the persisted entity known by the name or synonym of the given entity.
+   *
+   * @param entity A Team or Competition
+   * @return The persisted entity, or the given entity if none is known by its name
+   */
   public <T> T getCorrectedEntity(@NotNull T entity) {
-    final String name = getName(entity);
-    return getEntityByName(entity, name)
-        .or(
-            () ->
-                synonymService
-                    .fetchByName(name)
-                    .flatMap(
-                        synonym ->
-                            getEntityByName(
-                                entity,
-                                synonymService
-                                    .fetchProperNameBySynonym(synonym.getName())
-                                    .getName())))
-        .orElse(entity);
+    return getCorrectedEntity(entity, getName(entity));
+  }
+
+  private <T> T getCorrectedEntity(@NotNull T entity, String name) {
+    return getEntityByName(entity, name).orElse(entity);
   }
 
   private String getName(@NotNull Object o) {
+    final Optional<MethodHandle> nameGetter =
+        nameGetters.computeIfAbsent(o.getClass(), EntityCorrectionService::findNameGetter);
+    if (nameGetter.isEmpty()) {
+      return o.toString();
+    }
     try {
-      final Field field = o.getClass().getDeclaredField("name");
-      final boolean accessible = field.canAccess(o);
-      field.setAccessible(true);
-      final Object value = field.get(o);
-      field.setAccessible(accessible);
-      if (value instanceof ProperName) {
-        return ((ProperName) value).getName();
+      final Object value = (Object) nameGetter.get().invokeExact(o);
+      if (value instanceof ProperName properName) {
+        return properName.getName();
       }
       return (String) value;
-    } catch (ReflectiveOperationException ignore) {
-      // object does not have name field, or is not accessible
+    } catch (Throwable ignore) {
       return o.toString();
     }
   }
 
-  @SuppressWarnings("unchecked cast")
+  private static Optional<MethodHandle> findNameGetter(@NotNull Class<?> clazz) {
+    try {
+      final Method getter = clazz.getMethod("getName");
+      final Class<?> type = getter.getReturnType();
+      if (type.equals(String.class) || type.equals(ProperName.class)) {
+        return Optional.of(LOOKUP.unreflect(getter).asType(GETTER_TYPE));
+      }
+    } catch (ReflectiveOperationException ignore) {
+      // object does not have an accessible name
+    }
+    return Optional.empty();
+  }
+
+  @SuppressWarnings("unchecked")
   private <T> Optional<T> getEntityByName(@NotNull T entity, @NotNull String name) {
     if (entity instanceof Competition) {
-      return (Optional<T>) competitionService.fetchCompetitionByName(name);
+      return (Optional<T>)
+          properNameIndex
+              .resolve(Competition.class, name)
+              .flatMap(entry -> competitionService.fetchById(entry.entityId()));
     } else if (entity instanceof Team) {
-      return (Optional<T>) teamService.getTeamByName(name);
+      return (Optional<T>)
+          properNameIndex
+              .resolve(Team.class, name)
+              .flatMap(entry -> teamService.fetchById(entry.entityId()));
     } else {
       return Optional.empty();
     }
   }
+
+  /** Corrected entities by type, then name; shared by the entities of a batch. */
+  public static final class Corrections {
+
+    private final Map<Class<?>, Map<String, Object>> byType = new HashMap<>();
+
+    private @NotNull Map<String, Object> forType(@NotNull Class<?> type) {
+      return byType.computeIfAbsent(type, t -> new HashMap<>());
+    }
+  }
+
+  private record CorrectionPlan(
+      CorrectedProperty[] properties, ReflectiveOperationException failure) {}
+
+  /** A @Corrected or @CorrectedOrNull field, with its accessors pre-bound. */
+  private record CorrectedProperty(
+      Field field, boolean nullable, MethodHandle getter, MethodHandle setter) {
+
+    Object get(@NotNull Object entity) throws ReflectiveOperationException {
+      try {
+        return (Object) getter.invokeExact(entity);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new InvocationTargetException(e);
+      }
+    }
+
+    void set(@NotNull Object entity, Object value) throws ReflectiveOperationException {
+      try {
+        setter.invokeExact(entity, value);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new InvocationTargetException(e);
+      }
+    }
+  }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.tomasbot.matchday.api.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import net.tomasbot.matchday.db.EventRepository;
+import net.tomasbot.matchday.db.MatchRepository;
+import net.tomasbot.matchday.model.Competition;
+import net.tomasbot.matchday.model.Event;
+import net.tomasbot.matchday.model.Team;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * An in-memory set of the natural keys of all persisted Events, so that "do we already have this
+ * Event?" can usually be answered without a database round trip. The index may report keys which
+ * no longer exist (costing one indexed lookup), but once warmed never omits a persisted key.
+ */
+@Service
+public class EventKeyIndex {
+
+  private static final Logger logger = LogManager.getLogger(EventKeyIndex.class);
+
+  private final EventRepository eventRepository;
+  private final MatchRepository matchRepository;
+  private final Set<String> keys = ConcurrentHashMap.newKeySet();
+  private volatile boolean warmed = false;
+
+  public EventKeyIndex(EventRepository eventRepository, MatchRepository matchRepository) {
+    this.eventRepository = eventRepository;
+    this.matchRepository = matchRepository;
+  }
+
+  /**
+   * Assign keys to any Events persisted before natural keys existed, then load all keys. An Event
+   * which duplicates an already keyed Event cannot be given the same key, so it is merged into
+   * that Event: its file sources are moved over, and the duplicate is deleted.
+   */
+  @Transactional
+  public void warm() {
+    final Set<String> existing = new HashSet<>(eventRepository.fetchAllNaturalKeys());
+    final List<Event> unkeyed = eventRepository.findAllByNaturalKeyIsNull();
+    final List<Event> duplicates = new ArrayList<>();
+    for (Event event : unkeyed) {
+      if (existing.add(event.computeNaturalKey())) {
+        event.updateNaturalKey();
+      } else {
+        duplicates.add(event);
+      }
+    }
+    // write the keys, so each duplicate can find the Event it duplicates
+    eventRepository.flush();
+    duplicates.forEach(this::mergeDuplicate);
+    if (!unkeyed.isEmpty()) {
+      logger.info(
+          "Assigned natural keys to {} existing Events; merged {} duplicates",
+          unkeyed.size() - duplicates.size(),
+          duplicates.size());
+    }
+    keys.addAll(existing);
+    warmed = true;
+    logger.info("Event key index warmed with {} keys", keys.size());
+  }
+
+  private void mergeDuplicate(@NotNull Event duplicate) {
+    final Event original =
+        eventRepository
+            .findByNaturalKey(duplicate.computeNaturalKey())
+            .orElseThrow(() -> new IllegalStateException("No keyed Event for: " + duplicate));
+    // moved in the database, since orphan removal would delete them if moved between collections
+    eventRepository.moveFileSources(
+        duplicate.getEventId().toString(), original.getEventId().toString());
+    eventRepository.delete(duplicate);
+    logger.warn("Merged duplicate Event: {} into: {}", duplicate, original);
+  }
+
+  /**
+   * Natural keys are computed from the names of an Event's Competition & Teams, so when a Team is
+   * renamed, the keys of its Matches are recomputed in the same transaction.
+   *
+   * @param team The renamed Team
+   */
+  @Transactional
+  public void rekeyEventsOf(@NotNull Team team) {
+    rekey(matchRepository.findAllById(matchRepository.fetchMatchIdsByTeam(team.getId())));
+  }
+
+  /**
+   * Recompute the keys of every Event of a renamed Competition.
+   *
+   * @param competition The renamed Competition
+   */
+  @Transactional
+  public void rekeyEventsOf(@NotNull Competition competition) {
+    rekey(eventRepository.fetchEventsByCompetition(competition.getId(), Pageable.unpaged()));
+  }
+
+  // previous keys are left in the index, which costs at most one lookup each
+  private void rekey(@NotNull Iterable<? extends Event> events) {
+    for (Event event : events) {
+      final String key = event.computeNaturalKey();
+      if (!key.equals(event.getNaturalKey())) {
+        event.updateNaturalKey();
+        keys.add(key);
+      }
+    }
+  }
+
+  /**
+   * Whether an Event with the given key may already be persisted. A false result is definitive;
+   * true means the database must be consulted. Before warm-up, always returns true.
+   *
+   * @param key A natural key, as computed by Event.computeNaturalKey()
+   * @return false if the Event certainly does not exist
+   */
+  public boolean mayContain(@NotNull String key) {
+    return !warmed || keys.contains(key);
+  }
+
+  public void add(@Nullable String key) {
+    if (key != null) {
+      keys.add(key);
+    }
+  }
+
+  public void remove(@Nullable String key) {
+    if (key != null) {
+      keys.remove(key);
+    }
+  }
+
+  public int size() {
+    return keys.size();
+  }
+}
@@ -28,26 +28,32 @@ import net.tomasbot.matchday.db.EventRepository;
 import net.tomasbot.matchday.model.Competition;
 import net.tomasbot.matchday.model.Event;
 import net.tomasbot.matchday.model.Event.EventSorter;
+import net.tomasbot.matchday.model.EventCursor;
 import net.tomasbot.matchday.model.Highlight;
+import net.tomasbot.matchday.model.IngestReport;
 import net.tomasbot.matchday.model.Match;
 import net.tomasbot.matchday.model.video.VideoFileSource;
 import net.tomasbot.matchday.model.video.VideoPlaylist;
 import net.tomasbot.matchday.model.video.VideoStreamLocatorPlaylist;
 import org.hibernate.Hibernate;
 import org.jetbrains.annotations.NotNull;
-import org.springframework.data.domain.Example;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Transactional
-public class EventService implements EntityService<Event, UUID> {
+public class EventService implements EntityService<Event, UUID>, BatchEntityService<Event> {
 
-  public static final Sort DEFAULT_EVENT_SORT = Sort.by(Direction.DESC, "date");
+  // ties are broken by ID, so every query for a page lists the same Events
+  public static final Sort DEFAULT_EVENT_SORT = Sort.by(Direction.DESC, "date", "eventId");
   private static final EventSorter EVENT_SORTER = new EventSorter();
   private final EventRepository eventRepository;
   private final MatchService matchService;
@@ -55,6 +61,8 @@ public class EventService implements EntityService<Event, UUID> {
   private final CompetitionService competitionService;
   private final VideoStreamingService streamingService;
   private final VideoStreamingService videoStreamingService;
+  private final EventKeyIndex eventKeyIndex;
+  private final TransactionTemplate transactionTemplate;
 
   EventService(
       EventRepository eventRepository,
@@ -62,27 +70,41 @@ public class EventService implements EntityService<Event, UUID> {
       HighlightService highlightService,
       CompetitionService competitionService,
       VideoStreamingService streamingService,
-      VideoStreamingService videoStreamingService) {
+      VideoStreamingService videoStreamingService,
+      EventKeyIndex eventKeyIndex,
+      TransactionTemplate transactionTemplate) {
     this.eventRepository = eventRepository;
     this.matchService = matchService;
     this.highlightService = highlightService;
     this.competitionService = competitionService;
     this.streamingService = streamingService;
     this.videoStreamingService = videoStreamingService;
+    this.eventKeyIndex = eventKeyIndex;
+    this.transactionTemplate = transactionTemplate;
   }
 
   @Override
   public Event initialize(@NotNull Event event) {
+    initializeForList(event);
+    Hibernate.initialize(event.getFileSources());
+    return event;
+  }
+
+  /**
+   * Initialize the parts of an Event which are shown when it is listed; video sources are left
+   * unloaded.
+   *
+   * @param event The Event
+   * @return The initialized Event
+   */
+  public Event initializeForList(@NotNull Event event) {
     final Competition competition = event.getCompetition();
     if (competition != null) {
       competitionService.initialize(competition);
     }
     if (event instanceof Match) {
-      matchService.initialize((Match) event);
-    } else if (event instanceof Highlight) {
-      highlightService.initialize((Highlight) event);
+      matchService.initializeForList((Match) event);
     }
-    Hibernate.initialize(event.getFileSources());
     Hibernate.initialize(event.getArtwork());
     return event;
   }
@@ -104,11 +126,29 @@ public class EventService implements EntityService<Event, UUID> {
 
   public Page<Event> fetchAllPaged(final int page, final int size) {
     final PageRequest request = PageRequest.of(page, size, DEFAULT_EVENT_SORT);
-    final Page<Event> eventPage = eventRepository.findAll(request);
-    eventPage.forEach(this::initialize);
+    final Page<Event> eventPage = eventRepository.fetchAllForList(request);
+    eventPage.forEach(this::initializeForList);
     return eventPage;
   }
 
+  /**
+   * Retrieve the Events which follow a cursor, newest first. The cost of each slice does not
+   * depend on how far into the list it is.
+   *
+   * @param cursor The position of the last Event already seen, or null for the newest Events
+   * @param size The maximum number of Events to retrieve
+   * @return A slice of Events
+   */
+  public Slice<Event> fetchSlice(@Nullable EventCursor cursor, final int size) {
+    final PageRequest request = PageRequest.ofSize(size);
+    final Slice<Event> events =
+        cursor == null
+            ? eventRepository.fetchLatest(request)
+            : eventRepository.fetchBefore(cursor.date(), cursor.eventId(), request);
+    events.forEach(this::initializeForList);
+    return events;
+  }
+
   /**
    * Retrieve all Events for a given Competition.
    *
@@ -119,7 +159,7 @@ public class EventService implements EntityService<Event, UUID> {
       @NotNull final UUID competitionId, final int page, final int size) {
     final PageRequest request = PageRequest.of(page, size, DEFAULT_EVENT_SORT);
     final Page<Event> events = eventRepository.fetchEventsByCompetition(competitionId, request);
-    events.forEach(this::initialize);
+    events.forEach(this::initializeForList);
     return events;
   }
 
@@ -127,8 +167,18 @@ public class EventService implements EntityService<Event, UUID> {
     return fetchById(eventId).map(Event::getFileSources);
   }
 
+  /**
+   * Find the persisted Event with the same identifying fields as the given Event, if any.
+   *
+   * @param event A (possibly unsaved) Event
+   * @return The matching persisted Event, or empty()
+   */
   public Optional<Event> fetchEventLike(@NotNull Event event) {
-    return eventRepository.findOne(Example.of(event));
+    final String naturalKey = event.computeNaturalKey();
+    if (!eventKeyIndex.mayContain(naturalKey)) {
+      return Optional.empty();
+    }
+    return eventRepository.findByNaturalKey(naturalKey);
   }
 
   /**
@@ -151,6 +201,24 @@ public class EventService implements EntityService<Event, UUID> {
     return saved;
   }
 
+  @Override
+  public void saveBatch(@NotNull List<? extends Event> batch, @NotNull IngestReport report) {
+    final List<Match> matches = new ArrayList<>();
+    for (Event event : batch) {
+      if (event instanceof Match match) {
+        matches.add(match);
+      } else {
+        try {
+          save(event);
+          report.recordCreated();
+        } catch (RuntimeException e) {
+          report.recordFailure(event, e);
+        }
+      }
+    }
+    matchService.saveBatch(matches, report);
+  }
+
   @Override
   public List<Event> saveAll(@NotNull Iterable<? extends Event> entities) {
     return StreamSupport.stream(entities.spliterator(), false)
@@ -190,14 +258,40 @@ public class EventService implements EntityService<Event, UUID> {
     eventRepository.deleteAll(events);
   }
 
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public Optional<VideoPlaylist> getPreferredPlaylist(@NotNull UUID eventId) {
-    return fetchById(eventId).flatMap(streamingService::getBestVideoStreamPlaylist);
+    final Optional<UUID> fileSrcId =
+        transactionTemplate.execute(
+            status ->
+                fetchById(eventId)
+                    .map(streamingService::getBestFileSource)
+                    .map(VideoFileSource::getFileSrcId));
+    return fileSrcId.flatMap(id -> getVideoStreamPlaylist(eventId, id));
   }
 
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public Optional<VideoPlaylist> getVideoStreamPlaylist(
       @NotNull UUID eventId, @NotNull UUID fileSrcId) {
-    return fetchById(eventId)
-        .flatMap(event -> streamingService.beginStreamingVideo(event, fileSrcId));
+    createVideoStream(eventId, fileSrcId);
+    return transactionTemplate.execute(
+        status ->
+            fetchById(eventId)
+                .flatMap(event -> streamingService.beginStreamingVideo(event, fileSrcId)));
+  }
+
+  /**
+   * Create the playlist of a file source, if it has none, before the transaction of the request
+   * begins. Concurrent first plays of a file source wait for one another here, and must not hold
+   * a connection while they do.
+   *
+   * @param eventId The ID of the Event
+   * @param fileSrcId The ID of one of its file sources
+   */
+  private void createVideoStream(@NotNull UUID eventId, @NotNull UUID fileSrcId) {
+    final Optional<VideoFileSource> fileSource =
+        transactionTemplate.execute(
+            status -> fetchById(eventId).map(event -> event.getFileSource(fileSrcId)));
+    fileSource.ifPresent(streamingService::getOrCreateVideoStream);
   }
 
   public VideoFileSource updateVideoFileSource(
@@ -228,9 +322,15 @@ public class EventService implements EntityService<Event, UUID> {
     }
   }
 
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public Optional<VideoPlaylist> downloadVideoStream(
       UUID eventId, UUID fileSrcId, UUID videoFileID) {
-    return fetchById(eventId)
-        .flatMap(event -> videoStreamingService.downloadVideoStream(event, fileSrcId, videoFileID));
+    createVideoStream(eventId, fileSrcId);
+    return transactionTemplate.execute(
+        status ->
+            fetchById(eventId)
+                .flatMap(
+                    event ->
+                        videoStreamingService.downloadVideoStream(event, fileSrcId, videoFileID)));
   }
 }
@@ -24,19 +24,27 @@ import static net.tomasbot.matchday.config.settings.EnabledFileServerPlugins.ENA
 import java.io.IOException;
 import java.net.URL;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.Getter;
+import net.tomasbot.matchday.api.service.SettingsService.SettingsUpdatedEvent;
 import net.tomasbot.matchday.db.FileServerUserRepo;
 import net.tomasbot.matchday.model.FileServerUser;
 import net.tomasbot.matchday.model.SecureCookie;
 import net.tomasbot.matchday.plugin.fileserver.FileServerPlugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.springframework.context.ApplicationListener;
 import org.springframework.http.HttpCookie;
+import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
 
 /**
@@ -52,6 +60,9 @@ public class FileServerPluginService {
   private final FileServerUserRepo userRepo;
   private final SecureDataService secureDataService;
   private final PluginService pluginService;
+  private final Map<UUID, FileServerPlugin> pluginsById;
+  // enabled plugins; read from settings when first needed after settings change
+  private volatile PluginRouting routing;
 
   FileServerPluginService(
       List<FileServerPlugin> fileServerPlugins,
@@ -62,13 +73,50 @@ public class FileServerPluginService {
     this.userRepo = userRepo;
     this.secureDataService = secureDataService;
     this.pluginService = pluginService;
+    this.pluginsById =
+        fileServerPlugins.stream()
+            .collect(Collectors.toMap(FileServerPlugin::getPluginId, Function.identity()));
+  }
+
+  private static @NotNull String getRoutingHost(@NotNull URL url) {
+    final String host = url.getHost().toLowerCase(Locale.ROOT);
+    return host.startsWith("www.") ? host.substring(4) : host;
   }
 
   // === Plugin management ===
   public List<FileServerPlugin> getEnabledPlugins() {
-    return this.fileServerPlugins.stream()
-        .filter(plugin -> pluginService.isPluginEnabled(plugin, ENABLED_FILESERVERS))
-        .collect(Collectors.toList());
+    return getRouting().enabled();
+  }
+
+  private @NotNull PluginRouting getRouting() {
+    PluginRouting current = routing;
+    if (current == null) {
+      synchronized (this) {
+        if (routing == null) {
+          routing = readRouting();
+        }
+        current = routing;
+      }
+    }
+    return current;
+  }
+
+  private @NotNull PluginRouting readRouting() {
+    final List<FileServerPlugin> enabled =
+        this.fileServerPlugins.stream()
+            .filter(plugin -> pluginService.isPluginEnabled(plugin, ENABLED_FILESERVERS))
+            .toList();
+    final Map<String, List<FileServerPlugin>> byHost = new HashMap<>();
+    for (FileServerPlugin plugin : enabled) {
+      byHost
+          .computeIfAbsent(getRoutingHost(plugin.getHostname()), host -> new ArrayList<>())
+          .add(plugin);
+    }
+    return new PluginRouting(enabled, byHost);
+  }
+
+  synchronized void clearRouting() {
+    routing = null;
   }
 
   /**
@@ -96,12 +144,7 @@ public class FileServerPluginService {
    * @return The requested file server plugin, or null if not found
    */
   public Optional<FileServerPlugin> getPluginById(@Nullable final UUID plugId) {
-    final FileServerPlugin serverPlugin =
-        fileServerPlugins.stream()
-            .collect(Collectors.toMap(FileServerPlugin::getPluginId, plugin -> plugin))
-            .get(plugId);
-
-    return (serverPlugin != null) ? Optional.of(serverPlugin) : Optional.empty();
+    return plugId != null ? Optional.ofNullable(pluginsById.get(plugId)) : Optional.empty();
   }
 
   /**
@@ -192,12 +235,21 @@ public class FileServerPluginService {
    * @return The first registered file server manager which can handle the URL.
    */
   public @Nullable FileServerPlugin getEnabledPluginForUrl(@NotNull final URL url) {
-    // search only ENABLED plugins
-    for (final FileServerPlugin plugin : getEnabledPlugins()) {
+    final PluginRouting routing = getRouting();
+    // plugins hosted where the URL points are tried first
+    final List<FileServerPlugin> hosted =
+        routing.byHost().getOrDefault(getRoutingHost(url), List.of());
+    for (final FileServerPlugin plugin : hosted) {
       if (plugin.acceptsUrl(url)) {
         return plugin;
       }
     }
+    // a plugin may also accept links to hosts other than its own
+    for (final FileServerPlugin plugin : routing.enabled()) {
+      if (!hosted.contains(plugin) && plugin.acceptsUrl(url)) {
+        return plugin;
+      }
+    }
     // No suitable plugin found
     return null;
   }
@@ -218,4 +270,24 @@ public class FileServerPluginService {
     // No logged-in users for this plugin
     return null;
   }
+
+  private record PluginRouting(
+      List<FileServerPlugin> enabled, Map<String, List<FileServerPlugin>> byHost) {}
+
+  @Component
+  public static final class SettingsUpdatedListener
+      implements ApplicationListener<SettingsUpdatedEvent> {
+
+    private final FileServerPluginService pluginService;
+
+    public SettingsUpdatedListener(FileServerPluginService pluginService) {
+      this.pluginService = pluginService;
+    }
+
+    // plugins are enabled & disabled through settings
+    @Override
+    public void onApplicationEvent(@NotNull SettingsUpdatedEvent event) {
+      pluginService.clearRouting();
+    }
+  }
 }
@@ -29,7 +29,6 @@ import net.tomasbot.matchday.model.Event.EventSorter;
 import net.tomasbot.matchday.model.Highlight;
 import org.hibernate.Hibernate;
 import org.jetbrains.annotations.NotNull;
-import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -41,16 +40,24 @@ public class HighlightService implements EntityService<Highlight, UUID> {
 
   private final HighlightRepository highlightRepository;
   private final EntityCorrectionService entityCorrectionService;
+  private final EventKeyIndex eventKeyIndex;
+  private final ProperNameIndex properNameIndex;
 
   public HighlightService(
-      HighlightRepository highlightRepository, EntityCorrectionService entityCorrectionService) {
+      HighlightRepository highlightRepository,
+      EntityCorrectionService entityCorrectionService,
+      EventKeyIndex eventKeyIndex,
+      ProperNameIndex properNameIndex) {
     this.highlightRepository = highlightRepository;
     this.entityCorrectionService = entityCorrectionService;
+    this.eventKeyIndex = eventKeyIndex;
+    this.properNameIndex = properNameIndex;
   }
 
   @Override
   public Highlight initialize(@NotNull Highlight highlight) {
     Hibernate.initialize(highlight);
+    Hibernate.initialize(highlight.getFileSources());
     return highlight;
   }
 
@@ -92,31 +99,25 @@ public class HighlightService implements EntityService<Highlight, UUID> {
     try {
       entityCorrectionService.correctEntityFields(highlight);
       // See if Event already exists in DB
-      final Optional<Highlight> eventOptional =
-          highlightRepository.findOne(getExampleEvent(highlight));
-      if (eventOptional.isPresent()) {
-        final Highlight existingEvent = eventOptional.get();
-        existingEvent.addAllFileSources(highlight.getFileSources());
-        return existingEvent;
+      final String naturalKey = highlight.computeNaturalKey();
+      if (eventKeyIndex.mayContain(naturalKey)) {
+        final Optional<Highlight> eventOptional = highlightRepository.findByNaturalKey(naturalKey);
+        if (eventOptional.isPresent()) {
+          final Highlight existingEvent = eventOptional.get();
+          existingEvent.addAllFileSources(highlight.getFileSources());
+          return existingEvent;
+        }
       }
       final Highlight saved = highlightRepository.save(highlight);
+      eventKeyIndex.add(naturalKey);
+      // a new Competition may have been persisted by cascade
+      properNameIndex.indexAfterCommit(saved.getCompetition());
       return initialize(saved);
     } catch (ReflectiveOperationException e) {
       throw new RuntimeException(e);
     }
   }
 
-  private @NotNull Example<Highlight> getExampleEvent(@NotNull Highlight highlight) {
-    final Highlight example =
-        Highlight.highlightBuilder()
-            .competition(highlight.getCompetition())
-            .season(highlight.getSeason())
-            .fixture(highlight.getFixture())
-            .date(highlight.getDate())
-            .build();
-    return Example.of(example);
-  }
-
   @Override
   public List<Highlight> saveAll(@NotNull Iterable<? extends Highlight> highlights) {
     return StreamSupport.stream(highlights.spliterator(), false)
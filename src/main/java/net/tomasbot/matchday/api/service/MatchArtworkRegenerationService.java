@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.tomasbot.matchday.api.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import net.tomasbot.matchday.db.MatchRepository;
+import net.tomasbot.matchday.model.ArtworkRegenerationJob;
+import net.tomasbot.matchday.model.ArtworkRegenerationJob.Failure;
+import net.tomasbot.matchday.model.Match;
+import net.tomasbot.matchday.util.TransactionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Re-renders Match artwork which has gone stale because something it was drawn from (a Team emblem
+ * or Team colors) has changed. Matches are rendered in parallel batches, one transaction per batch;
+ * replaced artwork files are only removed once the batch has committed.
+ */
+@Service
+public class MatchArtworkRegenerationService {
+
+  private static final Logger logger = LogManager.getLogger(MatchArtworkRegenerationService.class);
+  private static final int MAX_RETAINED_JOBS = 50;
+
+  private final MatchRepository matchRepository;
+  private final MatchArtworkService artworkService;
+  private final TaskExecutor regenerator;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final Map<UUID, ArtworkRegenerationJob> jobs =
+      Collections.synchronizedMap(
+          new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, ArtworkRegenerationJob> eldest) {
+              return size() > MAX_RETAINED_JOBS;
+            }
+          });
+
+  public MatchArtworkRegenerationService(
+      MatchRepository matchRepository,
+      MatchArtworkService artworkService,
+      @Qualifier("MatchArtworkRegenerator") TaskExecutor regenerator,
+      TransactionTemplate transactionTemplate,
+      @Value("${artwork.regenerate.batch-size}") int batchSize) {
+    this.matchRepository = matchRepository;
+    this.artworkService = artworkService;
+    this.regenerator = regenerator;
+    this.transactionTemplate = transactionTemplate;
+    this.batchSize = Math.max(1, batchSize);
+  }
+
+  /**
+   * Regenerate artwork for all Matches of a Team once the current transaction (which changed the
+   * Team) commits.
+   *
+   * @param teamId The ID of the changed Team
+   */
+  public void regenerateForTeamAfterCommit(@NotNull UUID teamId) {
+    TransactionUtils.afterCommit(() -> regenerateForTeam(teamId));
+  }
+
+  public ArtworkRegenerationJob regenerateForTeam(@NotNull UUID teamId) {
+    return regenerate("Team: " + teamId, matchRepository.fetchMatchIdsByTeam(teamId));
+  }
+
+  public ArtworkRegenerationJob regenerateForCompetition(@NotNull UUID competitionId) {
+    final List<UUID> matchIds = matchRepository.fetchMatchIdsByCompetition(competitionId);
+    return regenerate("Competition: " + competitionId, matchIds);
+  }
+
+  public ArtworkRegenerationJob regenerateAll() {
+    return regenerate("All Matches", matchRepository.fetchAllMatchIds());
+  }
+
+  /**
+   * Start regenerating artwork for the given Matches. Returns immediately; the returned job reports
+   * progress as batches complete.
+   *
+   * @param trigger Describes why the artwork is being regenerated
+   * @param matchIds The IDs of Matches to re-render
+   * @return The running job
+   */
+  public ArtworkRegenerationJob regenerate(
+      @NotNull String trigger, @NotNull Collection<UUID> matchIds) {
+    final List<UUID> ids = new ArrayList<>(new LinkedHashSet<>(matchIds));
+    final ArtworkRegenerationJob job = new ArtworkRegenerationJob(trigger, ids.size());
+    jobs.put(job.getJobId(), job);
+    logger.info("Regenerating artwork for {} Matches; trigger: {}", ids.size(), trigger);
+
+    for (int i = 0; i < ids.size(); i += batchSize) {
+      final List<UUID> batch = List.copyOf(ids.subList(i, Math.min(i + batchSize, ids.size())));
+      try {
+        regenerator.execute(() -> renderBatch(job, batch));
+      } catch (TaskRejectedException e) {
+        job.recordBatch(0, toFailures(batch, "Regeneration was rejected: " + e.getMessage()));
+      }
+    }
+    return job;
+  }
+
+  public Optional<ArtworkRegenerationJob> fetchJob(@NotNull UUID jobId) {
+    return Optional.ofNullable(jobs.get(jobId));
+  }
+
+  public List<ArtworkRegenerationJob> fetchAllJobs() {
+    synchronized (jobs) {
+      return new ArrayList<>(jobs.values());
+    }
+  }
+
+  private void renderBatch(@NotNull ArtworkRegenerationJob job, @NotNull List<UUID> batch) {
+    final List<Failure> failures = new ArrayList<>();
+    int rendered = 0;
+    try {
+      final Integer committed =
+          transactionTemplate.execute(status -> renderMatches(batch, failures));
+      rendered = committed != null ? committed : 0;
+    } catch (RuntimeException e) {
+      // the whole batch was rolled back
+      logger.error("Artwork regeneration batch failed: {}", e.getMessage(), e);
+      failures.clear();
+      failures.addAll(toFailures(batch, e.getMessage()));
+    }
+    job.recordBatch(rendered, failures);
+    logger.info(
+        "Regenerated artwork for {} of {} Matches ({} failed); trigger: {}",
+        job.getProcessed(),
+        job.getTotal(),
+        job.getFailed(),
+        job.getTrigger());
+  }
+
+  private int renderMatches(@NotNull List<UUID> batch, @NotNull List<Failure> failures) {
+    int rendered = 0;
+    for (UUID matchId : batch) {
+      final Optional<Match> matchOptional = matchRepository.findById(matchId);
+      if (matchOptional.isEmpty()) {
+        failures.add(new Failure(matchId, "Match no longer exists"));
+        continue;
+      }
+      final Match match = matchOptional.get();
+      try {
+        match.setArtwork(artworkService.makeMatchArtwork(match));
+        rendered++;
+      } catch (IOException e) {
+        failures.add(new Failure(matchId, e.getMessage()));
+      }
+    }
+    return rendered;
+  }
+
+  private static @NotNull List<Failure> toFailures(
+      @NotNull Collection<UUID> matchIds, String reason) {
+    return matchIds.stream().map(id -> new Failure(id, reason)).toList();
+  }
+}
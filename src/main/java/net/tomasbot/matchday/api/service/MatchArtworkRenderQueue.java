@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.tomasbot.matchday.api.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import net.tomasbot.matchday.db.MatchRepository;
+import net.tomasbot.matchday.util.TransactionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Renders Match artwork in the background, off the ingest path. Requests for a Match which is
+ * already queued or rendering are coalesced into the pending render.
+ */
+@Service
+public class MatchArtworkRenderQueue {
+
+  private static final Logger logger = LogManager.getLogger(MatchArtworkRenderQueue.class);
+
+  private final MatchRepository matchRepository;
+  private final MatchArtworkService artworkService;
+  private final TaskExecutor renderer;
+  private final TransactionTemplate transactionTemplate;
+  private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+
+  public MatchArtworkRenderQueue(
+      MatchRepository matchRepository,
+      MatchArtworkService artworkService,
+      @Qualifier("MatchArtworkRenderer") TaskExecutor renderer,
+      TransactionTemplate transactionTemplate) {
+    this.matchRepository = matchRepository;
+    this.artworkService = artworkService;
+    this.renderer = renderer;
+    this.transactionTemplate = transactionTemplate;
+  }
+
+  /**
+   * Queue artwork for the given Match once the current transaction commits, so the render thread
+   * can see it.
+   *
+   * @param matchId The ID of a Match which has no artwork
+   */
+  public void enqueueAfterCommit(@NotNull UUID matchId) {
+    TransactionUtils.afterCommit(() -> enqueue(matchId));
+  }
+
+  public void enqueue(@NotNull UUID matchId) {
+    if (!pending.add(matchId)) {
+      logger.debug("Artwork for Match: {} is already pending", matchId);
+      return;
+    }
+    try {
+      renderer.execute(() -> render(matchId));
+    } catch (TaskRejectedException e) {
+      // will be rendered on demand instead
+      pending.remove(matchId);
+      logger.warn("Artwork render queue is full; skipped Match: {}", matchId);
+    }
+  }
+
+  public boolean isPending(@NotNull UUID matchId) {
+    return pending.contains(matchId);
+  }
+
+  public int getPendingCount() {
+    return pending.size();
+  }
+
+  private void render(@NotNull UUID matchId) {
+    try {
+      transactionTemplate.executeWithoutResult(
+          status ->
+              matchRepository
+                  .findById(matchId)
+                  .filter(match -> match.getArtwork() == null)
+                  .ifPresent(
+                      match -> {
+                        try {
+                          match.setArtwork(artworkService.makeMatchArtwork(match));
+                        } catch (IOException e) {
+                          throw new UncheckedIOException(e);
+                        }
+                      }));
+      logger.debug("Rendered artwork for Match: {}", matchId);
+    } catch (RuntimeException e) {
+      logger.error("Could not render artwork for Match: {}; {}", matchId, e.getMessage(), e);
+    } finally {
+      pending.remove(matchId);
+    }
+  }
+}
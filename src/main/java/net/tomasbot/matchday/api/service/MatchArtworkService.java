@@ -5,6 +5,7 @@ import java.util.*;
 import net.tomasbot.matchday.model.*;
 import net.tomasbot.matchday.util.ResourceFileReader;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
@@ -26,18 +27,54 @@ public class MatchArtworkService {
     return ResourceFileReader.readBinaryData(DEFAULT_TEAM_EMBLEM);
   }
 
+  /**
+   * Describes everything about a Team that is drawn into Match artwork: the selected emblem and the
+   * Team colors. Whenever it changes, artwork for all Matches of that Team is stale.
+   *
+   * @param team A Team, which may be null
+   * @return A value which is equal for Teams which would be drawn identically
+   */
+  public static @NotNull String getArtworkSignature(@Nullable Team team) {
+    if (team == null) {
+      return "";
+    }
+    final StringBuilder sb = new StringBuilder();
+    final ArtworkCollection emblems = team.getEmblem();
+    final Artwork emblem = emblems != null ? emblems.getSelected() : null;
+    if (emblem != null) {
+      sb.append(emblem.getId()).append('@').append(emblem.getModified());
+    }
+    final List<Color> colors = team.getColors();
+    if (colors != null) {
+      for (Color color : colors) {
+        sb.append(String.format("|%d,%d,%d", color.getRed(), color.getGreen(), color.getBlue()));
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Render new artwork for a Match. Any existing artwork is replaced; its file is only removed once
+   * the new artwork has been committed.
+   *
+   * @param match The Match
+   * @return The new artwork, which the caller should assign to the Match
+   * @throws IOException If the artwork could not be rendered or written
+   */
   public Artwork makeMatchArtwork(@NotNull Match match) throws IOException {
+    final Collection<Param<?>> params = createMatchArtworkParams(match);
+    final Artwork artwork = artworkService.createArtwork(Match.class, params);
+    artworkService.deleteArtworkFromDiskOnRollback(artwork);
     final Artwork existingArtwork = match.getArtwork();
     if (existingArtwork != null) {
       match.setArtwork(null);
-      artworkService.deleteArtwork(existingArtwork);
+      artworkService.deleteArtworkAfterCommit(existingArtwork);
     }
-    final Collection<Param<?>> params = createMatchArtworkParams(match);
-    return artworkService.createArtwork(Match.class, params);
+    return artwork;
   }
 
-  private @NotNull @Unmodifiable Collection<Param<?>> createMatchArtworkParams(@NotNull Match match)
-      throws IOException {
+  private @NotNull @Unmodifiable Collection<Param<?>> createMatchArtworkParams(
+      @NotNull Match match) {
     final Team homeTeam = match.getHomeTeam();
     final Team awayTeam = match.getAwayTeam();
     // emblems
@@ -53,17 +90,21 @@ public class MatchArtworkService {
     return List.of(homeTeamEmblem, awayTeamEmblem, homeTeamColor, awayTeamColor, type);
   }
 
-  private @NotNull Param<?> createTeamEmblemParam(@NotNull Team team, @NotNull String tag)
-      throws IOException {
+  /**
+   * Emblems are passed by reference, so the renderer only reads & decodes them when it has no
+   * decoded copy of its own.
+   */
+  private @NotNull Param<ImageReference> createTeamEmblemParam(
+      @NotNull Team team, @NotNull String tag) {
     final Artwork emblem = team.getEmblem().getSelected();
-    byte[] data;
     if (emblem != null && emblem.getFile() != null) {
-      final Image image = artworkService.readArtworkData(emblem);
-      data = image.data();
-    } else {
-      data = readDefaultTeamEmblem();
+      final String key =
+          String.format("artwork-%d:%s:%s", emblem.getId(), emblem.getFile(), emblem.getModified());
+      return new Param<>(
+          tag, new ImageReference(key, () -> artworkService.readArtworkData(emblem).data()));
     }
-    return new Param<>(tag, data);
+    return new Param<>(
+        tag, new ImageReference(DEFAULT_TEAM_EMBLEM, MatchArtworkService::readDefaultTeamEmblem));
   }
 
   private Color @NotNull [] getContrastingTeamColors(@NotNull Team home, @NotNull Team away) {
@@ -73,10 +114,28 @@ public class MatchArtworkService {
     return colorPair != null ? colorPair : new Color[] {DEFAULT_HOME_COLOR, DEFAULT_AWAY_COLOR};
   }
 
+  /**
+   * An image to stand in for Match artwork which has not been rendered yet.
+   *
+   * @return Placeholder image data
+   */
+  public Image readPlaceholderArtwork() throws IOException {
+    return new Image(readDefaultTeamEmblem(), MediaType.IMAGE_PNG);
+  }
+
   public Image readArtworkData(@NotNull Artwork artwork) throws IOException {
     return artworkService.readArtworkData(artwork);
   }
 
+  public ImageResource readArtworkResource(@NotNull Artwork artwork) throws IOException {
+    return artworkService.readArtworkResource(artwork);
+  }
+
+  public ImageResource readArtworkResource(@NotNull Artwork artwork, int size)
+      throws IOException {
+    return artworkService.readArtworkResource(artwork, size);
+  }
+
   public void deleteArtworkFromDisk(Artwork artwork) throws IOException {
     artworkService.deleteArtworkFromDisk(artwork);
   }
@@ -20,9 +20,15 @@
 package net.tomasbot.matchday.api.service;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import net.tomasbot.matchday.api.service.video.VideoStreamingService;
@@ -32,43 +38,55 @@ import net.tomasbot.matchday.model.Event.EventSorter;
 import net.tomasbot.matchday.model.validation.EventValidator;
 import net.tomasbot.matchday.model.video.VideoFilePack;
 import net.tomasbot.matchday.model.video.VideoFileSource;
+import net.tomasbot.matchday.util.TransactionUtils;
 import org.hibernate.Hibernate;
 import org.jetbrains.annotations.NotNull;
-import org.springframework.data.domain.Example;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional
-public class MatchService implements EntityService<Match, UUID> {
+public class MatchService implements EntityService<Match, UUID>, BatchEntityService<Match> {
 
   private static final EventSorter EVENT_SORTER = new EventSorter();
 
   private final MatchRepository matchRepository;
   private final MatchArtworkService artworkService;
+  private final MatchArtworkRenderQueue artworkRenderQueue;
   private final TeamService teamService;
   private final CompetitionService competitionService;
   private final VideoStreamingService streamingService;
   private final EventValidator eventValidator;
   private final EntityCorrectionService entityCorrectionService;
+  private final EventKeyIndex eventKeyIndex;
+  private final ProperNameIndex properNameIndex;
 
   public MatchService(
       MatchRepository matchRepository,
       MatchArtworkService artworkService,
+      MatchArtworkRenderQueue artworkRenderQueue,
       TeamService teamService,
       CompetitionService competitionService,
       VideoStreamingService streamingService,
       EventValidator eventValidator,
-      EntityCorrectionService entityCorrectionService) {
+      EntityCorrectionService entityCorrectionService,
+      EventKeyIndex eventKeyIndex,
+      ProperNameIndex properNameIndex) {
     this.matchRepository = matchRepository;
     this.artworkService = artworkService;
+    this.artworkRenderQueue = artworkRenderQueue;
     this.entityCorrectionService = entityCorrectionService;
     this.teamService = teamService;
     this.competitionService = competitionService;
     this.streamingService = streamingService;
     this.eventValidator = eventValidator;
+    this.eventKeyIndex = eventKeyIndex;
+    this.properNameIndex = properNameIndex;
   }
 
   private static void nullifyVideoFileIds(@NotNull Match match) {
@@ -82,6 +100,19 @@ public class MatchService implements EntityService<Match, UUID> {
 
   @Override
   public Match initialize(@NotNull Match match) {
+    initializeForList(match);
+    Hibernate.initialize(match.getFileSources());
+    return match;
+  }
+
+  /**
+   * Initialize what is rendered when a Match is listed: its Competition, Teams & Artwork, but not
+   * its video sources.
+   *
+   * @param match The Match
+   * @return The initialized Match
+   */
+  public Match initializeForList(@NotNull Match match) {
     final Competition competition = match.getCompetition();
     if (competition != null) {
       competitionService.initialize(competition);
@@ -126,8 +157,8 @@ public class MatchService implements EntityService<Match, UUID> {
 
   public Page<Match> fetchAllPaged(final int page, final int size) {
     final PageRequest request = PageRequest.of(page, size, EventService.DEFAULT_EVENT_SORT);
-    final Page<Match> matches = matchRepository.findAll(request);
-    matches.forEach(this::initialize);
+    final Page<Match> matches = matchRepository.fetchAllForList(request);
+    matches.forEach(this::initializeForList);
     return matches;
   }
 
@@ -140,7 +171,64 @@ public class MatchService implements EntityService<Match, UUID> {
   public Page<Match> fetchMatchesForTeam(@NotNull UUID teamId, int page, int size) {
     PageRequest request = PageRequest.of(page, size);
     Page<Match> matches = matchRepository.fetchMatchesByTeam(teamId, request);
-    matches.forEach(this::initialize);
+    matches.forEach(this::initializeForList);
+    return matches;
+  }
+
+  /**
+   * Retrieve the Matches which follow a cursor, newest first, without counting or skipping rows.
+   *
+   * @param cursor The position of the last Match already seen, or null for the newest Matches
+   * @param size The maximum number of Matches to retrieve
+   * @return A slice of Matches
+   */
+  public Slice<Match> fetchSlice(@Nullable EventCursor cursor, final int size) {
+    final PageRequest request = PageRequest.ofSize(size);
+    final Slice<Match> matches =
+        cursor == null
+            ? matchRepository.fetchLatest(request)
+            : matchRepository.fetchBefore(cursor.date(), cursor.eventId(), request);
+    matches.forEach(this::initializeForList);
+    return matches;
+  }
+
+  /**
+   * Visit every Match, newest first, reading them from the database one slice at a time, so that
+   * they need not all be held in memory at once.
+   *
+   * @param size The number of Matches to read at a time
+   * @param action Receives each slice of fully initialized Matches
+   */
+  public void forEachSlice(final int size, @NotNull Consumer<? super List<Match>> action) {
+    final PageRequest request = PageRequest.ofSize(size);
+    Slice<Match> matches = matchRepository.fetchLatest(request);
+    while (true) {
+      matches.forEach(this::initialize);
+      action.accept(matches.getContent());
+      if (!matches.hasNext()) {
+        return;
+      }
+      final EventCursor cursor = EventCursor.after(matches.getContent());
+      matches = matchRepository.fetchBefore(cursor.date(), cursor.eventId(), request);
+    }
+  }
+
+  /**
+   * Retrieve the Matches of a Team which follow a cursor, newest first.
+   *
+   * @param teamId The ID of the Team
+   * @param cursor The position of the last Match already seen, or null for the newest Matches
+   * @param size The maximum number of Matches to retrieve
+   * @return A slice of Matches
+   */
+  public Slice<Match> fetchMatchesForTeam(
+      @NotNull UUID teamId, @Nullable EventCursor cursor, final int size) {
+    final PageRequest request = PageRequest.ofSize(size);
+    final Slice<Match> matches =
+        cursor == null
+            ? matchRepository.fetchLatestByTeam(teamId, request)
+            : matchRepository.fetchByTeamBefore(teamId, cursor.date(), cursor.eventId(), request);
+    matches.forEach(this::initializeForList);
     return matches;
   }
 
@@ -156,19 +244,44 @@ public class MatchService implements EntityService<Match, UUID> {
     throw new IllegalArgumentException("Cannot refresh Artwork for non-existent Match: " + matchId);
   }
 
-  public Image fetchMatchArtwork(@NotNull UUID matchId) throws IOException {
-    final Optional<Match> optional = fetchById(matchId);
-    if (optional.isPresent()) {
-      final Match match = optional.get();
-      final Artwork artwork = match.getArtwork();
-      if (artwork != null) {
-        return artworkService.readArtworkData(artwork);
-      }
-      // else...
-      throw new IllegalArgumentException("No artwork for match: " + matchId);
+  public ImageResource fetchMatchArtwork(@NotNull UUID matchId) throws IOException {
+    final Artwork artwork = getRenderedMatchArtwork(matchId);
+    return artwork != null ? artworkService.readArtworkResource(artwork) : readPlaceholderArtwork();
+  }
+
+  public ImageResource fetchMatchArtwork(@NotNull UUID matchId, int size) throws IOException {
+    final Artwork artwork = getRenderedMatchArtwork(matchId);
+    return artwork != null
+        ? artworkService.readArtworkResource(artwork, size)
+        : readPlaceholderArtwork();
+  }
+
+  /**
+   * @return The artwork of the Match, rendering it now if it is not already queued; null if it is
+   *     queued
+   */
+  private Artwork getRenderedMatchArtwork(@NotNull UUID matchId) throws IOException {
+    final Match match =
+        fetchById(matchId)
+            .orElseThrow(
+                () ->
+                    new IllegalArgumentException(
+                        "Cannot fetch Artwork for non-existent Match: " + matchId));
+    final Artwork artwork = match.getArtwork();
+    if (artwork != null || artworkRenderQueue.isPending(matchId)) {
+      return artwork;
     }
-    // else...
-    throw new IllegalArgumentException("Cannot fetch Artwork for non-existent Match: " + matchId);
+    // not queued; render on demand
+    final Artwork rendered = artworkService.makeMatchArtwork(match);
+    match.setArtwork(rendered);
+    return rendered;
+  }
+
+  private @NotNull ImageResource readPlaceholderArtwork() throws IOException {
+    final Image placeholder = artworkService.readPlaceholderArtwork();
+    final byte[] data = placeholder.data();
+    return new ImageResource(
+        new ByteArrayResource(data), placeholder.contentType(), data.length, null);
   }
 
   public Artwork fetchMatchArtworkMetadata(@NotNull UUID matchId) {
@@ -190,35 +303,94 @@ public class MatchService implements EntityService<Match, UUID> {
       entityCorrectionService.correctEntityFields(match);
       eventValidator.validate(match);
       // see if Match already exists in DB
-      final Optional<Match> eventOptional = matchRepository.findOne(getExampleEvent(match));
-      if (eventOptional.isPresent()) {
-        Match existing = eventOptional.get();
-        existing.addAllFileSources(match.getFileSources());
-        return existing;
+      final String naturalKey = match.computeNaturalKey();
+      if (eventKeyIndex.mayContain(naturalKey)) {
+        final Optional<Match> eventOptional = matchRepository.findByNaturalKey(naturalKey);
+        if (eventOptional.isPresent()) {
+          Match existing = eventOptional.get();
+          existing.addAllFileSources(match.getFileSources());
+          return existing;
+        }
       }
 
       final Match entity = matchRepository.saveAndFlush(match);
-      // ensure Artwork is attached
+      eventKeyIndex.add(entity.getNaturalKey());
+      indexProperNames(entity);
       if (entity.getArtwork() == null) {
-        final Artwork artwork = artworkService.makeMatchArtwork(entity);
-        entity.setArtwork(artwork);
+        artworkRenderQueue.enqueueAfterCommit(entity.getEventId());
       }
       return initialize(entity);
-    } catch (ReflectiveOperationException | IOException e) {
+    } catch (ReflectiveOperationException e) {
       throw new RuntimeException(e);
     }
   }
 
-  private @NotNull Example<Match> getExampleEvent(@NotNull Match match) {
-    final Match exampleEvent =
-        Match.builder()
-            .competition(match.getCompetition())
-            .season(match.getSeason())
-            .fixture(match.getFixture())
-            .homeTeam(match.getHomeTeam())
-            .awayTeam(match.getAwayTeam())
-            .build();
-    return Example.of(exampleEvent);
+  @Override
+  public void saveBatch(@NotNull List<? extends Match> batch, @NotNull IngestReport report) {
+    // correct & validate; teams & competitions are resolved once per batch
+    final EntityCorrectionService.Corrections corrections =
+        new EntityCorrectionService.Corrections();
+    final List<Match> valid = new ArrayList<>(batch.size());
+    for (Match match : batch) {
+      try {
+        entityCorrectionService.correctEntityFields(match, corrections);
+        eventValidator.validate(match);
+        valid.add(match);
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        report.recordFailure(match, e);
+      }
+    }
+
+    // dedupe against existing Matches & each other
+    final Map<String, Match> known = fetchExistingMatches(valid);
+    final List<Match> created = new ArrayList<>();
+    for (Match match : valid) {
+      final String key = match.computeNaturalKey();
+      final Match existing = known.get(key);
+      if (existing != null) {
+        existing.addAllFileSources(match.getFileSources());
+        report.recordMerged();
+      } else {
+        known.put(key, match);
+        created.add(match);
+      }
+    }
+
+    matchRepository.saveAll(created);
+    matchRepository.flush();
+    for (Match match : created) {
+      eventKeyIndex.add(match.getNaturalKey());
+      indexProperNames(match);
+      report.recordCreated();
+      if (match.getArtwork() == null) {
+        artworkRenderQueue.enqueueAfterCommit(match.getEventId());
+      }
+    }
+  }
+
+  /** New Teams & Competitions may be persisted by cascade, bypassing their own services. */
+  private void indexProperNames(@NotNull Match match) {
+    properNameIndex.indexAfterCommit(match.getCompetition());
+    properNameIndex.indexAfterCommit(match.getHomeTeam());
+    properNameIndex.indexAfterCommit(match.getAwayTeam());
+  }
+
+  private @NotNull Map<String, Match> fetchExistingMatches(@NotNull List<Match> matches) {
+    final Set<String> candidates = new HashSet<>();
+    for (Match match : matches) {
+      final String naturalKey = match.computeNaturalKey();
+      if (eventKeyIndex.mayContain(naturalKey)) {
+        candidates.add(naturalKey);
+      }
+    }
+
+    final Map<String, Match> existing = new HashMap<>();
+    if (!candidates.isEmpty()) {
+      matchRepository
+          .findAllByNaturalKeyIn(candidates)
+          .forEach(match -> existing.put(match.getNaturalKey(), match));
+    }
+    return existing;
   }
 
   @Override
@@ -291,6 +463,9 @@ public class MatchService implements EntityService<Match, UUID> {
         throw new IOException("Cannot delete Match: found existing video streams");
       }
       matchRepository.deleteById(matchId);
+      // a rolled back delete must not leave the Match missing from the index
+      final String naturalKey = match.getNaturalKey();
+      TransactionUtils.afterCommit(() -> eventKeyIndex.remove(naturalKey));
       artworkService.deleteArtworkFromDisk(match.getArtwork());
     } else {
       throw new IllegalArgumentException("No Match found with ID: " + matchId);
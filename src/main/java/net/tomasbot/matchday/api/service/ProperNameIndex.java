@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.tomasbot.matchday.api.service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import net.tomasbot.matchday.db.CompetitionRepository;
+import net.tomasbot.matchday.db.TeamRepository;
+import net.tomasbot.matchday.model.Competition;
+import net.tomasbot.matchday.model.ProperName;
+import net.tomasbot.matchday.model.Synonym;
+import net.tomasbot.matchday.model.Team;
+import net.tomasbot.matchday.util.TransactionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maps the normalized ProperNames and Synonyms of all Teams and Competitions to the entity they
+ * name. Changes are applied only once the writing transaction commits, so the index never reflects
+ * data which was rolled back.
+ */
+@Service
+public class ProperNameIndex {
+
+  private static final Logger logger = LogManager.getLogger(ProperNameIndex.class);
+
+  private final TeamRepository teamRepository;
+  private final CompetitionRepository competitionRepository;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final Map<UUID, Set<String>> namesByEntity = new ConcurrentHashMap<>();
+  private volatile boolean warmed = false;
+
+  public ProperNameIndex(
+      TeamRepository teamRepository, CompetitionRepository competitionRepository) {
+    this.teamRepository = teamRepository;
+    this.competitionRepository = competitionRepository;
+  }
+
+  private static @NotNull String normalize(@NotNull String name) {
+    return name.trim().toLowerCase(Locale.ROOT);
+  }
+
+  /** Load the names of all Teams and Competitions; called at startup, or on first use. */
+  @Transactional(readOnly = true)
+  public synchronized void warm() {
+    if (warmed) {
+      return;
+    }
+    teamRepository.findAll().forEach(team -> put(Team.class, team.getId(), team.getName()));
+    competitionRepository
+        .findAll()
+        .forEach(competition -> put(Competition.class, competition.getId(), competition.getName()));
+    warmed = true;
+    logger.info("ProperName index warmed with {} names", entries.size());
+  }
+
+  /**
+   * Find the entity of the given type which is known by the given name or synonym.
+   *
+   * @param type Team or Competition
+   * @param name A ProperName or Synonym
+   * @return The index entry for the named entity, or empty() if it is unknown
+   */
+  public Optional<Entry> resolve(@NotNull Class<?> type, @NotNull String name) {
+    return lookup(name).filter(entry -> entry.type().equals(type));
+  }
+
+  /**
+   * Find whichever entity is known by the given name or synonym.
+   *
+   * @param name A ProperName or Synonym
+   * @return The index entry for the named entity, or empty() if it is unknown
+   */
+  public Optional<Entry> lookup(@NotNull String name) {
+    if (!warmed) {
+      warm();
+    }
+    return Optional.ofNullable(entries.get(normalize(name)));
+  }
+
+  public void indexAfterCommit(@Nullable Team team) {
+    if (team != null) {
+      indexAfterCommit(Team.class, team.getId(), team.getName());
+    }
+  }
+
+  public void indexAfterCommit(@Nullable Competition competition) {
+    if (competition != null) {
+      indexAfterCommit(Competition.class, competition.getId(), competition.getName());
+    }
+  }
+
+  private void indexAfterCommit(
+      @NotNull Class<?> type, @Nullable UUID entityId, @Nullable ProperName name) {
+    if (entityId == null || name == null || name.getName() == null) {
+      return;
+    }
+    // copy names now; the entity may be detached or changed by the time the transaction commits
+    final ProperName snapshot = new ProperName(name.getName());
+    snapshot.setId(name.getId());
+    name.getSynonyms().forEach(synonym -> snapshot.addSynonym(new Synonym(synonym.getName())));
+    TransactionUtils.afterCommit(() -> put(type, entityId, snapshot));
+  }
+
+  public void removeAfterCommit(@Nullable UUID entityId) {
+    if (entityId != null) {
+      TransactionUtils.afterCommit(() -> remove(entityId));
+    }
+  }
+
+  public void removeNameAfterCommit(@Nullable String name) {
+    if (name != null) {
+      TransactionUtils.afterCommit(
+          () -> {
+            final Entry removed = entries.remove(normalize(name));
+            if (removed != null) {
+              final Set<String> names = namesByEntity.get(removed.entityId());
+              if (names != null) {
+                names.remove(normalize(name));
+              }
+            }
+          });
+    }
+  }
+
+  private synchronized void put(
+      @NotNull Class<?> type, @NotNull UUID entityId, @Nullable ProperName name) {
+    remove(entityId);
+    if (name == null || name.getName() == null) {
+      return;
+    }
+    final Set<String> names = ConcurrentHashMap.newKeySet();
+    final String properName = name.getName();
+    names.add(putEntry(properName, new Entry(type, entityId, name.getId(), properName, false)));
+    for (Synonym synonym : name.getSynonyms()) {
+      final Entry entry = new Entry(type, entityId, name.getId(), properName, true);
+      names.add(putEntry(synonym.getName(), entry));
+    }
+    namesByEntity.put(entityId, names);
+  }
+
+  private @NotNull String putEntry(@NotNull String name, @NotNull Entry entry) {
+    final String key = normalize(name);
+    final Entry previous = entries.put(key, entry);
+    if (previous != null && !previous.entityId().equals(entry.entityId())) {
+      logger.warn("Name [{}] was indexed for {}; now indexed for {}", name, previous, entry);
+    }
+    return key;
+  }
+
+  private synchronized void remove(@NotNull UUID entityId) {
+    final Set<String> names = namesByEntity.remove(entityId);
+    if (names != null) {
+      names.forEach(
+          name ->
+              entries.computeIfPresent(
+                  name, (key, entry) -> entry.entityId().equals(entityId) ? null : entry));
+    }
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * An indexed name.
+   *
+   * @param type The class of the named entity
+   * @param entityId The ID of the named entity
+   * @param properNameId The ID of the entity's ProperName
+   * @param properName The entity's ProperName
+   * @param synonym Whether the indexed name is a Synonym, rather than the ProperName itself
+   */
+  public record Entry(
+      Class<?> type, UUID entityId, Long properNameId, String properName, boolean synonym) {}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.tomasbot.matchday.api.service;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import net.tomasbot.matchday.db.CompetitionRepository;
+import net.tomasbot.matchday.db.EventRepository;
+import net.tomasbot.matchday.db.MatchRepository;
+import net.tomasbot.matchday.db.TeamRepository;
+import net.tomasbot.matchday.model.EntityRevision;
+import net.tomasbot.matchday.model.Revision;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Computes the validators of API resources from modification times alone, so a conditional request
+ * for an unchanged resource is answered without loading it. Pages are requested exactly as the
+ * corresponding services request them, so they list the same entities.
+ *
+ * <p>Events are rendered with their Competition & Teams; since those are rarely edited, the latest
+ * change to any of them revalidates every Event, rather than tracking which Events include them.
+ */
+@Service
+@Transactional(readOnly = true)
+public class RevisionService {
+
+  private final CompetitionRepository competitionRepository;
+  private final TeamRepository teamRepository;
+  private final MatchRepository matchRepository;
+  private final EventRepository eventRepository;
+
+  public RevisionService(
+      CompetitionRepository competitionRepository,
+      TeamRepository teamRepository,
+      MatchRepository matchRepository,
+      EventRepository eventRepository) {
+    this.competitionRepository = competitionRepository;
+    this.teamRepository = teamRepository;
+    this.matchRepository = matchRepository;
+    this.eventRepository = eventRepository;
+  }
+
+  private static @NotNull Revision ofPage(
+      @NotNull Slice<EntityRevision> page, Instant... dependencies) {
+    return Revision.of(page.getContent(), page.hasNext(), dependencies);
+  }
+
+  public @NotNull Revision fetchCompetitionsRevision() {
+    return Revision.of(competitionRepository.fetchRevisions(), false);
+  }
+
+  public Optional<Revision> fetchCompetitionRevision(@NotNull UUID competitionId) {
+    return competitionRepository.fetchRevision(competitionId).map(Revision::of);
+  }
+
+  public @NotNull Revision fetchTeamsRevision(int page, int size) {
+    final PageRequest request = PageRequest.of(page, size, TeamService.DEFAULT_TEAM_SORT);
+    return ofPage(teamRepository.fetchRevisions(request));
+  }
+
+  public Optional<Revision> fetchTeamRevision(@NotNull UUID teamId) {
+    return teamRepository.fetchRevision(teamId).map(Revision::of);
+  }
+
+  public @NotNull Revision fetchMatchesRevision(int page, int size) {
+    final PageRequest request = PageRequest.of(page, size, EventService.DEFAULT_EVENT_SORT);
+    return ofPage(matchRepository.fetchRevisions(request), getDependencies());
+  }
+
+  public Optional<Revision> fetchMatchRevision(@NotNull UUID matchId) {
+    return matchRepository
+        .fetchRevision(matchId)
+        .map(revision -> Revision.of(revision, getDependencies()));
+  }
+
+  public @NotNull Revision fetchEventsRevision(int page, int size) {
+    final PageRequest request = PageRequest.of(page, size, EventService.DEFAULT_EVENT_SORT);
+    return ofPage(eventRepository.fetchRevisions(request), getDependencies());
+  }
+
+  private Instant @NotNull [] getDependencies() {
+    return new Instant[] {
+      competitionRepository.fetchLastModified().orElse(null),
+      teamRepository.fetchLastModified().orElse(null)
+    };
+  }
+}
@@ -19,11 +19,15 @@
 
 package net.tomasbot.matchday.api.service;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
+import net.tomasbot.matchday.model.IngestReport;
 import net.tomasbot.matchday.model.Snapshot;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -32,23 +36,70 @@ public class SnapshotService {
   private static final Logger logger = LogManager.getLogger(SnapshotService.class);
 
   private final EntityServiceRegistry registry;
+  private final int batchSize;
 
-  public SnapshotService(EntityServiceRegistry registry) {
+  public SnapshotService(
+      EntityServiceRegistry registry, @Value("${snapshot.ingest.batch-size}") int batchSize) {
     this.registry = registry;
+    this.batchSize = Math.max(1, batchSize);
   }
 
-  public <T> void saveSnapshot(@NotNull Snapshot<T> snapshot, @NotNull Class<T> clazz) {
+  public <T> IngestReport saveSnapshot(@NotNull Snapshot<T> snapshot, @NotNull Class<T> clazz) {
 
     final EntityService<T, ?> service = registry.getServiceFor(clazz);
+    final IngestReport report = new IngestReport(clazz);
+    final List<T> batch = new ArrayList<>(batchSize);
     final Stream<T> data = snapshot.getData();
     data.forEach(
         datum -> {
-          try {
-            // send to appropriate service
-            service.save(datum);
-          } catch (Throwable e) {
-            logger.info("Did not save Entity of type: [{}]: {}", clazz.getName(), e.getMessage());
+          batch.add(datum);
+          if (batch.size() >= batchSize) {
+            saveBatch(service, batch, report);
+            batch.clear();
           }
         });
+    if (!batch.isEmpty()) {
+      saveBatch(service, batch, report);
+    }
+
+    report.complete();
+    logger.info("Snapshot ingest complete: {}", report);
+    for (IngestReport.Failure failure : report.getFailures()) {
+      logger.debug("Did not save Entity: {}; reason: {}", failure.entity(), failure.reason());
+    }
+    return report;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> void saveBatch(
+      @NotNull EntityService<T, ?> service, @NotNull List<T> batch, @NotNull IngestReport report) {
+    report.recordBatch(batch.size());
+    if (service instanceof BatchEntityService<?> batchService) {
+      try {
+        // only count the batch once it has been committed
+        final IngestReport batchReport = new IngestReport(report.getEntityType());
+        ((BatchEntityService<T>) batchService).saveBatch(batch, batchReport);
+        report.include(batchReport);
+        return;
+      } catch (Throwable e) {
+        logger.error(
+            "Batch of {} entities could not be saved; retrying individually: {}",
+            batch.size(),
+            e.getMessage());
+      }
+    }
+    // no batch support, or batch failed as a whole
+    batch.forEach(datum -> saveEach(service, datum, report));
+  }
+
+  private <T> void saveEach(
+      @NotNull EntityService<T, ?> service, @NotNull T datum, @NotNull IngestReport report) {
+    try {
+      // send to appropriate service
+      service.save(datum);
+      report.recordCreated();
+    } catch (Throwable e) {
+      report.recordFailure(datum, e);
+    }
   }
 }
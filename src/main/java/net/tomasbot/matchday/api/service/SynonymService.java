@@ -25,25 +25,43 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
+import net.tomasbot.matchday.db.CompetitionRepository;
 import net.tomasbot.matchday.db.ProperNameRepository;
 import net.tomasbot.matchday.db.SynonymRepository;
+import net.tomasbot.matchday.db.TeamRepository;
+import net.tomasbot.matchday.model.Competition;
 import net.tomasbot.matchday.model.Md5Id;
 import net.tomasbot.matchday.model.ProperName;
 import net.tomasbot.matchday.model.Synonym;
+import net.tomasbot.matchday.model.Team;
 import org.hibernate.Hibernate;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class SynonymService implements EntityService<Synonym, Md5Id> {
 
   private final SynonymRepository synonymRepository;
   private final ProperNameRepository properNameRepository;
+  private final TeamRepository teamRepository;
+  private final CompetitionRepository competitionRepository;
+  private final ProperNameIndex properNameIndex;
+  private final EntityCache entityCache;
 
   public SynonymService(
-      SynonymRepository synonymRepository, ProperNameRepository properNameRepository) {
+      SynonymRepository synonymRepository,
+      ProperNameRepository properNameRepository,
+      TeamRepository teamRepository,
+      CompetitionRepository competitionRepository,
+      ProperNameIndex properNameIndex,
+      EntityCache entityCache) {
     this.synonymRepository = synonymRepository;
     this.properNameRepository = properNameRepository;
+    this.teamRepository = teamRepository;
+    this.competitionRepository = competitionRepository;
+    this.properNameIndex = properNameIndex;
+    this.entityCache = entityCache;
   }
 
   @Override
@@ -126,18 +144,41 @@ public class SynonymService implements EntityService<Synonym, Md5Id> {
   }
 
   @Override
+  @Transactional
   public Synonym update(@NotNull Synonym synonym) {
     if (synonym.getId() == null) {
       throw new IllegalArgumentException("Trying to update unknown Synonym: " + synonym);
     }
+    markNamedModified(synonym.getName());
     return this.save(synonym);
   }
 
+  @Transactional
   public ProperName updateProperName(@NotNull ProperName updatedName) {
     deleteRemovedSynonyms(updatedName);
+    entityCache.evictAfterCompletion(updatedName);
     return updatedName;
   }
 
+  /**
+   * Synonyms change no column of the Team or Competition they name, so it is marked modified here;
+   * otherwise its revision, and so its ETag, would not change.
+   *
+   * @param synonym The name of a changed Synonym
+   */
+  private void markNamedModified(@NotNull String synonym) {
+    properNameRepository
+        .findProperNameForSynonym(synonym)
+        .map(ProperName::getName)
+        .ifPresent(
+            name -> {
+              teamRepository.findTeamByNameName(name).ifPresent(Team::markModified);
+              competitionRepository
+                  .findCompetitionByNameName(name)
+                  .ifPresent(Competition::markModified);
+            });
+  }
+
   private void deleteRemovedSynonyms(@NotNull ProperName updatedName) {
     properNameRepository
         .findById(updatedName.getId())
@@ -164,12 +205,29 @@ public class SynonymService implements EntityService<Synonym, Md5Id> {
   }
 
   @Override
+  @Transactional
   public void delete(@NotNull Md5Id id) {
+    synonymRepository
+        .findById(id)
+        .map(Synonym::getName)
+        .ifPresent(
+            name -> {
+              markNamedModified(name);
+              properNameIndex.removeNameAfterCommit(name);
+            });
     synonymRepository.deleteById(id);
+    entityCache.evictSynonymAfterCompletion(id);
   }
 
   @Override
+  @Transactional
   public void deleteAll(@NotNull Iterable<? extends Synonym> synonyms) {
+    synonyms.forEach(
+        synonym -> {
+          markNamedModified(synonym.getName());
+          properNameIndex.removeNameAfterCommit(synonym.getName());
+        });
     synonymRepository.deleteAll(synonyms);
+    synonyms.forEach(synonym -> entityCache.evictSynonymAfterCompletion(synonym.getId()));
   }
 }
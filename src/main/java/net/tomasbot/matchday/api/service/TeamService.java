@@ -21,6 +21,7 @@ package net.tomasbot.matchday.api.service;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -46,16 +47,28 @@ public class TeamService implements EntityService<Team, UUID> {
   private final TeamValidator validator;
   private final ArtworkService artworkService;
   private final SynonymService synonymService;
+  private final ProperNameIndex properNameIndex;
+  private final EntityCache entityCache;
+  private final MatchArtworkRegenerationService artworkRegenerationService;
+  private final EventKeyIndex eventKeyIndex;
   private final Map<ArtworkRole, Function<Team, ArtworkCollection>> methodRegistry;
 
   public TeamService(
       TeamRepository teamRepository,
       TeamValidator validator,
       ArtworkService artworkService,
-      SynonymService synonymService) {
+      SynonymService synonymService,
+      ProperNameIndex properNameIndex,
+      EntityCache entityCache,
+      MatchArtworkRegenerationService artworkRegenerationService,
+      EventKeyIndex eventKeyIndex) {
     this.teamRepository = teamRepository;
     this.artworkService = artworkService;
     this.synonymService = synonymService;
+    this.properNameIndex = properNameIndex;
+    this.entityCache = entityCache;
+    this.artworkRegenerationService = artworkRegenerationService;
+    this.eventKeyIndex = eventKeyIndex;
     this.validator = validator;
     this.methodRegistry = createMethodRegistry();
   }
@@ -99,9 +112,28 @@ public class TeamService implements EntityService<Team, UUID> {
     return teams;
   }
 
+  /**
+   * Visit every Team, by name, reading them from the database one page at a time.
+   *
+   * @param size The number of Teams to read at a time
+   * @param action Receives each page of initialized Teams
+   */
+  public void forEachPage(final int size, @NotNull Consumer<? super List<Team>> action) {
+    final Sort sort = DEFAULT_TEAM_SORT.and(Sort.by("id"));
+    Page<Team> teams = teamRepository.fetchAllForList(PageRequest.of(0, size, sort));
+    while (true) {
+      teams.forEach(this::initialize);
+      action.accept(teams.getContent());
+      if (!teams.hasNext()) {
+        return;
+      }
+      teams = teamRepository.fetchAllForList(teams.nextPageable());
+    }
+  }
+
   public Page<Team> fetchAllPaged(final int page, final int size) {
     final PageRequest request = PageRequest.of(page, size, DEFAULT_TEAM_SORT);
-    final Page<Team> teams = teamRepository.findAll(request);
+    final Page<Team> teams = teamRepository.fetchAllForList(request);
     teams.forEach(this::initialize);
     return teams;
   }
@@ -124,18 +156,38 @@ public class TeamService implements EntityService<Team, UUID> {
    * @return All Teams which have Events in the given Competition.
    */
   public List<Team> fetchTeamsByCompetitionId(@NotNull final UUID competitionId) {
-    final List<Team> homeTeams = teamRepository.fetchHomeTeamsByCompetition(competitionId);
-    final List<Team> awayTeams = teamRepository.fetchAwayTeamsByCompetition(competitionId);
-
-    // Combine results in a Set<> to ensure no duplicates
-    Set<Team> teamSet = new LinkedHashSet<>(homeTeams);
-    teamSet.addAll(awayTeams);
-    List<Team> teams = new ArrayList<>(teamSet);
-    teams.sort(Comparator.comparing(Team::getName));
+    // only the roster is cached; its Teams are read again, so are current
+    final List<Team> read = new ArrayList<>();
+    final List<UUID> roster = entityCache.getRoster(competitionId, id -> readRoster(id, read));
+    final List<Team> teams = read.isEmpty() ? readTeams(roster) : read;
     teams.forEach(this::initialize);
+    // a Team may have been renamed since the roster was cached
+    teams.sort(Comparator.comparing(Team::getName));
     return teams;
   }
 
+  private @NotNull List<UUID> readRoster(@NotNull UUID competitionId, @NotNull List<Team> read) {
+    read.addAll(teamRepository.fetchTeamsByCompetition(competitionId));
+    return read.stream().map(Team::getId).collect(Collectors.toList());
+  }
+
+  /**
+   * Read the Teams of a cached roster: from the second-level cache if all of them are there,
+   * otherwise all at once.
+   */
+  private @NotNull List<Team> readTeams(@NotNull List<UUID> roster) {
+    if (roster.isEmpty()) {
+      return new ArrayList<>();
+    }
+    if (entityCache.containsAll(Team.class, roster)) {
+      return roster.stream()
+          .map(teamRepository::findById)
+          .flatMap(Optional::stream)
+          .collect(Collectors.toCollection(ArrayList::new));
+    }
+    return new ArrayList<>(teamRepository.fetchTeamsById(roster));
+  }
+
   public Optional<Team> getTeamByName(@NotNull String name) {
     return teamRepository.findTeamByNameName(name).map(this::initialize);
   }
@@ -150,6 +202,7 @@ public class TeamService implements EntityService<Team, UUID> {
   public Team save(@NotNull final Team team) {
     validator.validate(team);
     final Team saved = teamRepository.saveAndFlush(team);
+    properNameIndex.indexAfterCommit(saved);
     return initialize(saved);
   }
 
@@ -162,16 +215,41 @@ public class TeamService implements EntityService<Team, UUID> {
 
   @Override
   public Team update(@NotNull Team team) {
-    fetchById(team.getId())
-        .ifPresentOrElse(
-            existing -> validator.validateForUpdate(existing, team),
-            () -> {
-              throw new IllegalArgumentException("Trying to update non-existent Team: " + team);
-            });
+    final Team existing =
+        fetchById(team.getId())
+            .orElseThrow(
+                () -> new IllegalArgumentException("Trying to update non-existent Team: " + team));
+    validator.validateForUpdate(existing, team);
+    // read before saving, since saving merges the update into the existing Team
+    final String artworkSignature = MatchArtworkService.getArtworkSignature(existing);
+    final String previousName = existing.getName().getName();
     synonymService.updateProperName(team.getName());
     artworkService.repairArtworkFilePaths(team.getEmblem());
     artworkService.repairArtworkFilePaths(team.getFanart());
-    return save(team);
+    // an update may change only colors, synonyms or artwork, none of which is a column of the Team
+    team.markModified();
+    final Team updated = save(team);
+    evictAfterCompletion(updated);
+    if (!previousName.equals(updated.getName().getName())) {
+      eventKeyIndex.rekeyEventsOf(updated);
+    }
+    regenerateMatchArtworkIfChanged(updated, artworkSignature);
+    return updated;
+  }
+
+  private void evictAfterCompletion(@NotNull Team team) {
+    entityCache.evictAfterCompletion(Team.class, team.getId());
+    entityCache.evictAfterCompletion(team.getName());
+  }
+
+  /**
+   * Match artwork is drawn from Team emblems & colors, so when those change, the artwork of every
+   * Match the Team played in is regenerated.
+   */
+  private void regenerateMatchArtworkIfChanged(@NotNull Team team, @NotNull String signature) {
+    if (!signature.equals(MatchArtworkService.getArtworkSignature(team))) {
+      artworkRegenerationService.regenerateForTeamAfterCommit(team.getId());
+    }
   }
 
   @Override
@@ -187,6 +265,8 @@ public class TeamService implements EntityService<Team, UUID> {
     if (teamOptional.isPresent()) {
       final Team team = teamOptional.get();
       teamRepository.deleteById(teamId);
+      properNameIndex.removeAfterCommit(teamId);
+      evictAfterCompletion(team);
       // delete artwork
       final List<Artwork> artworks = new ArrayList<>();
       artworks.addAll(team.getEmblem().getCollection());
@@ -213,6 +293,14 @@ public class TeamService implements EntityService<Team, UUID> {
    */
   public void deleteTeamByName(@NotNull final String teamName) {
     teamRepository.deleteByNameName(teamName);
+    properNameIndex
+        .resolve(Team.class, teamName)
+        .ifPresent(
+            entry -> {
+              properNameIndex.removeAfterCommit(entry.entityId());
+              entityCache.evictAfterCompletion(Team.class, entry.entityId());
+              entityCache.evictAfterCompletion(ProperName.class, entry.properNameId());
+            });
   }
 
   public ArtworkCollection fetchArtworkCollection(@NotNull UUID teamId, @NotNull ArtworkRole role) {
@@ -233,11 +321,20 @@ public class TeamService implements EntityService<Team, UUID> {
     return fetchArtworkCollection(teamId, role).getSelected();
   }
 
-  public Image fetchSelectedArtwork(@NotNull UUID teamId, @NotNull ArtworkRole role)
+  public ImageResource fetchSelectedArtwork(@NotNull UUID teamId, @NotNull ArtworkRole role)
       throws IOException {
     final Artwork artwork = fetchSelectedArtworkMetadata(teamId, role);
     if (artwork != null && artwork.getFile() != null) {
-      return artworkService.readArtworkData(artwork);
+      return artworkService.readArtworkResource(artwork);
+    }
+    return null;
+  }
+
+  public ImageResource fetchSelectedArtwork(
+      @NotNull UUID teamId, @NotNull ArtworkRole role, int size) throws IOException {
+    final Artwork artwork = fetchSelectedArtworkMetadata(teamId, role);
+    if (artwork != null && artwork.getFile() != null) {
+      return artworkService.readArtworkResource(artwork, size);
     }
     return null;
   }
@@ -255,24 +352,50 @@ public class TeamService implements EntityService<Team, UUID> {
                         artworkId, role, teamId)));
   }
 
-  public Image fetchArtworkImageData(
+  public ImageResource fetchArtworkImageData(
       @NotNull UUID teamId, @NotNull ArtworkRole role, @NotNull Long artworkId) throws IOException {
     final Artwork artwork = fetchArtworkMetadata(teamId, role, artworkId);
     if (artwork != null) {
-      return artworkService.readArtworkData(artwork);
+      return artworkService.readArtworkResource(artwork);
     }
     return null;
   }
 
+  public ImageResource fetchArtworkImageData(
+      @NotNull UUID teamId, @NotNull ArtworkRole role, @NotNull Long artworkId, int size)
+      throws IOException {
+    final Artwork artwork = fetchArtworkMetadata(teamId, role, artworkId);
+    return artworkService.readArtworkResource(artwork, size);
+  }
+
   public ArtworkCollection addTeamArtwork(
       @NotNull UUID teamId, @NotNull ArtworkRole role, @NotNull Image image) throws IOException {
-    final ArtworkCollection collection = fetchArtworkCollection(teamId, role);
-    return artworkService.addArtworkToCollection(collection, image);
+    final Team team = getTeamForArtwork(teamId, role);
+    final String signature = MatchArtworkService.getArtworkSignature(team);
+    team.markModified();
+    final ArtworkCollection collection =
+        artworkService.addArtworkToCollection(getArtworkCollection(team, role), image);
+    regenerateMatchArtworkIfChanged(team, signature);
+    return collection;
   }
 
   public ArtworkCollection removeTeamArtwork(
       @NotNull UUID teamId, @NotNull ArtworkRole role, @NotNull Long artworkId) throws IOException {
-    final ArtworkCollection collection = fetchArtworkCollection(teamId, role);
-    return artworkService.deleteArtworkFromCollection(collection, artworkId);
+    final Team team = getTeamForArtwork(teamId, role);
+    final String signature = MatchArtworkService.getArtworkSignature(team);
+    team.markModified();
+    final ArtworkCollection collection =
+        artworkService.deleteArtworkFromCollection(getArtworkCollection(team, role), artworkId);
+    regenerateMatchArtworkIfChanged(team, signature);
+    return collection;
+  }
+
+  private Team getTeamForArtwork(@NotNull UUID teamId, @NotNull ArtworkRole role) {
+    return teamRepository
+        .findById(teamId)
+        .orElseThrow(
+            () ->
+                new IllegalArgumentException(
+                    String.format("Could not find %s artwork for Team: %s", role, teamId)));
   }
 }
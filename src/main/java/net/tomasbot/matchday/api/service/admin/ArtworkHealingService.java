@@ -38,7 +38,7 @@ public class ArtworkHealingService {
 
     for (ArtworkSanityReport.DanglingArtwork danglingArtwork : danglingDbEntries) {
       Optional<Artwork> artworkOptional =
-          artworkService.fetchArtworkAt(Path.of(danglingArtwork.getFilePath()));
+          artworkService.fetchArtworkById(danglingArtwork.getArtworkId());
       if (artworkOptional.isPresent()) {
         Artwork artwork = artworkOptional.get();
         Optional<Event> eventOptional = eventRepository.findByArtwork(artwork);
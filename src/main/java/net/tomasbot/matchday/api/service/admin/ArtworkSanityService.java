@@ -6,7 +6,9 @@ import java.io.File;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import net.tomasbot.matchday.api.service.ArtworkService;
 import net.tomasbot.matchday.api.service.SettingsService;
 import net.tomasbot.matchday.model.Artwork;
@@ -63,10 +65,19 @@ public class ArtworkSanityService {
     if (artworkFiles != null) {
       // - save total files found
       reportBuilder.totalFiles(artworkFiles.length);
+      // files may be shared by several Artwork entries
+      final Set<Path> referencedFiles =
+          artworkService.fetchAllArtwork().stream()
+              .map(Artwork::getFile)
+              .filter(Objects::nonNull)
+              .collect(Collectors.toSet());
       for (final File file : artworkFiles) {
         final Path filepath = file.toPath();
-        final Optional<Artwork> artwork = artworkService.fetchArtworkAt(filepath);
-        if (artwork.isEmpty()) {
+        if (filepath.toString().endsWith(".tmp")) {
+          // a write in progress
+          continue;
+        }
+        if (!referencedFiles.contains(filepath)) {
           // artwork not in DB
           danglingFiles.add(filepath);
         }
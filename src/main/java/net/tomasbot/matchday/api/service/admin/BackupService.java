@@ -7,6 +7,7 @@ import static net.tomasbot.matchday.config.settings.LogFilename.LOG_FILENAME;
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -17,6 +18,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
+import net.tomasbot.matchday.api.service.ArtworkService;
+import net.tomasbot.matchday.api.service.DataSourceService;
+import net.tomasbot.matchday.api.service.EntityCache;
 import net.tomasbot.matchday.api.service.SettingsService;
 import net.tomasbot.matchday.api.service.ZipService;
 import net.tomasbot.matchday.db.RestorePointRepository;
@@ -44,6 +48,9 @@ public class BackupService {
   private final ZipService zipService;
   private final SettingsService settingsService;
   private final RestorePointRepository restorePointRepository;
+  private final ArtworkService artworkService;
+  private final EntityCache entityCache;
+  private final DataSourceService dataSourceService;
 
   public BackupService(
       DatabaseManagementService databaseService,
@@ -51,13 +58,19 @@ public class BackupService {
       HydrationService hydrationService,
       ZipService zipService,
       SettingsService settingsService,
-      RestorePointRepository restorePointRepository) {
+      RestorePointRepository restorePointRepository,
+      ArtworkService artworkService,
+      EntityCache entityCache,
+      DataSourceService dataSourceService) {
     this.databaseService = databaseService;
     this.sanityCheckService = sanityCheckService;
     this.hydrationService = hydrationService;
     this.zipService = zipService;
     this.settingsService = settingsService;
     this.restorePointRepository = restorePointRepository;
+    this.artworkService = artworkService;
+    this.entityCache = entityCache;
+    this.dataSourceService = dataSourceService;
   }
 
   private static void analyzeReport(@NotNull SanityReport report) {
@@ -90,6 +103,8 @@ public class BackupService {
     try (final Stream<Path> walker = Files.walk(source)) {
       walker.forEach(
           file -> {
+            // skip partially-written Artwork
+            if (file.toString().endsWith(".tmp")) return;
             try {
               Path resolved = destination.resolve(source.relativize(file));
               Files.copy(file, resolved, StandardCopyOption.REPLACE_EXISTING);
@@ -208,6 +223,11 @@ public class BackupService {
     // install database
     Path dumpFile = findDumpFile(tmp);
     databaseService.installDatabase(dumpFile);
+    // Artwork IDs now refer to restored files
+    artworkService.clearCaches();
+    // the database was written around Hibernate
+    entityCache.evictAll();
+    dataSourceService.clearUrlIndex();
     // remove temporary files
     Files.walkFileTree(tmp, new RecursiveDirectoryDeleter());
   }
@@ -277,6 +297,10 @@ public class BackupService {
     return hydrationService.dehydrate();
   }
 
+  public void dehydrate(@NotNull Writer writer) throws IOException {
+    hydrationService.dehydrate(writer);
+  }
+
   public void rehydrateFrom(Path json) throws IOException {
     hydrationService.rehydrate(json);
     checkSanity();
@@ -1,7 +1,9 @@
 package net.tomasbot.matchday.api.service.admin;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -9,6 +11,7 @@ import java.nio.file.StandardOpenOption;
 import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
 import lombok.Builder;
 import lombok.Data;
 import net.tomasbot.matchday.api.service.*;
@@ -26,6 +29,8 @@ public class HydrationService {
 
   private static final Type TYPE = new TypeReference<SystemImage>() {}.getType();
   private static final String FILENAME = "matchday_dehydrated_%s.json";
+  // entities read from the database at a time when writing a system image
+  private static final int CHUNK_SIZE = 100;
 
   private final EventValidator eventValidator;
   private final MatchService matchService;
@@ -34,6 +39,7 @@ public class HydrationService {
   private final DataSourceService dataSourceService;
   private final FileServerUserService userService;
   private final FileServerUserRepo fileServerUserRepo;
+  private final EntityManager entityManager;
 
   public HydrationService(
       EventValidator eventValidator,
@@ -42,7 +48,8 @@ public class HydrationService {
       TeamService teamService,
       DataSourceService dataSourceService,
       FileServerUserService userService,
-      FileServerUserRepo fileServerUserRepo) {
+      FileServerUserRepo fileServerUserRepo,
+      EntityManager entityManager) {
     this.eventValidator = eventValidator;
     this.matchService = matchService;
     this.competitionService = competitionService;
@@ -50,6 +57,7 @@ public class HydrationService {
     this.dataSourceService = dataSourceService;
     this.userService = userService;
     this.fileServerUserRepo = fileServerUserRepo;
+    this.entityManager = entityManager;
   }
 
   @NotNull
@@ -57,13 +65,58 @@ public class HydrationService {
     if (!to.toFile().isDirectory()) {
       throw new IllegalArgumentException("Path is not a directory: " + to);
     }
-    String json = JsonParser.toJson(dehydrate(), TYPE);
     String filename = String.format(FILENAME, Instant.now().toEpochMilli());
     Path jsonFile = to.resolve(filename);
-    Files.writeString(jsonFile, json, StandardOpenOption.CREATE_NEW);
+    try (Writer writer = Files.newBufferedWriter(jsonFile, StandardOpenOption.CREATE_NEW)) {
+      dehydrate(writer);
+    }
     return jsonFile;
   }
 
+  /**
+   * Write a system image as JSON, reading Events & Teams from the database a chunk at a time.
+   * Each entity is detached once written, so memory use does not grow with the size of the
+   * library. The output can be read by rehydrate().
+   *
+   * @param writer The destination of the system image
+   * @throws IOException If the image could not be written
+   */
+  @Transactional(readOnly = true)
+  public void dehydrate(@NotNull Writer writer) throws IOException {
+    final JsonWriter json = JsonParser.newJsonWriter(writer);
+    json.beginObject();
+    json.name("events").beginArray();
+    matchService.forEachSlice(CHUNK_SIZE, matches -> writeDetached(json, matches, Match.class));
+    json.endArray();
+    json.name("competitions").beginArray();
+    writeAll(json, competitionService.fetchAll(), Competition.class);
+    json.endArray();
+    json.name("teams").beginArray();
+    teamService.forEachPage(CHUNK_SIZE, teams -> writeDetached(json, teams, Team.class));
+    json.endArray();
+    json.name("fileServerUsers").beginArray();
+    writeAll(json, userService.getAllUsers(), FileServerUser.class);
+    json.endArray();
+    json.name("dataSources").beginArray();
+    writeAll(json, dataSourceService.fetchAll(), PlaintextDataSource.class);
+    json.endArray();
+    json.endObject();
+    json.flush();
+  }
+
+  private static void writeAll(
+      @NotNull JsonWriter json, @NotNull List<?> values, @NotNull Type type) {
+    for (Object value : values) {
+      JsonParser.toJson(value, type, json);
+    }
+  }
+
+  private void writeDetached(
+      @NotNull JsonWriter json, @NotNull List<?> entities, @NotNull Type type) {
+    writeAll(json, entities, type);
+    entities.forEach(entityManager::detach);
+  }
+
   public SystemImage dehydrate() {
     return createSystemImage();
   }
@@ -34,6 +34,7 @@ import net.tomasbot.matchday.model.video.VideoStreamLocatorPlaylist;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -67,11 +68,15 @@ public class VideoStreamLocatorPlaylistService {
 
   /**
    * Create a playlist of video streams. Directories for video data will be automatically created.
+   * The playlist & its stream locators are inserted together, in a transaction of their own; if
+   * the file source already has a playlist, the unique constraint on it is violated.
    *
    * @param fileSource The VideoFileSource from which the stream will be created
    * @return The playlist of video streams
+   * @throws org.springframework.dao.DataIntegrityViolationException if the file source already has
+   *     a playlist
    */
-  @Transactional
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
   public VideoStreamLocatorPlaylist createVideoStreamPlaylist(@NotNull VideoFileSource fileSource) {
     final VideoFilePack playlistFiles = videoFileSelectorService.getPlaylistFiles(fileSource);
     if (playlistFiles == null || playlistFiles.size() == 0) {
@@ -85,7 +90,7 @@ public class VideoStreamLocatorPlaylistService {
     playlistFiles.forEachVideoFile(
         (title, videoFile) -> {
           final VideoStreamLocator streamLocator =
-              locatorService.createStreamLocator(storageLocation, videoFile);
+              locatorService.newStreamLocator(storageLocation, videoFile);
           streamPlaylist.addStreamLocator(streamLocator);
         });
     return playlistRepo.saveAndFlush(streamPlaylist);
@@ -113,6 +118,19 @@ public class VideoStreamLocatorPlaylistService {
     return Optional.empty();
   }
 
+  /**
+   * Retrieve the playlist for a file source in a transaction of its own, so that a playlist
+   * committed since the calling transaction began is seen.
+   *
+   * @param fileSrcId The ID of the VideoFileSource
+   * @return An Optional containing the playlist
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+  public Optional<VideoStreamLocatorPlaylist> getCommittedVideoStreamPlaylistFor(
+      @NotNull UUID fileSrcId) {
+    return getVideoStreamPlaylistFor(fileSrcId);
+  }
+
   public Optional<VideoStreamLocatorPlaylist> getVideoStreamPlaylistContaining(
       @NotNull Long locatorId) {
     return playlistRepo.fetchPlaylistContaining(locatorId);
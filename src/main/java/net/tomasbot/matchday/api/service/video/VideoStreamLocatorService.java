@@ -106,10 +106,21 @@ public class VideoStreamLocatorService {
   @Transactional
   public VideoStreamLocator createStreamLocator(
       @NotNull Path storageLocation, @NotNull VideoFile videoFile) {
+    return streamLocatorRepo.saveAndFlush(newStreamLocator(storageLocation, videoFile));
+  }
+
+  /**
+   * Create a stream locator without saving it, e.g., to be saved with its playlist.
+   *
+   * @param storageLocation Where the streams of the playlist are stored
+   * @param videoFile The VideoFile to be streamed
+   * @return An unsaved stream locator
+   */
+  public @NotNull VideoStreamLocator newStreamLocator(
+      @NotNull Path storageLocation, @NotNull VideoFile videoFile) {
     final UUID fileId = videoFile.getFileId();
     final Path playlistPath = storageLocation.resolve(fileId.toString()).resolve(PLAYLIST_NAME);
-    final SingleStreamLocator locator = new SingleStreamLocator(playlistPath, videoFile);
-    return streamLocatorRepo.saveAndFlush(locator);
+    return new SingleStreamLocator(playlistPath, videoFile);
   }
 
   @Transactional
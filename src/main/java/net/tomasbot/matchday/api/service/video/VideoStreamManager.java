@@ -43,6 +43,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
@@ -57,6 +58,8 @@ public class VideoStreamManager {
   private final FFmpegPlugin ffmpegPlugin;
   private final VideoStreamer videoStreamer;
   private final Map<Long, Future<Long>> streamQueue = new HashMap<>();
+  // serializes playlist creation per file source; a fixed number, shared by hash
+  private final Object[] creationLocks = createLocks(64);
 
   @Value("${video-resources.file-read-buffer-size}")
   private int BUFFER_SIZE;
@@ -78,6 +81,12 @@ public class VideoStreamManager {
     this.videoStreamer = videoStreamer;
   }
 
+  private static Object @NotNull [] createLocks(int count) {
+    final Object[] locks = new Object[count];
+    Arrays.setAll(locks, i -> new Object());
+    return locks;
+  }
+
   private static void deleteStorageLocation(@NotNull VideoStreamLocatorPlaylist playlist)
       throws IOException {
     Path storageLocation = playlist.getStorageLocation();
@@ -104,7 +113,52 @@ public class VideoStreamManager {
       throw new VideoStreamingException(
           "Video stream has already started for VideoFileSource: " + fileSrcId);
     }
-    return playlistService.createVideoStreamPlaylist(fileSource);
+    try {
+      return playlistService.createVideoStreamPlaylist(fileSource);
+    } catch (DataIntegrityViolationException e) {
+      throw new VideoStreamingException(
+          "Video stream has already started for VideoFileSource: " + fileSrcId);
+    }
+  }
+
+  /**
+   * Get the playlist of a VideoFileSource, creating it if there is none. Concurrent callers all
+   * receive the same playlist: callers for the same file source take turns, and the unique
+   * constraint on the file source stops any insert which gets past them, e.g., from a caller whose
+   * transaction cannot yet see the committed playlist.
+   *
+   * <p>The playlist is created in a transaction of its own, so a caller which may have to wait its
+   * turn must not hold a transaction (and its connection) while it does; otherwise as many waiting
+   * callers as there are pooled connections leave none for the creator. Callers in a transaction
+   * may only use this once the playlist exists, when no one waits.
+   *
+   * @param fileSource The VideoFileSource to be streamed
+   * @return The only playlist of the file source
+   */
+  public VideoStreamLocatorPlaylist getOrCreateVideoStreamFrom(
+      @NotNull VideoFileSource fileSource) {
+    final UUID fileSrcId = fileSource.getFileSrcId();
+    final Optional<VideoStreamLocatorPlaylist> created =
+        playlistService.getVideoStreamPlaylistFor(fileSrcId);
+    if (created.isPresent()) {
+      return created.get();
+    }
+    synchronized (getCreationLock(fileSrcId)) {
+      final Optional<VideoStreamLocatorPlaylist> existing =
+          playlistService.getVideoStreamPlaylistFor(fileSrcId);
+      if (existing.isPresent()) {
+        return existing.get();
+      }
+      try {
+        return playlistService.createVideoStreamPlaylist(fileSource);
+      } catch (DataIntegrityViolationException e) {
+        return playlistService.getCommittedVideoStreamPlaylistFor(fileSrcId).orElseThrow(() -> e);
+      }
+    }
+  }
+
+  private @NotNull Object getCreationLock(@NotNull UUID fileSrcId) {
+    return creationLocks[Math.floorMod(fileSrcId.hashCode(), creationLocks.length)];
   }
 
   public void queueStreamJobs(@NotNull Collection<VideoStreamLocator> locators) {
@@ -69,12 +69,20 @@ public class VideoStreamingService {
   }
 
   public Optional<VideoPlaylist> getBestVideoStreamPlaylist(@NotNull Event event) {
-    final Optional<VideoStreamLocatorPlaylist> existingStream = findExistingStream(event);
-    final VideoFileSource fileSource =
-        existingStream.isPresent()
-            ? existingStream.get().getFileSource()
-            : selectorService.getBestFileSource(event);
-    return beginStreamingVideo(event, fileSource.getFileSrcId());
+    return beginStreamingVideo(event, getBestFileSource(event).getFileSrcId());
+  }
+
+  /**
+   * Choose the file source to stream an Event from: the one already streamed, if any, otherwise
+   * the best available.
+   *
+   * @param event The Event to be streamed
+   * @return The VideoFileSource to stream
+   */
+  public @NotNull VideoFileSource getBestFileSource(@NotNull Event event) {
+    return findExistingStream(event)
+        .map(VideoStreamLocatorPlaylist::getFileSource)
+        .orElseGet(() -> selectorService.getBestFileSource(event));
   }
 
   /**
@@ -142,24 +150,21 @@ public class VideoStreamingService {
   }
 
   /**
-   * Get the most recent video stream playlist for the given file source
+   * Get the video stream playlist for the given file source, creating it if necessary
    *
+   * @param event The Event the file source belongs to
    * @param fileSrcId The ID of the VideoFileSource
-   * @return An Optional containing the playlist, if one was found; empty indicates one is being
-   *     created
+   * @return An Optional containing the playlist; empty if the Event has no such file source
    */
   private Optional<VideoPlaylist> getOrCreateVideoStreamPlaylist(
       @NotNull Event event, @NotNull UUID fileSrcId) {
     final VideoFileSource videoFileSource = event.getFileSource(fileSrcId);
     return videoFileSource != null
-        ? videoStreamManager
-            .getLocalStreamFor(fileSrcId)
-            .or(() -> Optional.of(createVideoStream(videoFileSource)))
+        ? Optional.of(videoStreamManager.getOrCreateVideoStreamFrom(videoFileSource))
             .map(playlist -> renderPlaylist(event.getEventId(), playlist))
         : Optional.empty();
   }
 
-
   private @NotNull @Unmodifiable Collection<VideoStreamLocator> getStreamJobs(
       @NotNull VideoPlaylist videoPlaylist) {
     final UUID fileSrcId = videoPlaylist.getFileSrcId();
@@ -211,6 +216,18 @@ public class VideoStreamingService {
     return videoStreamManager.createVideoStreamFrom(videoFileSource);
   }
 
+  /**
+   * Get the playlist of a file source, creating it if necessary. Must not be called within a
+   * transaction; see {@link VideoStreamManager#getOrCreateVideoStreamFrom(VideoFileSource)}.
+   *
+   * @param videoFileSource Video source from which to create playlist
+   * @return The only playlist of the file source
+   */
+  public @NotNull VideoStreamLocatorPlaylist getOrCreateVideoStream(
+      @NotNull final VideoFileSource videoFileSource) {
+    return videoStreamManager.getOrCreateVideoStreamFrom(videoFileSource);
+  }
+
   public String readPlaylistFile(@NotNull Long fileId) throws Exception {
     return videoStreamManager.readPlaylistFile(fileId);
   }
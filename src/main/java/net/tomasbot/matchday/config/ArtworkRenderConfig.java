@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.tomasbot.matchday.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@PropertySource("classpath:artwork.properties")
+public class ArtworkRenderConfig {
+
+  @Value("${artwork.render.threads}")
+  private int RENDER_THREADS;
+
+  @Value("${artwork.render.queue-capacity}")
+  private int QUEUE_CAPACITY;
+
+  @Value("${artwork.render.thread-prefix}")
+  private String THREAD_PREFIX;
+
+  @Value("${artwork.regenerate.threads}")
+  private int REGENERATE_THREADS;
+
+  @Value("${artwork.regenerate.thread-prefix}")
+  private String REGENERATE_THREAD_PREFIX;
+
+  @Bean(name = "MatchArtworkRenderer")
+  public ThreadPoolTaskExecutor getMatchArtworkRenderer() {
+    final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(RENDER_THREADS);
+    executor.setMaxPoolSize(RENDER_THREADS);
+    executor.setQueueCapacity(QUEUE_CAPACITY);
+    executor.setThreadNamePrefix(THREAD_PREFIX);
+    executor.initialize();
+    return executor;
+  }
+
+  @Bean(name = "MatchArtworkRegenerator")
+  public ThreadPoolTaskExecutor getMatchArtworkRegenerator() {
+    final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(REGENERATE_THREADS);
+    executor.setMaxPoolSize(REGENERATE_THREADS);
+    executor.setThreadNamePrefix(REGENERATE_THREAD_PREFIX);
+    executor.initialize();
+    return executor;
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.tomasbot.matchday.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@PropertySource("classpath:parsing.properties")
+public class EntityParsingConfig {
+
+  @Value("${parsing.parallel.threads}")
+  private int PARSER_THREADS;
+
+  @Value("${parsing.parallel.in-flight}")
+  private int IN_FLIGHT;
+
+  @Value("${parsing.parallel.thread-prefix}")
+  private String THREAD_PREFIX;
+
+  @Bean(name = "EntityParserExecutor")
+  public AsyncTaskExecutor getEntityParser() {
+    final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(PARSER_THREADS);
+    executor.setMaxPoolSize(PARSER_THREADS);
+    // each parse keeps at most IN_FLIGHT documents submitted; should several parses overlap,
+    // the submitting thread parses the overflow itself
+    executor.setQueueCapacity(IN_FLIGHT);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setThreadNamePrefix(THREAD_PREFIX);
+    executor.initialize();
+    return executor;
+  }
+}
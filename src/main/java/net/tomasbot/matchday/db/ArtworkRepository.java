@@ -20,15 +20,21 @@
 package net.tomasbot.matchday.db;
 
 import java.nio.file.Path;
-import java.util.Optional;
+import java.util.List;
 import net.tomasbot.matchday.model.Artwork;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ArtworkRepository extends JpaRepository<Artwork, Long> {
 
-  @Query("SELECT a FROM Artwork a WHERE a.file = :file")
-  Optional<Artwork> findByFile(Path file);
+  @Query("SELECT COUNT(a) FROM Artwork a WHERE a.file = :file")
+  long countReferences(@Param("file") Path file);
+
+  @Query("SELECT COUNT(a) FROM Artwork a WHERE a.file = :file AND a.id <> :id")
+  long countOtherReferences(@Param("file") Path file, @Param("id") Long id);
+
+  List<Artwork> findAllByContentHashIsNull();
 }
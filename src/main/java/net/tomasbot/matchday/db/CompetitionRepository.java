@@ -19,21 +19,47 @@
 
 package net.tomasbot.matchday.db;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import javax.persistence.QueryHint;
 import net.tomasbot.matchday.model.Competition;
+import net.tomasbot.matchday.model.EntityRevision;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CompetitionRepository extends JpaRepository<Competition, UUID> {
 
+  // resolved from the query cache; invalidated whenever Competitions or ProperNames are written
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   Optional<Competition> findCompetitionByNameName(@NotNull String name);
 
+  @EntityGraph(attributePaths = {"name", "country", "emblem", "fanart"})
+  @Query("SELECT c FROM Competition c")
+  List<Competition> fetchAllForList();
+
+  @Query(
+      "SELECT new net.tomasbot.matchday.model.EntityRevision(c.id, c.lastModified) "
+          + "FROM Competition c ORDER BY c.id")
+  List<EntityRevision> fetchRevisions();
+
+  @Query(
+      "SELECT new net.tomasbot.matchday.model.EntityRevision(c.id, c.lastModified) "
+          + "FROM Competition c WHERE c.id = :competitionId")
+  Optional<EntityRevision> fetchRevision(@Param("competitionId") UUID competitionId);
+
+  @Query("SELECT MAX(c.lastModified) FROM Competition c")
+  Optional<Instant> fetchLastModified();
+
   @Query(
       "SELECT DISTINCT mg.competition FROM MatchGame mg"
           + " WHERE mg.homeTeam.id = :teamId OR mg.awayTeam.id = :teamId")
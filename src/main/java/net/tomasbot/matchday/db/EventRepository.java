@@ -19,15 +19,21 @@
 
 package net.tomasbot.matchday.db;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import net.tomasbot.matchday.model.Artwork;
+import net.tomasbot.matchday.model.EntityRevision;
 import net.tomasbot.matchday.model.Event;
 import net.tomasbot.matchday.model.video.VideoFileSource;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -35,6 +41,28 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface EventRepository extends JpaRepository<Event, UUID> {
 
+  @EntityGraph(attributePaths = {"competition", "competition.name", "artwork"})
+  @Query(value = "SELECT ev FROM Event ev", countQuery = "SELECT COUNT(ev) FROM Event ev")
+  Page<Event> fetchAllForList(Pageable request);
+
+  @Query(
+      "SELECT new net.tomasbot.matchday.model.EntityRevision(ev.eventId, ev.lastModified) "
+          + "FROM Event ev")
+  Slice<EntityRevision> fetchRevisions(Pageable request);
+
+  // keyset pagination; see MatchRepository
+  @EntityGraph(attributePaths = {"competition", "competition.name", "artwork"})
+  @Query("SELECT ev FROM Event ev ORDER BY ev.date DESC, ev.eventId DESC")
+  Slice<Event> fetchLatest(Pageable request);
+
+  @EntityGraph(attributePaths = {"competition", "competition.name", "artwork"})
+  @Query(
+      "SELECT ev FROM Event ev "
+          + "WHERE ev.date < :date OR (ev.date = :date AND ev.eventId < :eventId) "
+          + "ORDER BY ev.date DESC, ev.eventId DESC")
+  Slice<Event> fetchBefore(
+      @Param("date") LocalDateTime date, @Param("eventId") UUID eventId, Pageable request);
+
   /**
    * Retrieve all Events associated with the specified competition.
    *
@@ -47,8 +75,32 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
   Page<Event> fetchEventsByCompetition(
       @Param("competitionId") UUID competitionId, Pageable request);
 
-  @Query("SELECT ev FROM Event ev WHERE :fileSource IN elements(ev.fileSources)")
+  // joined from the file source, rather than testing every Event's collection
+  @Query("SELECT ev FROM Event ev JOIN ev.fileSources fs WHERE fs = :fileSource")
   Optional<Event> fetchEventForFileSource(@NotNull VideoFileSource fileSource);
 
   Optional<Event> findByArtwork(@NotNull Artwork artwork);
+
+  Optional<Event> findByNaturalKey(@NotNull String naturalKey);
+
+  @Query("SELECT ev.naturalKey FROM Event ev WHERE ev.naturalKey IS NOT NULL")
+  List<String> fetchAllNaturalKeys();
+
+  List<Event> findAllByNaturalKeyIsNull();
+
+  /**
+   * Move the file sources of one Event to another, without loading either collection.
+   *
+   * @param fromEventId The ID of the Event which currently has the file sources
+   * @param toEventId The ID of the Event to receive them
+   * @return The number of file sources moved
+   */
+  @Modifying
+  @Query(
+      value =
+          "UPDATE event_file_sources SET event_event_id = :toEventId "
+              + "WHERE event_event_id = :fromEventId",
+      nativeQuery = true)
+  int moveFileSources(
+      @Param("fromEventId") String fromEventId, @Param("toEventId") String toEventId);
 }
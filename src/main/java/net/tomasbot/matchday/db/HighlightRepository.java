@@ -19,10 +19,14 @@
 
 package net.tomasbot.matchday.db;
 
+import java.util.Optional;
 import java.util.UUID;
 import net.tomasbot.matchday.model.Highlight;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface HighlightRepository extends JpaRepository<Highlight, UUID> {}
+public interface HighlightRepository extends JpaRepository<Highlight, UUID> {
+
+  Optional<Highlight> findByNaturalKey(String naturalKey);
+}
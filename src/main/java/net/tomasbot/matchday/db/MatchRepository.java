@@ -19,11 +19,17 @@
 
 package net.tomasbot.matchday.db;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import net.tomasbot.matchday.model.EntityRevision;
 import net.tomasbot.matchday.model.Match;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -32,14 +38,87 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface MatchRepository extends JpaRepository<Match, UUID> {
 
+  /**
+   * Retrieve a page of Matches with everything rendered in a Match listing fetched in the same
+   * query; video sources are not loaded.
+   *
+   * @param request Page & sort
+   * @return A page of Matches
+   */
+  @EntityGraph(Match.LIST_GRAPH)
+  @Query(value = "SELECT mt FROM MatchGame mt", countQuery = "SELECT COUNT(mt) FROM MatchGame mt")
+  Page<Match> fetchAllForList(Pageable request);
+
+  @Query(
+      "SELECT new net.tomasbot.matchday.model.EntityRevision(mt.eventId, mt.lastModified) "
+          + "FROM MatchGame mt")
+  Slice<EntityRevision> fetchRevisions(Pageable request);
+
+  @Query(
+      "SELECT new net.tomasbot.matchday.model.EntityRevision(mt.eventId, mt.lastModified) "
+          + "FROM MatchGame mt WHERE mt.eventId = :matchId")
+  Optional<EntityRevision> fetchRevision(@Param("matchId") UUID matchId);
+
+  /*
+   * Keyset pagination: Matches are ordered newest first, with ties broken by ID, and each slice
+   * begins after the last Match of the previous one. No rows are skipped, and nothing is counted.
+   */
+
+  @EntityGraph(Match.LIST_GRAPH)
+  @Query("SELECT mt FROM MatchGame mt ORDER BY mt.date DESC, mt.eventId DESC")
+  Slice<Match> fetchLatest(Pageable request);
+
+  @EntityGraph(Match.LIST_GRAPH)
+  @Query(
+      "SELECT mt FROM MatchGame mt "
+          + "WHERE mt.date < :date OR (mt.date = :date AND mt.eventId < :eventId) "
+          + "ORDER BY mt.date DESC, mt.eventId DESC")
+  Slice<Match> fetchBefore(
+      @Param("date") LocalDateTime date, @Param("eventId") UUID eventId, Pageable request);
+
+  @EntityGraph(Match.LIST_GRAPH)
+  @Query(
+      "SELECT mt FROM MatchGame mt "
+          + "WHERE mt.homeTeam.id = :teamId OR mt.awayTeam.id = :teamId "
+          + "ORDER BY mt.date DESC, mt.eventId DESC")
+  Slice<Match> fetchLatestByTeam(@Param("teamId") UUID teamId, Pageable request);
+
+  @EntityGraph(Match.LIST_GRAPH)
+  @Query(
+      "SELECT mt FROM MatchGame mt "
+          + "WHERE (mt.homeTeam.id = :teamId OR mt.awayTeam.id = :teamId) "
+          + "AND (mt.date < :date OR (mt.date = :date AND mt.eventId < :eventId)) "
+          + "ORDER BY mt.date DESC, mt.eventId DESC")
+  Slice<Match> fetchByTeamBefore(
+      @Param("teamId") UUID teamId,
+      @Param("date") LocalDateTime date,
+      @Param("eventId") UUID eventId,
+      Pageable request);
+
   /**
    * Retrieve all Events associated with the specified Team.
    *
    * @param teamId The name of the Team.
    * @return A List of Events which include this Team.
    */
+  // compares the foreign keys directly, so MySQL can merge the home & away team indexes
   @Query(
-      "SELECT mt FROM MatchGame mt JOIN mt.homeTeam ht LEFT JOIN mt.awayTeam at "
-          + "WHERE ht.id = :teamId OR at.id = :teamId ORDER BY mt.date DESC")
+      "SELECT mt FROM MatchGame mt "
+          + "WHERE mt.homeTeam.id = :teamId OR mt.awayTeam.id = :teamId ORDER BY mt.date DESC")
   Page<Match> fetchMatchesByTeam(@Param("teamId") UUID teamId, Pageable request);
+
+  @Query(
+      "SELECT mt.eventId FROM MatchGame mt "
+          + "WHERE mt.homeTeam.id = :teamId OR mt.awayTeam.id = :teamId")
+  List<UUID> fetchMatchIdsByTeam(@Param("teamId") UUID teamId);
+
+  @Query("SELECT mt.eventId FROM MatchGame mt WHERE mt.competition.id = :competitionId")
+  List<UUID> fetchMatchIdsByCompetition(@Param("competitionId") UUID competitionId);
+
+  @Query("SELECT mt.eventId FROM MatchGame mt")
+  List<UUID> fetchAllMatchIds();
+
+  Optional<Match> findByNaturalKey(String naturalKey);
+
+  List<Match> findAllByNaturalKeyIn(Collection<String> naturalKeys);
 }
@@ -19,30 +19,85 @@
 
 package net.tomasbot.matchday.db;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH;
+
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import javax.persistence.QueryHint;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import net.tomasbot.matchday.model.EntityRevision;
 import net.tomasbot.matchday.model.Team;
 
 @Repository
 public interface TeamRepository extends JpaRepository<Team, UUID> {
 
+  // resolved from the query cache; invalidated whenever Teams or ProperNames are written
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   Optional<Team> findTeamByNameName(@NotNull String name);
 
-  void deleteByNameName(String name);
+  @EntityGraph(attributePaths = {"name", "country", "emblem", "fanart"})
+  @Query(value = "SELECT t FROM Team t", countQuery = "SELECT COUNT(t) FROM Team t")
+  Page<Team> fetchAllForList(Pageable request);
+
+  @Query(
+      "SELECT new net.tomasbot.matchday.model.EntityRevision(t.id, t.lastModified) FROM Team t")
+  Slice<EntityRevision> fetchRevisions(Pageable request);
 
   @Query(
-      "SELECT DISTINCT ht FROM MatchGame mt JOIN mt.homeTeam ht JOIN mt.competition cm "
-          + "WHERE cm.id = :competitionId")
-  List<Team> fetchHomeTeamsByCompetition(@Param("competitionId") UUID competitionId);
+      "SELECT new net.tomasbot.matchday.model.EntityRevision(t.id, t.lastModified) FROM Team t "
+          + "WHERE t.id = :teamId")
+  Optional<EntityRevision> fetchRevision(@Param("teamId") UUID teamId);
 
+  @Query("SELECT MAX(t.lastModified) FROM Team t")
+  Optional<Instant> fetchLastModified();
+
+  void deleteByNameName(String name);
+
+  // one query for both sides of every Match; the Teams' names, Countries & artwork are fetched with
+  // them, while colors & locales are left to the second-level cache, since bags can't be joined
+  @EntityGraph(
+      attributePaths = {
+        "name",
+        "name.synonyms",
+        "country",
+        "emblem",
+        "emblem.collection",
+        "fanart",
+        "fanart.collection"
+      })
+  @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
   @Query(
-      "SELECT DISTINCT at FROM MatchGame mt JOIN mt.awayTeam at JOIN mt.competition cm "
-          + "WHERE cm.id = :competitionId")
-  List<Team> fetchAwayTeamsByCompetition(@Param("competitionId") UUID competitionId);
+      "SELECT DISTINCT t FROM Team t "
+          + "WHERE t.id IN "
+          + "(SELECT mt.homeTeam.id FROM MatchGame mt WHERE mt.competition.id = :competitionId) "
+          + "OR t.id IN "
+          + "(SELECT mt.awayTeam.id FROM MatchGame mt WHERE mt.competition.id = :competitionId)")
+  List<Team> fetchTeamsByCompetition(@Param("competitionId") UUID competitionId);
+
+  @EntityGraph(
+      attributePaths = {
+        "name",
+        "name.synonyms",
+        "country",
+        "emblem",
+        "emblem.collection",
+        "fanart",
+        "fanart.collection"
+      })
+  @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+  @Query("SELECT DISTINCT t FROM Team t WHERE t.id IN :teamIds")
+  List<Team> fetchTeamsById(@Param("teamIds") Collection<UUID> teamIds);
 }
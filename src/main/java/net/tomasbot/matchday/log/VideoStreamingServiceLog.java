@@ -38,7 +38,7 @@ public class VideoStreamingServiceLog {
   private static final Logger logger = LogManager.getLogger(VideoStreamingServiceLog.class);
 
   @Before(
-      "execution(* net.tomasbot.matchday.api.service.video.VideoStreamingService.getBestVideoStreamPlaylist(..))")
+      "execution(* net.tomasbot.matchday.api.service.video.VideoStreamingService.getBest*(..))")
   public void logGetBestVideoStreamPlaylist(@NotNull JoinPoint jp) {
     logger.info("Getting 'best' video stream for Event: {}", jp.getArgs()[0]);
   }
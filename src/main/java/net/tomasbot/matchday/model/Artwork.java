@@ -25,9 +25,13 @@ import java.util.Objects;
 import javax.persistence.*;
 import lombok.*;
 import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import net.tomasbot.matchday.db.converter.PathConverter;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @ToString
@@ -43,6 +47,10 @@ public class Artwork {
   @Convert(converter = PathConverter.class)
   private Path file;
 
+  // SHA-256 of the file; Artwork with identical images share one file
+  @Column(length = 64)
+  private String contentHash;
+
   private Long fileSize;
   private String mediaType;
   private int width;
@@ -26,14 +26,19 @@ import java.util.Set;
 import javax.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.jetbrains.annotations.NotNull;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 public class ArtworkCollection {
 
   @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
   private final Set<Artwork> collection = new LinkedHashSet<>();
 
   private ArtworkRole role;
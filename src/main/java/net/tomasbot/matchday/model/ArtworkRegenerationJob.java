@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.tomasbot.matchday.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Progress of regenerating artwork for a group of Matches, e.g., all Matches of a Team whose emblem
+ * has changed. Updated concurrently by the batches of the job.
+ */
+public class ArtworkRegenerationJob {
+
+  private final UUID jobId = UUID.randomUUID();
+  private final String trigger;
+  private final int total;
+  private final Instant started = Instant.now();
+  private final List<Failure> failures = new ArrayList<>();
+  private int rendered;
+  private Instant completed;
+
+  public ArtworkRegenerationJob(@NotNull String trigger, int total) {
+    this.trigger = trigger;
+    this.total = total;
+    if (total == 0) {
+      this.completed = started;
+    }
+  }
+
+  /**
+   * Record the outcome of a batch of Matches.
+   *
+   * @param rendered The number of Matches which received new artwork
+   * @param failures Matches which kept their old artwork
+   */
+  public synchronized void recordBatch(int rendered, @NotNull Collection<Failure> failures) {
+    this.rendered += rendered;
+    this.failures.addAll(failures);
+    if (getProcessed() >= total) {
+      this.completed = Instant.now();
+    }
+  }
+
+  public UUID getJobId() {
+    return jobId;
+  }
+
+  public String getTrigger() {
+    return trigger;
+  }
+
+  public int getTotal() {
+    return total;
+  }
+
+  public Instant getStarted() {
+    return started;
+  }
+
+  public synchronized Instant getCompleted() {
+    return completed;
+  }
+
+  public synchronized int getRendered() {
+    return rendered;
+  }
+
+  public synchronized int getFailed() {
+    return failures.size();
+  }
+
+  public synchronized List<Failure> getFailures() {
+    return List.copyOf(failures);
+  }
+
+  public synchronized int getProcessed() {
+    return rendered + failures.size();
+  }
+
+  public synchronized boolean isDone() {
+    return completed != null;
+  }
+
+  public synchronized Duration getDuration() {
+    return Duration.between(started, completed != null ? completed : Instant.now());
+  }
+
+  @Override
+  public synchronized String toString() {
+    return String.format(
+        "ArtworkRegenerationJob{id=%s, trigger=%s, rendered=%d, failed=%d, total=%d, duration=%s}",
+        jobId, trigger, rendered, failures.size(), total, getDuration());
+  }
+
+  public record Failure(UUID matchId, String reason) {}
+}
@@ -24,11 +24,16 @@
 package net.tomasbot.matchday.model;
 
 import java.io.Serializable;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 import java.util.UUID;
 import javax.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Type;
 import org.jetbrains.annotations.NotNull;
@@ -42,6 +47,8 @@ import org.jetbrains.annotations.NotNull;
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Competition implements Serializable {
 
   @OneToOne(cascade = CascadeType.ALL)
@@ -62,6 +69,10 @@ public class Competition implements Serializable {
   @OneToOne(cascade = CascadeType.ALL)
   private ArtworkCollection fanart = new ArtworkCollection(ArtworkRole.FANART);
 
+  /** When this Competition was last written; validates cached representations of it */
+  @Setter(AccessLevel.NONE)
+  private Instant lastModified;
+
   public Competition(@NotNull final String name) {
     this.name = new ProperName(name);
   }
@@ -74,6 +85,12 @@ public class Competition implements Serializable {
     this.name = null;
   }
 
+  @PrePersist
+  @PreUpdate
+  public void markModified() {
+    this.lastModified = Instant.now().truncatedTo(ChronoUnit.MICROS);
+  }
+
   @Override
   public String toString() {
     final ProperName properName = getName();
@@ -19,14 +19,21 @@
 
 package net.tomasbot.matchday.model;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.stream.Collectors;
 import javax.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Type;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import net.tomasbot.matchday.Corrected;
 import net.tomasbot.matchday.model.video.VideoFileSource;
 
@@ -40,7 +47,7 @@ import net.tomasbot.matchday.model.video.VideoFileSource;
 public abstract class Event {
 
   @Setter(AccessLevel.NONE)
-  @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+  @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
   protected final Set<VideoFileSource> fileSources = new HashSet<>();
 
   @Id
@@ -60,6 +67,72 @@ public abstract class Event {
   @OneToOne(cascade = CascadeType.ALL)
   protected Artwork artwork;
 
+  /** A hash of the fields which identify this Event, independent of its ID */
+  @Setter(AccessLevel.NONE)
+  @Column(length = 64)
+  protected String naturalKey;
+
+  /** When this Event was last written; validates cached representations of it */
+  @Setter(AccessLevel.NONE)
+  protected Instant lastModified;
+
+  protected static @Nullable String getProperName(@Nullable Competition competition) {
+    return competition != null && competition.getName() != null
+        ? competition.getName().getName()
+        : null;
+  }
+
+  protected static @Nullable String getProperName(@Nullable Team team) {
+    return team != null && team.getName() != null ? team.getName().getName() : null;
+  }
+
+  private static @NotNull String hashNaturalKey(@NotNull List<?> fields) {
+    final String canonical =
+        fields.stream()
+            .map(field -> field != null ? field.toString().trim().toLowerCase(Locale.ROOT) : "")
+            .collect(Collectors.joining("|"));
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      final byte[] hash = digest.digest(canonical.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * The fields which determine whether two Events are the same Event, beginning with a type
+   * discriminator. Elements may be null.
+   *
+   * @return An ordered List of identifying fields
+   */
+  protected abstract List<?> getNaturalKeyFields();
+
+  /**
+   * Compute the natural key of this Event from its current state; unlike getNaturalKey(), this does
+   * not require the Event to have been persisted.
+   *
+   * @return A hex-encoded hash of the identifying fields of this Event
+   */
+  public @NotNull String computeNaturalKey() {
+    return hashNaturalKey(getNaturalKeyFields());
+  }
+
+  public void updateNaturalKey() {
+    this.naturalKey = computeNaturalKey();
+  }
+
+  public void markModified() {
+    this.lastModified = Instant.now().truncatedTo(ChronoUnit.MICROS);
+  }
+
+  @PrePersist
+  @PreUpdate
+  void beforeWrite() {
+    updateNaturalKey();
+    markModified();
+  }
+
   public void addAllFileSources(@NotNull final Collection<? extends VideoFileSource> fileSources) {
     fileSources.forEach(this::addFileSource);
   }
@@ -106,7 +179,7 @@ public abstract class Event {
 
   @Override
   public int hashCode() {
-    return Objects.hash(competition, season, fixture, fileSources, date);
+    return Objects.hash(competition, season, fixture, date);
   }
 
   @Override
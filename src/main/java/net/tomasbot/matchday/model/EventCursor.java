@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.tomasbot.matchday.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The position of an Event in the default (newest first) ordering, used to fetch the Events which
+ * follow it without counting or skipping rows. Ties on date are broken by Event ID.
+ *
+ * @param date The date of the last Event seen
+ * @param eventId The ID of the last Event seen
+ */
+public record EventCursor(@NotNull LocalDateTime date, @NotNull UUID eventId) {
+
+  private static final String SEPARATOR = "_";
+
+  public static @NotNull EventCursor of(@NotNull Event event) {
+    return new EventCursor(event.getDate(), event.getEventId());
+  }
+
+  /**
+   * Get the cursor which continues after a slice of Events.
+   *
+   * @param events A non-empty slice of Events, in cursor order
+   * @return The position of the last Event
+   */
+  public static @NotNull EventCursor after(@NotNull List<? extends Event> events) {
+    return of(events.get(events.size() - 1));
+  }
+
+  /**
+   * Read a cursor previously created by encode().
+   *
+   * @param encoded An opaque cursor, or null
+   * @return The decoded cursor, or null if none was given
+   * @throws IllegalArgumentException If the cursor is malformed
+   */
+  public static @Nullable EventCursor decode(@Nullable String encoded) {
+    if (encoded == null || encoded.isBlank()) {
+      return null;
+    }
+    try {
+      final byte[] decoded = Base64.getUrlDecoder().decode(encoded);
+      final String[] parts = new String(decoded, StandardCharsets.UTF_8).split(SEPARATOR, 2);
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Malformed Event cursor: " + encoded);
+      }
+      return new EventCursor(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("Malformed Event cursor: " + encoded, e);
+    }
+  }
+
+  /**
+   * @return An opaque, URL-safe representation of this cursor
+   */
+  public @NotNull String encode() {
+    final String cursor = date + SEPARATOR + eventId;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+  }
+}
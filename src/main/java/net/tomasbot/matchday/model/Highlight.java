@@ -22,6 +22,8 @@ package net.tomasbot.matchday.model;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import javax.persistence.Entity;
@@ -42,7 +44,7 @@ public class Highlight extends Event implements Serializable {
   @Builder(builderMethodName = "highlightBuilder")
   public Highlight(
       UUID eventId, Competition competition, Season season, Fixture fixture, LocalDateTime date) {
-    super(eventId, competition, season, fixture, date, null);
+    super(eventId, competition, season, fixture, date, null, null, null);
   }
 
   @Override
@@ -52,6 +54,17 @@ public class Highlight extends Event implements Serializable {
         getCompetition().getName().getName(), getDate().format(DateTimeFormatter.ISO_DATE));
   }
 
+  @Override
+  protected List<?> getNaturalKeyFields() {
+    return Arrays.asList(
+        "Highlight",
+        getProperName(competition),
+        season != null ? season.getStartDate() : null,
+        season != null ? season.getEndDate() : null,
+        fixture != null ? fixture.getFixtureNumber() : null,
+        date);
+  }
+
   // --------------------------------------
   // Next 8 methods included for reflection
   @Override
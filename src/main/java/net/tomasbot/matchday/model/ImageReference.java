@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.tomasbot.matchday.model;
+
+import java.io.IOException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Image data identified by a stable key (e.g., an Artwork ID), so that a decoded copy can be reused.
+ * The data is only loaded if no decoded copy is available.
+ *
+ * @param key Identifies the image; two references with the same key must yield the same image
+ * @param loader Reads the encoded image data
+ */
+public record ImageReference(@NotNull String key, @NotNull ImageLoader loader) {
+
+  @FunctionalInterface
+  public interface ImageLoader {
+    byte[] load() throws IOException;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("ImageReference{key=%s}", key);
+  }
+}
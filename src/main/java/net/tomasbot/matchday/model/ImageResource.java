@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.tomasbot.matchday.model;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+
+/**
+ * Image data which can be streamed to a client without first being read into memory.
+ *
+ * @param data The image data
+ * @param contentType The type of the image
+ * @param contentLength The size of the image data, in bytes
+ * @param etag A strong entity tag which changes whenever the data does, or null if the data should
+ *     not be cached
+ */
+public record ImageResource(
+    @NotNull Resource data,
+    @NotNull MediaType contentType,
+    long contentLength,
+    @Nullable String etag) {}
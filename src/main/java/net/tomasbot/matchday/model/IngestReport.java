@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.tomasbot.matchday.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+/** The outcome of ingesting a Snapshot: what was created, merged or rejected, and why. */
+@Getter
+public class IngestReport {
+
+  private final String entityType;
+  private final Instant started;
+  private final List<Failure> failures = new ArrayList<>();
+  private Instant completed;
+  private int batches;
+  private int received;
+  private int created;
+  private int merged;
+
+  public IngestReport(@NotNull Class<?> entityType) {
+    this(entityType.getSimpleName());
+  }
+
+  public IngestReport(@NotNull String entityType) {
+    this.entityType = entityType;
+    this.started = Instant.now();
+  }
+
+  public void recordBatch(int size) {
+    batches++;
+    received += size;
+  }
+
+  public void recordCreated() {
+    created++;
+  }
+
+  public void recordMerged() {
+    merged++;
+  }
+
+  public void recordFailure(@NotNull Object entity, @NotNull Throwable cause) {
+    failures.add(new Failure(entity.toString(), cause.getMessage()));
+  }
+
+  /**
+   * Add the entity outcomes of another (e.g., single-batch) report to this one.
+   *
+   * @param other The report to include
+   */
+  public void include(@NotNull IngestReport other) {
+    created += other.created;
+    merged += other.merged;
+    failures.addAll(other.failures);
+  }
+
+  public void complete() {
+    this.completed = Instant.now();
+  }
+
+  public List<Failure> getFailures() {
+    return Collections.unmodifiableList(failures);
+  }
+
+  public int getFailed() {
+    return failures.size();
+  }
+
+  public Duration getDuration() {
+    return Duration.between(started, completed != null ? completed : Instant.now());
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "IngestReport{type=%s, batches=%d, received=%d, created=%d, merged=%d, failed=%d, "
+            + "duration=%s}",
+        entityType, batches, received, created, merged, getFailed(), getDuration());
+  }
+
+  public record Failure(String entity, String reason) {}
+}
@@ -24,6 +24,8 @@
 package net.tomasbot.matchday.model;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
@@ -31,6 +33,9 @@ import javax.persistence.CascadeType;
 import javax.persistence.Entity;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedSubgraph;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -49,8 +54,37 @@ import net.tomasbot.matchday.model.video.VideoFileSource;
 @Setter
 @NoArgsConstructor
 @Entity(name = "MatchGame")
+@NamedEntityGraph(
+    name = Match.LIST_GRAPH,
+    attributeNodes = {
+      @NamedAttributeNode(value = "competition", subgraph = "competition"),
+      @NamedAttributeNode(value = "homeTeam", subgraph = "team"),
+      @NamedAttributeNode(value = "awayTeam", subgraph = "team"),
+      @NamedAttributeNode("artwork")
+    },
+    subgraphs = {
+      @NamedSubgraph(
+          name = "competition",
+          attributeNodes = {
+            @NamedAttributeNode("name"),
+            @NamedAttributeNode("country"),
+            @NamedAttributeNode("emblem"),
+            @NamedAttributeNode("fanart")
+          }),
+      @NamedSubgraph(
+          name = "team",
+          attributeNodes = {
+            @NamedAttributeNode("name"),
+            @NamedAttributeNode("country"),
+            @NamedAttributeNode("emblem"),
+            @NamedAttributeNode("fanart")
+          })
+    })
 public class Match extends Event {
 
+  /** Everything rendered when Matches are listed; video sources are excluded. */
+  public static final String LIST_GRAPH = "Match.list";
+
   @CorrectedOrNull
   @ManyToOne(cascade = {CascadeType.PERSIST, CascadeType.REFRESH, CascadeType.MERGE})
   @JoinColumn(nullable = false)
@@ -70,7 +104,7 @@ public class Match extends Event {
       Season season,
       Fixture fixture,
       LocalDateTime date) {
-    super(eventId, competition, season, fixture, date, null);
+    super(eventId, competition, season, fixture, date, null, null, null);
     this.homeTeam = homeTeam;
     this.awayTeam = awayTeam;
   }
@@ -86,6 +120,19 @@ public class Match extends Event {
         + ((fixture != null) ? ", " + fixture : "");
   }
 
+  @Override
+  protected List<?> getNaturalKeyFields() {
+    // date is excluded; the same Match may be posted with different kick-off times
+    return Arrays.asList(
+        "Match",
+        getProperName(competition),
+        getProperName(homeTeam),
+        getProperName(awayTeam),
+        season != null ? season.getStartDate() : null,
+        season != null ? season.getEndDate() : null,
+        fixture != null ? fixture.getFixtureNumber() : null);
+  }
+
   // --------------------------------------
   // Next 8 methods included for reflection
   @Override
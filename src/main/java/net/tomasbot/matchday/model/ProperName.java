@@ -23,11 +23,15 @@ import java.util.*;
 import javax.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.jetbrains.annotations.NotNull;
 
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class ProperName implements Comparable<ProperName> {
 
   private final String name;
@@ -37,6 +41,7 @@ public class ProperName implements Comparable<ProperName> {
   private Long id;
 
   @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
   private Set<Synonym> synonyms = new HashSet<>();
 
   public ProperName() {
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.tomasbot.matchday.model;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Validators for the representation of an entity, or of a page of entities, computed from their
+ * modification times alone so that a client's copy can be checked before anything is loaded.
+ *
+ * @param etag A weak entity tag, which changes whenever the representation may have changed
+ * @param lastModified When the representation last changed, or null if that cannot be known
+ */
+public record Revision(@NotNull String etag, @Nullable Instant lastModified) {
+
+  /**
+   * The validators of a single entity.
+   *
+   * @param entity The revision of the entity
+   * @param dependencies The last modification of any other entities included in its representation
+   * @return The validators of the entity
+   */
+  public static @NotNull Revision of(
+      @NotNull EntityRevision entity, @Nullable Instant... dependencies) {
+    final List<Instant> modified = new ArrayList<>(Arrays.asList(dependencies));
+    modified.add(entity.lastModified());
+    final Instant lastModified =
+        modified.stream().filter(Objects::nonNull).max(Instant::compareTo).orElse(null);
+    return new Revision(hash(List.of(entity), false, dependencies), lastModified);
+  }
+
+  /**
+   * The validators of a list of entities. Removing an entity does not advance any modification
+   * time, so lists are only validated by entity tag.
+   *
+   * @param entities The revisions of the entities, in the order they are listed
+   * @param hasNext Whether the list links to a next page
+   * @param dependencies The last modification of any other entities included in the list
+   * @return The validators of the list
+   */
+  public static @NotNull Revision of(
+      @NotNull List<EntityRevision> entities, boolean hasNext, @Nullable Instant... dependencies) {
+    return new Revision(hash(entities, hasNext, dependencies), null);
+  }
+
+  private static @NotNull String hash(
+      @NotNull List<EntityRevision> entities, boolean hasNext, @Nullable Instant[] dependencies) {
+    final String canonical =
+        entities.stream()
+                .map(entity -> entity.id() + "@" + entity.lastModified())
+                .collect(Collectors.joining("|"))
+            + "|next="
+            + hasNext
+            + "|"
+            + Arrays.toString(dependencies);
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      final byte[] hash = digest.digest(canonical.getBytes(StandardCharsets.UTF_8));
+      return "W/\"" + HexFormat.of().formatHex(hash) + "\"";
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
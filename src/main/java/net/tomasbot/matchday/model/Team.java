@@ -23,12 +23,17 @@
  */
 package net.tomasbot.matchday.model;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import javax.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Type;
 import org.jetbrains.annotations.NotNull;
@@ -41,6 +46,8 @@ import org.jetbrains.annotations.NotNull;
 @Getter
 @Setter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Team {
 
   @OneToOne(cascade = CascadeType.ALL)
@@ -54,7 +61,9 @@ public class Team {
 
   @ManyToOne private Country country;
 
-  @ElementCollection private List<Color> colors;
+  @ElementCollection
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+  private List<Color> colors;
 
   @OneToOne(cascade = CascadeType.ALL)
   private ArtworkCollection emblem = new ArtworkCollection(ArtworkRole.EMBLEM);
@@ -62,6 +71,10 @@ public class Team {
   @OneToOne(cascade = CascadeType.ALL)
   private ArtworkCollection fanart = new ArtworkCollection(ArtworkRole.FANART);
 
+  /** When this Team was last written; validates cached representations of it */
+  @Setter(AccessLevel.NONE)
+  private Instant lastModified;
+
   public Team(@NotNull ProperName name) {
     this.name = name;
   }
@@ -74,6 +87,12 @@ public class Team {
     this.name = null;
   }
 
+  @PrePersist
+  @PreUpdate
+  public void markModified() {
+    this.lastModified = Instant.now().truncatedTo(ChronoUnit.MICROS);
+  }
+
   @Override
   public String toString() {
     final ProperName properName = getName();
@@ -1,22 +1,21 @@
 package net.tomasbot.matchday.model.validation;
 
 import java.util.*;
-import java.util.stream.Collectors;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.stereotype.Component;
-import net.tomasbot.matchday.api.service.SynonymService;
-import net.tomasbot.matchday.model.Md5Id;
+import net.tomasbot.matchday.api.service.ProperNameIndex;
+import net.tomasbot.matchday.api.service.ProperNameIndex.Entry;
 import net.tomasbot.matchday.model.ProperName;
 import net.tomasbot.matchday.model.Synonym;
 
 @Component
 public class ProperNameValidator implements EntityValidator<ProperName> {
 
-  private final SynonymService synonymService;
+  private final ProperNameIndex properNameIndex;
 
-  public ProperNameValidator(SynonymService synonymService) {
-    this.synonymService = synonymService;
+  public ProperNameValidator(ProperNameIndex properNameIndex) {
+    this.properNameIndex = properNameIndex;
   }
 
   private static void validateNoDuplicateSynonyms(@NotNull ProperName name) {
@@ -60,21 +59,21 @@ public class ProperNameValidator implements EntityValidator<ProperName> {
       throw new IllegalArgumentException("ProperName was blank or null");
     }
     final Set<Synonym> synonyms = name.getSynonyms();
-    final List<Md5Id> synonymIds = getSynonymIds(synonyms);
     synonyms.forEach(
         synonym -> {
-          validateSynonym(synonym, synonymIds);
+          validateSynonym(synonym, name);
           validateSynonymIsNotProperName(synonym);
         });
   }
 
   private void validateProperNameAssociation(@NotNull ProperName properName) {
     final String name = properName.getName();
-    synonymService
-        .fetchProperName(name)
+    properNameIndex
+        .lookup(name)
+        .filter(existing -> !existing.synonym())
         .ifPresent(
             existing -> {
-              boolean sameId = existing.getId().equals(properName.getId());
+              boolean sameId = existing.properNameId().equals(properName.getId());
               if (!sameId) {
                 final String msg =
                     String.format(
@@ -84,23 +83,19 @@ public class ProperNameValidator implements EntityValidator<ProperName> {
             });
   }
 
-  @NotNull
-  private List<Md5Id> getSynonymIds(@NotNull Set<Synonym> synonyms) {
-    return synonyms.stream().map(Synonym::getId).collect(Collectors.toList());
-  }
-
   private void validateSynonymIsNotProperName(@NotNull Synonym synonym) {
     final String name = synonym.getName();
-    final Optional<ProperName> nameOptional = synonymService.fetchProperName(name);
+    final Optional<Entry> nameOptional =
+        properNameIndex.lookup(name).filter(existing -> !existing.synonym());
     if (nameOptional.isPresent()) {
-      ProperName properName = nameOptional.get();
+      final String properName = nameOptional.get().properName();
       final String msg =
           String.format("Synonym [%s] already exists as ProperName: %s", name, properName);
       throw new IllegalArgumentException(msg);
     }
   }
 
-  private void validateSynonym(Synonym synonym, List<Md5Id> synonymIds) {
+  private void validateSynonym(Synonym synonym, @NotNull ProperName properName) {
     if (synonym == null) {
       throw new IllegalArgumentException("Synonym was null");
     }
@@ -109,11 +104,12 @@ public class ProperNameValidator implements EntityValidator<ProperName> {
       throw new IllegalArgumentException("Found empty Synonym");
     }
     // check if synonym already exists
-    final Optional<Synonym> synonymOptional = synonymService.fetchByName(name);
+    final Optional<Entry> synonymOptional =
+        properNameIndex.lookup(name).filter(Entry::synonym);
     if (synonymOptional.isPresent()) {
-      final Synonym existingSynonym = synonymOptional.get();
+      final Entry existingSynonym = synonymOptional.get();
       // synonym exists, but associated with another entity?
-      if (!synonymIds.contains(existingSynonym.getId())) {
+      if (!existingSynonym.properNameId().equals(properName.getId())) {
         final String msg =
             String.format("Synonym: %s already exists and is associated with another entity", name);
         throw new IllegalArgumentException(msg);
@@ -24,6 +24,7 @@ import java.util.List;
 import javax.persistence.CascadeType;
 import javax.persistence.Entity;
 import javax.persistence.OneToMany;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -37,37 +38,101 @@ import org.jetbrains.annotations.NotNull;
 @Entity
 public class TaskListState extends StreamJobState {
 
+  private static final JobStatus[] STATUSES = JobStatus.values();
+
   @OneToMany(cascade = CascadeType.ALL)
   private final List<TaskState> taskStates = new ArrayList<>();
 
-  public void addTaskState(@NotNull TaskState state) {
+  // running totals over taskStates; built on first read, then kept current by each TaskState
+  @Getter(AccessLevel.NONE)
+  private final transient Totals totals = new Totals();
+
+  public synchronized void addTaskState(@NotNull TaskState state) {
     taskStates.add(state);
+    state.setListState(this);
+    if (totals.aggregated) {
+      totals.statusCounts[state.getStatus().ordinal()]++;
+      totals.completionTotal += ratioOf(state.getCompletionRatio());
+      computeState();
+    }
+  }
+
+  public synchronized void removeTaskState(@NotNull TaskState state) {
+    if (!taskStates.remove(state)) return;
+    state.setListState(null);
+    if (totals.aggregated) {
+      totals.statusCounts[state.getStatus().ordinal()]--;
+      totals.completionTotal -= ratioOf(state.getCompletionRatio());
+      computeState();
+    }
+  }
+
+  @Override
+  public synchronized JobStatus getStatus() {
+    aggregate();
+    return status;
+  }
+
+  @Override
+  public synchronized Double getCompletionRatio() {
+    aggregate();
+    return completionRatio;
   }
 
-  public void removeTaskState(@NotNull TaskState state) {
-    taskStates.remove(state);
-    this.computeState();
+  synchronized void onStatusChanged(JobStatus previous, JobStatus current) {
+    if (!totals.aggregated) return;
+    totals.statusCounts[previous.ordinal()]--;
+    totals.statusCounts[current.ordinal()]++;
+    computeState();
   }
 
-  public void computeState() {
+  synchronized void onCompletionRatioChanged(Double previous, Double current) {
+    if (!totals.aggregated) return;
+    totals.completionTotal += ratioOf(current) - ratioOf(previous);
+    computeState();
+  }
+
+  private static double ratioOf(Double completionRatio) {
+    return completionRatio != null ? completionRatio : 0.0;
+  }
+
+  /** Tallies the task states once after loading; later changes are applied as they happen. */
+  private void aggregate() {
+    if (totals.aggregated) return;
+    for (TaskState state : taskStates) {
+      state.setListState(this);
+      totals.statusCounts[state.getStatus().ordinal()]++;
+      totals.completionTotal += ratioOf(state.getCompletionRatio());
+    }
+    totals.aggregated = true;
+    computeState();
+  }
+
+  private void computeState() {
     if (taskStates.isEmpty()) {
-     setStatus(JobStatus.CREATED);
-     setCompletionRatio(0.0);
-     return;
+      this.status = JobStatus.CREATED;
+      this.completionRatio = 0.0;
+      return;
     }
 
-    Double aggregateCompletionTotal = 0.0;
-    for (TaskState state : getTaskStates()) {
-      JobStatus status = state.getStatus();
-      if (status.equals(JobStatus.STOPPED) || status.equals(JobStatus.ERROR)) {
-        setStatus(status);
-        return;
-      } else if (status.compareTo(this.getStatus()) > 0) {
-        setStatus(status);
+    this.completionRatio = totals.completionTotal / taskStates.size();
+    if (totals.statusCounts[JobStatus.ERROR.ordinal()] > 0) {
+      this.status = JobStatus.ERROR;
+    } else if (totals.statusCounts[JobStatus.STOPPED.ordinal()] > 0) {
+      this.status = JobStatus.STOPPED;
+    } else {
+      for (int i = STATUSES.length - 1; i >= 0; i--) {
+        if (totals.statusCounts[i] > 0) {
+          this.status = STATUSES[i];
+          return;
+        }
       }
-      aggregateCompletionTotal += state.getCompletionRatio();
     }
-    double playlistCompletionRatio = aggregateCompletionTotal / taskStates.size();
-    setCompletionRatio(playlistCompletionRatio);
+  }
+
+  private static final class Totals {
+    private final int[] statusCounts = new int[STATUSES.length];
+    private double completionTotal;
+    private boolean aggregated;
   }
 }
@@ -20,18 +20,25 @@
 package net.tomasbot.matchday.model.video;
 
 import javax.persistence.Entity;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
 @Getter
 @Setter
 @ToString(callSuper = true)
-@AllArgsConstructor
+@NoArgsConstructor
 @Entity
 public class TaskState extends StreamJobState {
 
+  // the aggregate this state is counted in, if any
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.PACKAGE)
+  @ToString.Exclude
+  private transient TaskListState listState;
+
   public TaskState(JobStatus status, Double completionRatio) {
     this.status = status;
     this.completionRatio = completionRatio;
@@ -41,4 +48,18 @@ public class TaskState extends StreamJobState {
     this(status, completionRatio);
     this.error = error;
   }
+
+  @Override
+  public void setStatus(JobStatus status) {
+    final JobStatus previous = this.status;
+    this.status = status;
+    if (listState != null) listState.onStatusChanged(previous, status);
+  }
+
+  @Override
+  public void setCompletionRatio(Double completionRatio) {
+    final Double previous = this.completionRatio;
+    this.completionRatio = completionRatio;
+    if (listState != null) listState.onCompletionRatioChanged(previous, completionRatio);
+  }
 }
@@ -33,6 +33,8 @@ import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -44,6 +46,11 @@ import org.jetbrains.annotations.NotNull;
 @Getter
 @Setter
 @Entity
+@Table(
+    uniqueConstraints =
+        @UniqueConstraint(
+            name = "UX_VIDEO_STREAM_LOCATOR_PLAYLIST_FILE_SOURCE",
+            columnNames = "file_source_file_src_id"))
 public class VideoStreamLocatorPlaylist {
 
   @ManyToOne(cascade = {CascadeType.MERGE, CascadeType.REFRESH})
@@ -84,8 +91,6 @@ public class VideoStreamLocatorPlaylist {
   }
 
   public TaskListState getState() {
-    // ensure state is fresh
-    this.state.computeState();
     return this.state;
   }
 
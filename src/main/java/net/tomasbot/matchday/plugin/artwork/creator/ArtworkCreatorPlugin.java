@@ -20,13 +20,12 @@
 package net.tomasbot.matchday.plugin.artwork.creator;
 
 import java.awt.*;
-import java.awt.geom.GeneralPath;
 import java.awt.image.BufferedImage;
 import java.io.*;
 import java.net.URL;
 import java.util.*;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.imageio.ImageIO;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -40,12 +39,13 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.xml.sax.SAXException;
 import net.tomasbot.matchday.model.ArtworkTemplate;
-import net.tomasbot.matchday.model.ArtworkTemplate.Coordinate;
-import net.tomasbot.matchday.model.ArtworkTemplate.Layer;
-import net.tomasbot.matchday.model.ArtworkTemplate.Shape;
 import net.tomasbot.matchday.model.Image;
+import net.tomasbot.matchday.model.ImageReference;
 import net.tomasbot.matchday.model.Param;
 import net.tomasbot.matchday.plugin.Plugin;
+import net.tomasbot.matchday.plugin.artwork.creator.ArtworkRenderPlan.FillStep;
+import net.tomasbot.matchday.plugin.artwork.creator.ArtworkRenderPlan.ImageStep;
+import net.tomasbot.matchday.plugin.artwork.creator.ArtworkRenderPlan.Step;
 import net.tomasbot.matchday.util.ResourceFileReader;
 
 @Component
@@ -55,23 +55,25 @@ public class ArtworkCreatorPlugin implements Plugin {
       SchemaFactory.newInstance("http://www.w3.org/2001/XMLSchema");
 
   private final ArtworkCreatorPluginProperties properties;
-  private final Map<Class<?>, ArtworkTemplate> templateRegistry = new HashMap<>();
+  private final Map<Class<?>, ArtworkRenderPlan> renderPlans = new ConcurrentHashMap<>();
+  private final Map<String, BufferedImage> imageCache;
   private final JAXBContext jaxbContext;
 
   public ArtworkCreatorPlugin(ArtworkCreatorPluginProperties properties) throws JAXBException {
     this.properties = properties;
     this.jaxbContext = JAXBContext.newInstance(ArtworkTemplate.class);
+    this.imageCache = createImageCache(properties.getImageCacheSize());
   }
 
-  private static <T> Stream<T> reverseStream(@NotNull Stream<T> stream) {
-    final LinkedList<T> stack = new LinkedList<>();
-    stream.forEach(stack::push);
-    return stack.stream();
-  }
-
-  @NotNull
-  private static BufferedImage getBaseTile(@NotNull ArtworkTemplate template) {
-    return new BufferedImage(template.getWidth(), template.getHeight(), BufferedImage.TRANSLUCENT);
+  private static @NotNull Map<String, BufferedImage> createImageCache(int maxSize) {
+    // access-ordered, so the least-recently drawn image is evicted first
+    return Collections.synchronizedMap(
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, BufferedImage> eldest) {
+            return size() > maxSize;
+          }
+        });
   }
 
   @Override
@@ -89,27 +91,44 @@ public class ArtworkCreatorPlugin implements Plugin {
     return properties.getDescription();
   }
 
+  /**
+   * Render artwork for the given type. All template layers are painted, in order, into a single
+   * buffer. Image params may be raw image data (byte[]) or an ImageReference; referenced images are
+   * decoded and scaled once, then reused across renders.
+   *
+   * @param type The type of artwork to create, which determines the template
+   * @param params Data referenced by the template
+   * @return The encoded artwork
+   * @throws IOException If an image could not be read or the artwork could not be encoded
+   */
   public @NotNull Image createArtwork(@NotNull Class<?> type, @NotNull Collection<Param<?>> params)
       throws IOException {
 
-    try (final ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+    final ArtworkRenderPlan plan = getRenderPlanFor(type);
+    // get a mutable copy
+    final List<Param<?>> _params = new ArrayList<>(params);
+    // add default params
+    _params.add(new Param<>("#width", plan.getWidth()));
+    _params.add(new Param<>("#height", plan.getHeight()));
 
-      final ArtworkTemplate template = getTemplateFor(type);
-      // get a mutable copy
-      final ArrayList<Param<?>> _params = new ArrayList<>(params);
-      // add default params
-      _params.add(new Param<>("#width", template.getWidth()));
-      _params.add(new Param<>("#height", template.getHeight()));
-
-      final BufferedImage baseTile = getBaseTile(template);
-      final Graphics2D graphics = baseTile.createGraphics();
-      reverseStream(template.getLayer().stream())
-          .map(layer -> renderLayer(layer, template, _params))
-          .forEach(image -> graphics.drawImage(image, 0, 0, null));
+    final BufferedImage canvas =
+        new BufferedImage(plan.getWidth(), plan.getHeight(), BufferedImage.TYPE_INT_ARGB_PRE);
+    final Graphics2D graphics = canvas.createGraphics();
+    try {
+      for (Step step : plan.getSteps()) {
+        if (step instanceof final FillStep fill) {
+          renderShape(_params, graphics, fill);
+        } else if (step instanceof final ImageStep image) {
+          renderImage(_params, graphics, image);
+        }
+      }
+    } finally {
       graphics.dispose();
+    }
 
+    try (final ByteArrayOutputStream output = new ByteArrayOutputStream()) {
       final MediaType imageType = (MediaType) getMatchingParam(_params, "#type").getData();
-      final boolean written = ImageIO.write(baseTile, imageType.getSubtype(), output);
+      final boolean written = ImageIO.write(canvas, imageType.getSubtype(), output);
       if (!written) {
         throw new IOException("Could not write image data: no appropriate writer found");
       }
@@ -117,38 +136,22 @@ public class ArtworkCreatorPlugin implements Plugin {
     }
   }
 
-  private Param<?> getMatchingParam(@NotNull Collection<Param<?>> params, @NotNull String tag) {
-    return params.stream().filter(param -> param.nameMatches(tag)).findFirst().orElse(null);
+  /**
+   * @return The number of decoded images currently held for reuse
+   */
+  public int getCachedImageCount() {
+    return imageCache.size();
   }
 
-  private @NotNull BufferedImage renderLayer(
-      @NotNull Layer layer,
-      @NotNull ArtworkTemplate template,
-      @NotNull Collection<Param<?>> params) {
-
-    final BufferedImage buffer = getBaseTile(template);
-    final Graphics2D graphics = (Graphics2D) buffer.getGraphics();
-
-    final List<Shape> shapes = layer.getShape();
-    if (shapes != null) {
-      shapes.forEach(shape -> renderShape(params, graphics, shape));
-    }
-    final List<ArtworkTemplate.Image> images = layer.getImage();
-    if (images != null) {
-      images.forEach(image -> renderImage(params, graphics, image));
-    }
-    graphics.dispose();
-    return buffer;
+  private Param<?> getMatchingParam(@NotNull Collection<Param<?>> params, @NotNull String tag) {
+    return params.stream().filter(param -> param.nameMatches(tag)).findFirst().orElse(null);
   }
 
   private void renderShape(
-      @NotNull Collection<Param<?>> params, @NotNull Graphics2D graphics, @NotNull Shape shape) {
-
-    final GeneralPath path = createPathFrom(shape);
-    final Color colorData = getValidColor(getMatchingParam(params, shape.getColor()));
-    graphics.setColor(colorData);
+      @NotNull Collection<Param<?>> params, @NotNull Graphics2D graphics, @NotNull FillStep fill) {
+    final Color colorData = getValidColor(getMatchingParam(params, fill.colorParam()));
     graphics.setPaint(colorData);
-    graphics.fill(path);
+    graphics.fill(fill.path());
   }
 
   /**
@@ -165,55 +168,57 @@ public class ArtworkCreatorPlugin implements Plugin {
   }
 
   private void renderImage(
-      @NotNull Collection<Param<?>> params,
-      @NotNull Graphics2D graphics,
-      ArtworkTemplate.@NotNull Image image) {
-    final Param<?> data = getMatchingParam(params, image.getSrc());
-    final BufferedImage bufferedImage = createBufferedImage(data);
-    final Coordinate origin = image.getOrigin();
-    graphics.drawImage(
-        bufferedImage, origin.getX(), origin.getY(), image.getWidth(), image.getHeight(), null);
+      @NotNull Collection<Param<?>> params, @NotNull Graphics2D graphics, @NotNull ImageStep step)
+      throws IOException {
+    final Param<?> param = getMatchingParam(params, step.srcParam());
+    if (param == null) {
+      return;
+    }
+    final Object data = param.getData();
+    if (data instanceof final ImageReference reference) {
+      // already scaled to size
+      final BufferedImage image = getScaledImage(reference, step.width(), step.height());
+      graphics.drawImage(image, step.x(), step.y(), null);
+    } else if (data instanceof final byte[] imageData) {
+      final BufferedImage image = ImageIO.read(new ByteArrayInputStream(imageData));
+      graphics.drawImage(image, step.x(), step.y(), step.width(), step.height(), null);
+    }
   }
 
-  private @Nullable BufferedImage createBufferedImage(Param<?> param) {
-
-    try {
-      if (param != null && param.getData() instanceof final byte[] imgData) {
-        return ImageIO.read(new ByteArrayInputStream(imgData));
-      }
-    } catch (IOException e) {
-      throw new UncheckedIOException(e);
+  private @Nullable BufferedImage getScaledImage(
+      @NotNull ImageReference reference, int width, int height) throws IOException {
+    final String cacheKey = reference.key() + "@" + width + "x" + height;
+    final BufferedImage cached = imageCache.get(cacheKey);
+    if (cached != null) {
+      return cached;
     }
-    return null;
+    // decode outside the cache lock; a concurrent miss at worst decodes the same image twice
+    final BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(reference.loader().load()));
+    if (decoded == null) {
+      return null;
+    }
+    final BufferedImage scaled = scaleImage(decoded, width, height);
+    imageCache.put(cacheKey, scaled);
+    return scaled;
   }
 
-  private @Nullable GeneralPath createPathFrom(@NotNull Shape shape) {
-
-    final List<Coordinate> coordinates = shape.getCoords();
-    if (!coordinates.isEmpty()) {
-      final GeneralPath path = new GeneralPath();
-      final Coordinate start = coordinates.get(0);
-      path.moveTo(start.getX(), start.getY());
-      for (int i = 1; i < coordinates.size(); i++) {
-        final Coordinate coordinate = coordinates.get(i);
-        path.lineTo(coordinate.getX(), coordinate.getY());
-      }
-      path.closePath();
-      return path;
+  private static @NotNull BufferedImage scaleImage(
+      @NotNull BufferedImage image, int width, int height) {
+    final BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+    final Graphics2D graphics = scaled.createGraphics();
+    try {
+      graphics.setRenderingHint(
+          RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      graphics.drawImage(image, 0, 0, width, height, null);
+    } finally {
+      graphics.dispose();
     }
-    return null;
+    return scaled;
   }
 
-  private @NotNull ArtworkTemplate getTemplateFor(@NotNull Class<?> type) {
-
-    final ArtworkTemplate template = templateRegistry.get(type);
-    if (template != null) {
-      return template;
-    }
-    // else...
-    final ArtworkTemplate newTemplate = readTemplateData(type);
-    templateRegistry.put(type, newTemplate);
-    return newTemplate;
+  private @NotNull ArtworkRenderPlan getRenderPlanFor(@NotNull Class<?> type) {
+    return renderPlans.computeIfAbsent(
+        type, _type -> ArtworkRenderPlan.compile(readTemplateData(_type)));
   }
 
   /**
@@ -34,4 +34,5 @@ import net.tomasbot.matchday.plugin.PluginProperties;
 public class ArtworkCreatorPluginProperties extends PluginProperties {
 
   private String templateNamePattern;
+  private int imageCacheSize = 64;
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.tomasbot.matchday.plugin.artwork.creator;
+
+import java.awt.geom.GeneralPath;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import net.tomasbot.matchday.model.ArtworkTemplate;
+import net.tomasbot.matchday.model.ArtworkTemplate.Coordinate;
+import net.tomasbot.matchday.model.ArtworkTemplate.Layer;
+import net.tomasbot.matchday.model.ArtworkTemplate.Shape;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An ArtworkTemplate compiled into an immutable list of drawing steps, in painting order (the last
+ * template layer is painted first). Safe to share between concurrent renders.
+ */
+final class ArtworkRenderPlan {
+
+  private final int width;
+  private final int height;
+  private final List<Step> steps;
+
+  private ArtworkRenderPlan(int width, int height, @NotNull List<Step> steps) {
+    this.width = width;
+    this.height = height;
+    this.steps = Collections.unmodifiableList(steps);
+  }
+
+  static @NotNull ArtworkRenderPlan compile(@NotNull ArtworkTemplate template) {
+    final List<Step> steps = new ArrayList<>();
+    final List<Layer> layers = template.getLayer();
+    for (int i = layers.size() - 1; i >= 0; i--) {
+      final Layer layer = layers.get(i);
+      final List<Shape> shapes = layer.getShape();
+      if (shapes != null) {
+        for (Shape shape : shapes) {
+          final GeneralPath path = createPathFrom(shape);
+          if (path != null) {
+            steps.add(new FillStep(shape.getColor(), path));
+          }
+        }
+      }
+      final List<ArtworkTemplate.Image> images = layer.getImage();
+      if (images != null) {
+        for (ArtworkTemplate.Image image : images) {
+          final Coordinate origin = image.getOrigin();
+          steps.add(
+              new ImageStep(
+                  image.getSrc(),
+                  origin.getX(),
+                  origin.getY(),
+                  image.getWidth(),
+                  image.getHeight()));
+        }
+      }
+    }
+    return new ArtworkRenderPlan(template.getWidth(), template.getHeight(), steps);
+  }
+
+  private static @Nullable GeneralPath createPathFrom(@NotNull Shape shape) {
+    final List<Coordinate> coordinates = shape.getCoords();
+    if (coordinates == null || coordinates.isEmpty()) {
+      return null;
+    }
+    final GeneralPath path = new GeneralPath();
+    final Coordinate start = coordinates.get(0);
+    path.moveTo(start.getX(), start.getY());
+    for (int i = 1; i < coordinates.size(); i++) {
+      final Coordinate coordinate = coordinates.get(i);
+      path.lineTo(coordinate.getX(), coordinate.getY());
+    }
+    path.closePath();
+    return path;
+  }
+
+  int getWidth() {
+    return width;
+  }
+
+  int getHeight() {
+    return height;
+  }
+
+  List<Step> getSteps() {
+    return steps;
+  }
+
+  sealed interface Step permits FillStep, ImageStep {}
+
+  /** Fill a path with the color given by a param; the path must never be modified. */
+  record FillStep(String colorParam, java.awt.Shape path) implements Step {}
+
+  /** Draw the image given by a param, scaled to the given size. */
+  record ImageStep(String srcParam, int x, int y, int width, int height) implements Step {}
+}
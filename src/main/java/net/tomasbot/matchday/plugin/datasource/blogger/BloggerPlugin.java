@@ -106,8 +106,7 @@ public class BloggerPlugin implements DataSourcePlugin {
 
     final URI baseUri = dataSource.getBaseUri();
     final Stream<String> hypertextStream = getHypertextStream(request, baseUri);
-    final Stream<T> entityStream =
-        hypertextStream.flatMap(data -> entityParser.getEntityStream(dataSource, data));
+    final Stream<T> entityStream = entityParser.getEntityStreams(dataSource, hypertextStream);
     return Snapshot.of(entityStream);
   }
 
@@ -118,7 +117,7 @@ public class BloggerPlugin implements DataSourcePlugin {
     final List<BloggerEntry> entries = getEntriesUntil(new HtmlBloggerParser(), url, null);
     Stream<String> feed =
         entries.stream().map(BloggerEntry::getContent).map(BloggerFeed.Str::getData);
-    Stream<T> entities = feed.flatMap(data -> entityParser.getEntityStream(dataSource, data));
+    Stream<T> entities = entityParser.getEntityStreams(dataSource, feed);
     return Snapshot.of(entities);
   }
 
@@ -19,9 +19,21 @@
 
 package net.tomasbot.matchday.plugin.datasource.parsing;
 
-import java.util.function.BiFunction;
+import java.util.Optional;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
 
-public interface CreationStrategy extends BiFunction<String, Class<?>, Object> {
+public interface CreationStrategy {
+
+  /**
+   * Determine whether this strategy is able to create instances of the given type. This is called
+   * at most once per type; the result is cached by the TypeConverterRegistry.
+   *
+   * @param clazz The target type
+   * @return A converter from String data to the given type, or empty if this strategy cannot
+   *     create instances of the type
+   */
+  Optional<Function<String, ?>> resolve(@NotNull Class<?> clazz);
 
   enum Priority {
     HIGH,
@@ -19,9 +19,22 @@
 
 package net.tomasbot.matchday.plugin.datasource.parsing;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Component;
 import net.tomasbot.matchday.model.DataSource;
 
@@ -29,10 +42,20 @@ import net.tomasbot.matchday.model.DataSource;
 public class HypertextEntityParser {
 
   private final List<DataSourceParser<?, ?>> parsers;
+  private final AsyncTaskExecutor parserExecutor;
+  private final boolean parallelEnabled;
+  private final int maxInFlight;
 
-  public HypertextEntityParser(List<DataSourceParser<?, ?>> dataSourceParsers) {
+  public HypertextEntityParser(
+      List<DataSourceParser<?, ?>> dataSourceParsers,
+      @Qualifier("EntityParserExecutor") AsyncTaskExecutor parserExecutor,
+      @Value("${parsing.parallel.enabled}") boolean parallelEnabled,
+      @Value("${parsing.parallel.in-flight}") int maxInFlight) {
     // register autowired parsers
     this.parsers = dataSourceParsers;
+    this.parserExecutor = parserExecutor;
+    this.parallelEnabled = parallelEnabled;
+    this.maxInFlight = maxInFlight;
   }
 
   public <T, D> Stream<? extends T> getEntityStream(
@@ -41,6 +64,50 @@ public class HypertextEntityParser {
     return parser.getEntityStream(dataSource, data);
   }
 
+  /**
+   * Parse a sequence of independent documents (e.g., blog posts), in parallel if enabled.
+   * Entities are returned in document order, and each document's entities in the order its parser
+   * produced them.
+   *
+   * @param dataSource The DataSource describing the documents
+   * @param documents Independent documents
+   * @return A Stream of all entities in all documents
+   */
+  public <T, D> Stream<T> getEntityStreams(
+      @NotNull DataSource<T> dataSource, @NotNull Stream<D> documents) {
+    return parallelEnabled
+        ? getEntityStreamsInParallel(dataSource, documents)
+        : documents.flatMap(data -> getEntityStream(dataSource, data));
+  }
+
+  /**
+   * Parse documents ahead of the consumer, with at most parsing.parallel.in-flight documents
+   * submitted but not yet consumed, so neither the documents nor their entities are all held in
+   * memory at once. Closing the returned Stream cancels any parsing still in flight.
+   */
+  public <T, D> Stream<T> getEntityStreamsInParallel(
+      @NotNull DataSource<T> dataSource, @NotNull Stream<D> documents) {
+    final ParsingSpliterator<T, D> spliterator =
+        new ParsingSpliterator<>(dataSource, documents.iterator());
+    return StreamSupport.stream(spliterator, false)
+        .onClose(spliterator::cancel)
+        .onClose(documents::close);
+  }
+
+  private <T> List<? extends T> getParseResult(@NotNull Future<List<? extends T>> result) {
+    try {
+      return result.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while parsing entities", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
   @SuppressWarnings("unchecked cast")
   private <T, D> DataSourceParser<T, D> getParserForType(Class<T> clazz) {
     final String errMsg = "No entity parser registered for type: " + clazz;
@@ -50,4 +117,50 @@ public class HypertextEntityParser {
             .findFirst()
             .orElseThrow(() -> new IllegalArgumentException(errMsg));
   }
+
+  /** Yields the entities of each document in order, while later documents are parsed. */
+  private final class ParsingSpliterator<T, D> extends Spliterators.AbstractSpliterator<T> {
+
+    private final DataSource<T> dataSource;
+    private final Iterator<D> documents;
+    private final Deque<Future<List<? extends T>>> inFlight = new ArrayDeque<>();
+    private Iterator<? extends T> current = Collections.emptyIterator();
+
+    private ParsingSpliterator(@NotNull DataSource<T> dataSource, @NotNull Iterator<D> documents) {
+      super(Long.MAX_VALUE, Spliterator.ORDERED);
+      this.dataSource = dataSource;
+      this.documents = documents;
+    }
+
+    @Override
+    public boolean tryAdvance(@NotNull Consumer<? super T> action) {
+      while (!current.hasNext()) {
+        submitDocuments();
+        final Future<List<? extends T>> next = inFlight.poll();
+        if (next == null) {
+          return false;
+        }
+        try {
+          current = getParseResult(next).iterator();
+        } catch (RuntimeException e) {
+          cancel();
+          throw e;
+        }
+      }
+      action.accept(current.next());
+      return true;
+    }
+
+    private void submitDocuments() {
+      while (inFlight.size() < maxInFlight && documents.hasNext()) {
+        final D data = documents.next();
+        inFlight.add(parserExecutor.submit(() -> getEntityStream(dataSource, data).toList()));
+      }
+    }
+
+    private void cancel() {
+      inFlight.forEach(result -> result.cancel(true));
+      inFlight.clear();
+    }
+  }
 }
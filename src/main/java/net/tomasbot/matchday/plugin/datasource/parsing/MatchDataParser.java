@@ -21,15 +21,23 @@ package net.tomasbot.matchday.plugin.datasource.parsing;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
+import net.tomasbot.matchday.api.service.DataSourceService.DataSourceUpdatedEvent;
 import net.tomasbot.matchday.model.DataSource;
 import net.tomasbot.matchday.model.Match;
 import net.tomasbot.matchday.model.PatternKit;
@@ -42,6 +50,8 @@ import net.tomasbot.matchday.plugin.datasource.parsing.fabric.Bolt;
 public class MatchDataParser implements DataSourceParser<Match, String> {
 
   private final TextParser textParser;
+  // by DataSource ID; each entry is valid only for the PatternKit list it was compiled from
+  private final Map<UUID, CompiledPatternKits> compiledPatternKits = new ConcurrentHashMap<>();
   @Getter private final Class<Match> type = Match.class;
 
   public MatchDataParser(TextParser textParser) {
@@ -55,16 +65,18 @@ public class MatchDataParser implements DataSourceParser<Match, String> {
     final Document document = Jsoup.parse(data);
     final String text = document.text();
 
-    final PlaintextDataSource<Match> plaintextDataSource = (PlaintextDataSource<Match>) dataSource;
-    final List<PatternKit<? extends Match>> eventPatternKits =
-        plaintextDataSource.getPatternKitsFor(Match.class);
-    final Stream<? extends Match> eventStream = getStreamForType(eventPatternKits, text);
+    final CompiledPatternKits patternKits =
+        getCompiledPatternKits((PlaintextDataSource<Match>) dataSource);
+    // walk the text once to find which PatternKits can possibly match
+    final PatternKitPrefilter.Scan scan = patternKits.prefilter().scan(text);
+
+    final Stream<? extends Match> eventStream =
+        getStreamForType(patternKits.eventPatternKits(), text, scan);
     final Stream<? extends VideoFileSource> fileSourceStream =
-        getStreamForType(plaintextDataSource.getPatternKitsFor(VideoFileSource.class), text);
+        getStreamForType(patternKits.fileSourcePatternKits(), text, scan);
     final Stream<VideoFile> videoFileStream =
-        getStreamForType(plaintextDataSource.getPatternKitsFor(VideoFile.class), text);
-    final Stream<URL> links =
-        createUrlStreams(plaintextDataSource.getPatternKitsFor(URL.class), document);
+        getStreamForType(patternKits.videoFilePatternKits(), text, scan);
+    final Stream<URL> links = createUrlStreams(patternKits.urlPatternKits(), document);
 
     return Bolt.of(links)
         .zipInto(videoFileStream, VideoFile::setExternalUrl)
@@ -73,39 +85,119 @@ public class MatchDataParser implements DataSourceParser<Match, String> {
         .stream();
   }
 
+  /**
+   * The PatternKits of a DataSource are split by type & prefiltered once, rather than for every
+   * post. A DataSource which is saved is read again as a new instance, with a new PatternKit list,
+   * so an entry compiled from a different list is replaced.
+   */
+  private @NotNull CompiledPatternKits getCompiledPatternKits(
+      @NotNull PlaintextDataSource<Match> dataSource) {
+    final UUID dataSourceId = dataSource.getDataSourceId();
+    if (dataSourceId == null) {
+      return compile(dataSource);
+    }
+    final CompiledPatternKits cached = compiledPatternKits.get(dataSourceId);
+    if (cached != null && cached.source() == dataSource.getPatternKits()) {
+      return cached;
+    }
+    final CompiledPatternKits compiled = compile(dataSource);
+    compiledPatternKits.put(dataSourceId, compiled);
+    return compiled;
+  }
+
+  /**
+   * Forget the compiled PatternKits of a DataSource, e.g., once it is deleted or its PatternKits
+   * change.
+   *
+   * @param dataSourceId The ID of the DataSource
+   */
+  public void evictPatternKits(@NotNull UUID dataSourceId) {
+    compiledPatternKits.remove(dataSourceId);
+  }
+
+  private static @NotNull CompiledPatternKits compile(
+      @NotNull PlaintextDataSource<Match> dataSource) {
+    final List<PatternKit<? extends Match>> eventPatternKits =
+        dataSource.getPatternKitsFor(Match.class);
+    final List<PatternKit<? extends VideoFileSource>> fileSourcePatternKits =
+        dataSource.getPatternKitsFor(VideoFileSource.class);
+    final List<PatternKit<? extends VideoFile>> videoFilePatternKits =
+        dataSource.getPatternKitsFor(VideoFile.class);
+    final List<PatternKit<?>> textPatternKits = new ArrayList<>(eventPatternKits);
+    textPatternKits.addAll(fileSourcePatternKits);
+    textPatternKits.addAll(videoFilePatternKits);
+    return new CompiledPatternKits(
+        dataSource.getPatternKits(),
+        eventPatternKits,
+        fileSourcePatternKits,
+        videoFilePatternKits,
+        dataSource.getPatternKitsFor(URL.class),
+        PatternKitPrefilter.compile(textPatternKits));
+  }
+
   @SuppressWarnings("unchecked cast")
   private <T> Stream<T> getStreamForType(
-      @NotNull List<PatternKit<? extends T>> patternKits, String data) {
-    return (Stream<T>) textParser.createEntityStreams(patternKits, data);
+      @NotNull List<PatternKit<? extends T>> patternKits,
+      String data,
+      @NotNull PatternKitPrefilter.Scan scan) {
+    return (Stream<T>) textParser.createEntityStreams(scan.filter(patternKits), data);
   }
 
+  /**
+   * Match every link in the document against all URL PatternKits in a single traversal. Results
+   * are grouped by PatternKit, in PatternKit order, then document order.
+   */
   private Stream<URL> createUrlStreams(
       @NotNull Collection<PatternKit<? extends URL>> patternKits, @NotNull Document document) {
-    Stream<URL> base = Stream.empty();
-    for (PatternKit<? extends URL> patternKit : patternKits) {
-      final Stream<URL> urlStream = createUrlStream(document, patternKit);
-      if (urlStream != null) {
-        base = Stream.concat(base, urlStream);
-      } else {
-        break;
+    final List<PatternKit<? extends URL>> urlPatternKits = List.copyOf(patternKits);
+    if (urlPatternKits.isEmpty()) {
+      return Stream.empty();
+    }
+
+    final List<List<URL>> urls = new ArrayList<>(urlPatternKits.size());
+    urlPatternKits.forEach(patternKit -> urls.add(new ArrayList<>()));
+
+    for (Element link : document.select("a[href]")) {
+      final String href = link.attr("href");
+      for (int i = 0; i < urlPatternKits.size(); i++) {
+        final Pattern urlPattern = urlPatternKits.get(i).getPattern();
+        if (urlPattern.matcher(href).find()) {
+          urls.get(i).add(createUrl(href));
+        }
       }
     }
-    return base;
+    return urls.stream().flatMap(List::stream);
+  }
+
+  private @Nullable URL createUrl(@NotNull String link) {
+    try {
+      return new URL(link);
+    } catch (MalformedURLException e) {
+      return null;
+    }
   }
 
-  private Stream<URL> createUrlStream(
-      @NotNull Document document, @NotNull PatternKit<? extends URL> patternKit) {
-    final Pattern urlPattern = patternKit.getPattern();
-    final String query = String.format("a[href~=%s]", urlPattern);
-    return document.select(query).stream()
-        .map(link -> link.attr("href"))
-        .map(
-            link -> {
-              try {
-                return new URL(link);
-              } catch (MalformedURLException e) {
-                return null;
-              }
-            });
+  private record CompiledPatternKits(
+      List<PatternKit<?>> source,
+      List<PatternKit<? extends Match>> eventPatternKits,
+      List<PatternKit<? extends VideoFileSource>> fileSourcePatternKits,
+      List<PatternKit<? extends VideoFile>> videoFilePatternKits,
+      List<PatternKit<? extends URL>> urlPatternKits,
+      PatternKitPrefilter prefilter) {}
+
+  @Component
+  public static final class DataSourceUpdatedListener
+      implements ApplicationListener<DataSourceUpdatedEvent> {
+
+    private final MatchDataParser parser;
+
+    public DataSourceUpdatedListener(MatchDataParser parser) {
+      this.parser = parser;
+    }
+
+    @Override
+    public void onApplicationEvent(@NotNull DataSourceUpdatedEvent event) {
+      parser.evictPatternKits(event.getDataSourceId());
+    }
   }
 }
@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.tomasbot.matchday.plugin.datasource.parsing;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.regex.Pattern;
+import net.tomasbot.matchday.model.PatternKit;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A literal-anchor prefilter for a group of PatternKits. The literal text which every match of a
+ * PatternKit's Pattern must contain is extracted once, and the anchors of all PatternKits are
+ * compiled into a single Aho-Corasick automaton. Scanning walks the text exactly once; afterwards,
+ * only those PatternKits whose anchors were all found need to be run against the text.
+ *
+ * <p>Anchor extraction is conservative: anything it does not fully understand yields fewer (or no)
+ * anchors, so a PatternKit is never rejected for text it could match.
+ *
+ * <p>A compiled prefilter is immutable, so it may be shared by threads scanning different texts.
+ */
+public final class PatternKitPrefilter {
+
+  private static final int MIN_ANCHOR_LENGTH = 3;
+  private static final int UNSUPPORTED_FLAGS =
+      Pattern.COMMENTS | Pattern.LITERAL | Pattern.CANON_EQ;
+  private static final String ESCAPE_ARGUMENT_CHARS = "{}<>_,-";
+
+  private final Map<PatternKit<?>, int[]> requiredAnchors = new IdentityHashMap<>();
+  private final Automaton automaton;
+
+  private PatternKitPrefilter(@NotNull Collection<? extends PatternKit<?>> patternKits) {
+    final Map<String, Integer> anchorIndex = new LinkedHashMap<>();
+    for (PatternKit<?> patternKit : patternKits) {
+      final int[] anchors =
+          extractAnchors(patternKit.getPattern()).stream()
+              .mapToInt(anchor -> anchorIndex.computeIfAbsent(anchor, a -> anchorIndex.size()))
+              .toArray();
+      requiredAnchors.put(patternKit, anchors);
+    }
+    this.automaton = new Automaton(anchorIndex.keySet());
+  }
+
+  public static @NotNull PatternKitPrefilter compile(
+      @NotNull Collection<? extends PatternKit<?>> patternKits) {
+    return new PatternKitPrefilter(patternKits);
+  }
+
+  /**
+   * Walk the text once, recording which anchors it contains.
+   *
+   * @param text The text which will be parsed
+   * @return The result of the scan, which can be used to filter PatternKits
+   */
+  public @NotNull Scan scan(@NotNull String text) {
+    return new Scan(automaton.findAll(text));
+  }
+
+  /**
+   * Extract the literal strings which every match of the given Pattern must contain. Only literals
+   * outside any group are considered, and only if there is no top-level alternation.
+   *
+   * @param pattern A compiled regular expression
+   * @return Lower-cased required literals; empty if none could be determined
+   */
+  static @NotNull List<String> extractAnchors(@NotNull Pattern pattern) {
+    if ((pattern.flags() & UNSUPPORTED_FLAGS) != 0) {
+      return List.of();
+    }
+    final String regex = pattern.pattern();
+    final int length = regex.length();
+    final List<String> anchors = new ArrayList<>();
+    final StringBuilder run = new StringBuilder();
+    int depth = 0;
+
+    for (int i = 0; i < length; i++) {
+      final char c = regex.charAt(i);
+      if (c == '\\') {
+        if (i + 1 >= length) return List.of();
+        final char escaped = regex.charAt(++i);
+        if (escaped == 'Q') return List.of();
+        if (Character.isLetterOrDigit(escaped)) {
+          // character class, anchor, back-reference or code point; skip its arguments
+          while (i + 1 < length && isEscapeArgument(regex.charAt(i + 1))) i++;
+          flush(run, anchors, depth);
+        } else if (depth == 0) {
+          i = appendLiteral(regex, i, escaped, run, anchors);
+        }
+      } else if (c == '[') {
+        flush(run, anchors, depth);
+        i = skipCharacterClass(regex, i);
+        if (i < 0) return List.of();
+      } else if (c == '(') {
+        flush(run, anchors, depth);
+        if (regex.startsWith("(?", i)) {
+          int j = i + 2;
+          while (j < length && (Character.isLetter(regex.charAt(j)) || regex.charAt(j) == '-')) {
+            if (regex.charAt(j) == 'x') return List.of();
+            j++;
+          }
+          if (j < length && regex.charAt(j) == ')' && j > i + 2) {
+            // inline flags; matching is case-insensitive anyway
+            i = j;
+            continue;
+          }
+        }
+        depth++;
+      } else if (c == ')') {
+        if (--depth < 0) return List.of();
+        flush(run, anchors, depth);
+      } else if (c == '|') {
+        if (depth == 0) return List.of();
+      } else if (c == '{') {
+        flush(run, anchors, depth);
+        while (i + 1 < length && regex.charAt(i + 1) != '}') i++;
+      } else if (".^$?*+}".indexOf(c) >= 0) {
+        flush(run, anchors, depth);
+      } else if (depth == 0) {
+        i = appendLiteral(regex, i, c, run, anchors);
+      }
+    }
+    if (depth != 0) return List.of();
+    flush(run, anchors, depth);
+    return anchors;
+  }
+
+  private static boolean isEscapeArgument(char c) {
+    return Character.isLetterOrDigit(c) || ESCAPE_ARGUMENT_CHARS.indexOf(c) >= 0;
+  }
+
+  private static int appendLiteral(
+      @NotNull String regex,
+      int index,
+      char literal,
+      @NotNull StringBuilder run,
+      @NotNull List<String> anchors) {
+    if (literal > 0x7e || literal < 0x20) {
+      flush(run, anchors, 0);
+      return index;
+    }
+    final char next = index + 1 < regex.length() ? regex.charAt(index + 1) : 0;
+    if (next == '?' || next == '*' || next == '{') {
+      // literal is optional (or repeated an unknown number of times)
+      flush(run, anchors, 0);
+    } else if (next == '+') {
+      run.append(literal);
+      flush(run, anchors, 0);
+    } else {
+      run.append(literal);
+    }
+    return index;
+  }
+
+  private static int skipCharacterClass(@NotNull String regex, int start) {
+    int depth = 0;
+    for (int i = start; i < regex.length(); i++) {
+      final char c = regex.charAt(i);
+      if (c == '\\') {
+        i++;
+      } else if (c == '[') {
+        depth++;
+        // a closing bracket immediately after the opening bracket is literal
+        if (i + 1 < regex.length() && regex.charAt(i + 1) == '^') i++;
+        if (i + 1 < regex.length() && regex.charAt(i + 1) == ']') i++;
+      } else if (c == ']' && --depth == 0) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static void flush(@NotNull StringBuilder run, @NotNull List<String> anchors, int depth) {
+    if (depth == 0 && run.length() >= MIN_ANCHOR_LENGTH) {
+      final String anchor = run.toString().toLowerCase(Locale.ROOT);
+      if (!anchors.contains(anchor)) {
+        anchors.add(anchor);
+      }
+    }
+    run.setLength(0);
+  }
+
+  public final class Scan {
+
+    private final BitSet found;
+
+    private Scan(@NotNull BitSet found) {
+      this.found = found;
+    }
+
+    /**
+     * @param patternKit A PatternKit
+     * @return false only if the PatternKit certainly cannot match the scanned text
+     */
+    public boolean mayMatch(@NotNull PatternKit<?> patternKit) {
+      final int[] anchors = requiredAnchors.get(patternKit);
+      if (anchors == null) {
+        return true;
+      }
+      for (int anchor : anchors) {
+        if (!found.get(anchor)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    public <T> @NotNull List<PatternKit<? extends T>> filter(
+        @NotNull List<PatternKit<? extends T>> patternKits) {
+      final List<PatternKit<? extends T>> candidates = new ArrayList<>(patternKits.size());
+      for (PatternKit<? extends T> patternKit : patternKits) {
+        if (mayMatch(patternKit)) {
+          candidates.add(patternKit);
+        }
+      }
+      return candidates;
+    }
+  }
+
+  /** Aho-Corasick automaton over lower-cased characters. */
+  private static final class Automaton {
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<BitSet> outputs = new ArrayList<>();
+    private final int[] failures;
+    private final int keywordCount;
+
+    private Automaton(@NotNull Collection<String> keywords) {
+      this.keywordCount = keywords.size();
+      addState();
+      int keyword = 0;
+      for (String word : keywords) {
+        int state = 0;
+        for (int i = 0; i < word.length(); i++) {
+          final char c = word.charAt(i);
+          Integer next = transitions.get(state).get(c);
+          if (next == null) {
+            next = addState();
+            transitions.get(state).put(c, next);
+          }
+          state = next;
+        }
+        outputs.get(state).set(keyword++);
+      }
+      this.failures = computeFailures();
+    }
+
+    private int addState() {
+      transitions.add(new HashMap<>());
+      outputs.add(new BitSet());
+      return transitions.size() - 1;
+    }
+
+    private int @NotNull [] computeFailures() {
+      final int[] fail = new int[transitions.size()];
+      final Queue<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+      while (!queue.isEmpty()) {
+        final int state = queue.remove();
+        for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+          final int child = edge.getValue();
+          int fallback = fail[state];
+          while (fallback != 0 && !transitions.get(fallback).containsKey(edge.getKey())) {
+            fallback = fail[fallback];
+          }
+          final Integer target = transitions.get(fallback).get(edge.getKey());
+          fail[child] = target != null && target != child ? target : 0;
+          outputs.get(child).or(outputs.get(fail[child]));
+          queue.add(child);
+        }
+      }
+      return fail;
+    }
+
+    private @NotNull BitSet findAll(@NotNull String text) {
+      final BitSet found = new BitSet(keywordCount);
+      if (keywordCount == 0) {
+        return found;
+      }
+      int state = 0;
+      for (int i = 0; i < text.length(); i++) {
+        final char c = Character.toLowerCase(text.charAt(i));
+        Integer next;
+        while ((next = transitions.get(state).get(c)) == null && state != 0) {
+          state = failures[state];
+        }
+        state = next != null ? next : 0;
+        final BitSet output = outputs.get(state);
+        if (!output.isEmpty()) {
+          found.or(output);
+          if (found.cardinality() == keywordCount) {
+            break;
+          }
+        }
+      }
+      return found;
+    }
+  }
+}
@@ -21,35 +21,23 @@ package net.tomasbot.matchday.plugin.datasource.parsing;
 
 import java.lang.reflect.Field;
 import java.util.Collection;
-import java.util.List;
 import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.stream.Stream;
 
-import net.tomasbot.matchday.plugin.datasource.parsing.type.TypeHandler;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.stereotype.Component;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
 import net.tomasbot.matchday.model.PatternKit;
-import net.tomasbot.matchday.plugin.datasource.parsing.CreationStrategy.Priority;
-import net.tomasbot.matchday.plugin.datasource.parsing.strategy.UseRegisteredTypeHandlers;
-import net.tomasbot.matchday.plugin.datasource.parsing.strategy.UseStaticStringMethod;
-import net.tomasbot.matchday.plugin.datasource.parsing.strategy.UseStringConstructor;
 import net.tomasbot.matchday.util.ReflectionUtils;
 
 @Component
 public class TextParser {
 
-  private final MultiValueMap<Priority, CreationStrategy> creationStrategies =
-      new LinkedMultiValueMap<>();
+  private final TypeConverterRegistry converterRegistry;
 
-  private TextParser(@NotNull List<TypeHandler<?>> handlers) {
-    // register default strategies
-    creationStrategies.add(Priority.HIGH, new UseRegisteredTypeHandlers(handlers));
-    creationStrategies.add(Priority.NORMAL, new UseStaticStringMethod());
-    creationStrategies.add(Priority.LOW, new UseStringConstructor());
+  private TextParser(@NotNull TypeConverterRegistry converterRegistry) {
+    this.converterRegistry = converterRegistry;
   }
 
   public <E> Stream<? extends E> createEntityStreams(
@@ -89,7 +77,7 @@ public class TextParser {
                 final Field field = getFieldByName(e, name);
                 if (field != null) {
                   final String group = matcher.group(index).trim();
-                  final Object fieldValue = createFieldValue(field.getType(), group);
+                  final Object fieldValue = converterRegistry.convert(group, field.getType());
                   setFieldValue(e, field, fieldValue);
                 }
               } catch (Exception ignore) {
@@ -110,26 +98,6 @@ public class TextParser {
     return null;
   }
 
-  @Nullable
-  private Object createFieldValue(Class<?> clazz, String data) {
-    return creationStrategies.entrySet().stream()
-        .flatMap(priorityLevel -> priorityLevel.getValue().stream())
-        .map(creationStrategy -> applyCreationStrategy(creationStrategy, data, clazz))
-        .filter(Objects::nonNull)
-        .findFirst()
-        .orElse(null);
-  }
-
-  @Nullable
-  private Object applyCreationStrategy(
-      CreationStrategy creationStrategy, String data, Class<?> clazz) {
-    try {
-      return creationStrategy.apply(data, clazz);
-    } catch (Throwable ignore) {
-      return null;
-    }
-  }
-
   private void setFieldValue(@NotNull Object prototype, @NotNull Field field, Object value)
       throws IllegalAccessException {
     final boolean canAccess = field.canAccess(prototype);
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.tomasbot.matchday.plugin.datasource.parsing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import net.tomasbot.matchday.plugin.datasource.parsing.CreationStrategy.Priority;
+import net.tomasbot.matchday.plugin.datasource.parsing.strategy.UseRegisteredTypeHandlers;
+import net.tomasbot.matchday.plugin.datasource.parsing.strategy.UseStaticStringMethod;
+import net.tomasbot.matchday.plugin.datasource.parsing.strategy.UseStringConstructor;
+import net.tomasbot.matchday.plugin.datasource.parsing.type.TypeHandler;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * Resolves, for each target type, the ordered list of CreationStrategies able to create it. Each
+ * type is resolved only once; both positive (one or more converters) and negative (no converter)
+ * results are cached, so strategies which do not apply are never tried again. Conversion failures
+ * are counted per type, and published as a gauge for each type which has failed.
+ */
+@Component
+public class TypeConverterRegistry implements MeterBinder {
+
+  private static final String FAILURES_METRIC = "matchday.parsing.conversion.failures";
+
+  private final MultiValueMap<Priority, CreationStrategy> creationStrategies =
+      new LinkedMultiValueMap<>();
+  private final Map<Class<?>, List<Function<String, ?>>> converters = new ConcurrentHashMap<>();
+  private final Map<Class<?>, LongAdder> failures = new ConcurrentHashMap<>();
+  private volatile MeterRegistry meterRegistry;
+
+  public TypeConverterRegistry(@NotNull List<TypeHandler<?>> handlers) {
+    // register default strategies
+    creationStrategies.add(Priority.HIGH, new UseRegisteredTypeHandlers(handlers));
+    creationStrategies.add(Priority.NORMAL, new UseStaticStringMethod());
+    creationStrategies.add(Priority.LOW, new UseStringConstructor());
+  }
+
+  /**
+   * Convert String data into an instance of the given type, using the first resolved converter
+   * which produces a value.
+   *
+   * @param data The text data
+   * @param clazz The target type
+   * @return An instance of the given type, or null if no converter could create one
+   */
+  @Nullable
+  public Object convert(@NotNull String data, @NotNull Class<?> clazz) {
+    for (Function<String, ?> converter : getConverters(clazz)) {
+      final Object value = tryConvert(converter, data);
+      if (value != null) {
+        return value;
+      }
+    }
+    failures.computeIfAbsent(clazz, this::newFailureCount).increment();
+    return null;
+  }
+
+  public boolean canConvert(@NotNull Class<?> clazz) {
+    return !getConverters(clazz).isEmpty();
+  }
+
+  /**
+   * @return The number of times conversion to each type has failed, either because no strategy
+   *     applies to the type, or because every applicable converter rejected the data
+   */
+  public Map<Class<?>, Long> getConversionFailures() {
+    return failures.entrySet().stream()
+        .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+  }
+
+  public void resetConversionFailures() {
+    failures.clear();
+  }
+
+  private long getConversionFailures(@NotNull Class<?> clazz) {
+    final LongAdder count = failures.get(clazz);
+    return count != null ? count.sum() : 0;
+  }
+
+  @Override
+  public void bindTo(@NotNull MeterRegistry registry) {
+    this.meterRegistry = registry;
+    failures.keySet().forEach(type -> registerFailureGauge(registry, type));
+  }
+
+  private @NotNull LongAdder newFailureCount(@NotNull Class<?> type) {
+    final MeterRegistry registry = this.meterRegistry;
+    if (registry != null) {
+      registerFailureGauge(registry, type);
+    }
+    return new LongAdder();
+  }
+
+  // the gauge reads the count through the registry, so it survives a reset
+  private void registerFailureGauge(@NotNull MeterRegistry registry, @NotNull Class<?> type) {
+    Gauge.builder(FAILURES_METRIC, this, converters -> converters.getConversionFailures(type))
+        .tag("type", type.getName())
+        .register(registry);
+  }
+
+  private List<Function<String, ?>> getConverters(@NotNull Class<?> clazz) {
+    return converters.computeIfAbsent(clazz, this::resolveConverters);
+  }
+
+  private @NotNull List<Function<String, ?>> resolveConverters(
+      @NotNull Class<?> clazz) {
+    final List<Function<String, ?>> resolved =
+        Arrays.stream(Priority.values())
+            .filter(priority -> priority != Priority.DISABLE)
+            .map(creationStrategies::get)
+            .filter(Objects::nonNull)
+            .flatMap(List::stream)
+            .map(strategy -> strategy.resolve(clazz))
+            .flatMap(Optional::stream)
+            .collect(Collectors.toList());
+    return Collections.unmodifiableList(resolved);
+  }
+
+  @Nullable
+  private Object tryConvert(@NotNull Function<String, ?> converter, String data) {
+    try {
+      return converter.apply(data);
+    } catch (RuntimeException e) {
+      // the data could not be converted by this converter
+      return null;
+    }
+  }
+}
@@ -36,7 +36,8 @@ class FolderSpliterator<R, T> extends Spliterators.AbstractSpliterator<R> {
   private final AtomicReference<R> ref;
 
   public FolderSpliterator(@NotNull Spliterator<T> spliterator, @NotNull Folder<T, R> folder) {
-    super(spliterator.estimateSize(), spliterator.characteristics());
+    // folding changes the number of elements, so the result is never SIZED
+    super(spliterator.estimateSize(), spliterator.characteristics() & ~(SIZED | SUBSIZED));
 
     this.spliterator = spliterator;
     this.streamSize = spliterator.estimateSize();
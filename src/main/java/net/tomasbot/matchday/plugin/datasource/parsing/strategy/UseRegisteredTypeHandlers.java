@@ -20,6 +20,8 @@
 package net.tomasbot.matchday.plugin.datasource.parsing.strategy;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 import org.jetbrains.annotations.NotNull;
 import net.tomasbot.matchday.plugin.datasource.parsing.CreationStrategy;
 import net.tomasbot.matchday.plugin.datasource.parsing.type.TypeHandler;
@@ -33,11 +35,10 @@ public class UseRegisteredTypeHandlers implements CreationStrategy {
   }
 
   @Override
-  public Object apply(String data, Class<?> clazz) {
+  public Optional<Function<String, ?>> resolve(@NotNull Class<?> clazz) {
     return typeHandlers.stream()
         .filter(typeHandler -> typeHandler.getClazz().equals(clazz))
         .findFirst()
-        .map(typeHandler -> typeHandler.getHandler().apply(data))
-        .orElseThrow();
+        .<Function<String, ?>>map(TypeHandler::getHandler);
   }
 }
@@ -19,17 +19,30 @@
 
 package net.tomasbot.matchday.plugin.datasource.parsing.strategy;
 
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
 import org.jetbrains.annotations.NotNull;
 import net.tomasbot.matchday.plugin.datasource.parsing.CreationStrategy;
 
 public class UseStaticStringMethod implements CreationStrategy {
 
-  private static final String ERROR_MSG = "No static method with required params found";
+  @NotNull
+  private static Function<String, ?> invoking(@NotNull Method method) {
+    return data -> {
+      try {
+        return method.invoke(null, data);
+      } catch (ReflectiveOperationException e) {
+        throw new UndeclaredThrowableException(e);
+      }
+    };
+  }
 
   @Override
-  public Object apply(String data, @NotNull final Class<?> clazz) {
+  public Optional<Function<String, ?>> resolve(@NotNull final Class<?> clazz) {
     return Arrays.stream(clazz.getDeclaredMethods())
         .filter(method -> Modifier.isStatic(method.getModifiers()))
         .filter(
@@ -37,16 +50,8 @@ public class UseStaticStringMethod implements CreationStrategy {
               final Class<?>[] parameterTypes = method.getParameterTypes();
               return parameterTypes.length == 1 && parameterTypes[0].equals(String.class);
             })
-        .findAny()
-        .map(
-            method -> {
-              try {
-                method.setAccessible(true);
-                return method.invoke(null, data);
-              } catch (ReflectiveOperationException e) {
-                throw new RuntimeException(e);
-              }
-            })
-        .orElseThrow(() -> new RuntimeException(ERROR_MSG));
+        .filter(Method::trySetAccessible)
+        .findFirst()
+        .map(UseStaticStringMethod::invoking);
   }
 }
@@ -20,18 +20,35 @@
 package net.tomasbot.matchday.plugin.datasource.parsing.strategy;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
 import org.jetbrains.annotations.NotNull;
 import net.tomasbot.matchday.plugin.datasource.parsing.CreationStrategy;
 
 public class UseStringConstructor implements CreationStrategy {
 
+  @NotNull
+  private static Function<String, ?> constructing(@NotNull Constructor<?> constructor) {
+    return data -> {
+      try {
+        return constructor.newInstance(data);
+      } catch (ReflectiveOperationException e) {
+        throw new UndeclaredThrowableException(e);
+      }
+    };
+  }
+
   @Override
-  public Object apply(String data, @NotNull Class<?> clazz) {
-    try {
-      final Constructor<?> constructor = clazz.getConstructor(String.class);
-      return constructor.newInstance(data);
-    } catch (ReflectiveOperationException e) {
-      throw new RuntimeException(e);
-    }
+  public Optional<Function<String, ?>> resolve(@NotNull Class<?> clazz) {
+    return Arrays.stream(clazz.getConstructors())
+        .filter(
+            constructor -> {
+              final Class<?>[] parameterTypes = constructor.getParameterTypes();
+              return parameterTypes.length == 1 && parameterTypes[0].equals(String.class);
+            })
+        .findFirst()
+        .map(UseStringConstructor::constructing);
   }
 }
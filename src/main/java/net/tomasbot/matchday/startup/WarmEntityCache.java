@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.tomasbot.matchday.startup;
+
+import java.util.List;
+import net.tomasbot.matchday.api.service.CompetitionService;
+import net.tomasbot.matchday.api.service.CountryService;
+import net.tomasbot.matchday.api.service.TeamService;
+import net.tomasbot.matchday.model.Competition;
+import net.tomasbot.matchday.model.Country;
+import net.tomasbot.matchday.model.Team;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/** Load Countries, Competitions & Teams into the second-level cache, once Countries exist. */
+@Component
+@Order(3)
+public class WarmEntityCache implements CommandLineRunner {
+
+  private static final Logger logger = LogManager.getLogger(WarmEntityCache.class);
+
+  private final CountryService countryService;
+  private final CompetitionService competitionService;
+  private final TeamService teamService;
+
+  WarmEntityCache(
+      CountryService countryService,
+      CompetitionService competitionService,
+      TeamService teamService) {
+    this.countryService = countryService;
+    this.competitionService = competitionService;
+    this.teamService = teamService;
+  }
+
+  @Override
+  public void run(String... args) {
+    logger.info("Warming entity cache...");
+    final List<Country> countries = countryService.getAllCountries();
+    final List<Competition> competitions = competitionService.fetchAll();
+    final List<Team> teams = teamService.fetchAll();
+    logger.info(
+        "Entity cache warmed with {} Countries, {} Competitions & {} Teams",
+        countries.size(),
+        competitions.size(),
+        teams.size());
+  }
+}
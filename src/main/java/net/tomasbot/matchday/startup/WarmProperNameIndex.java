@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.tomasbot.matchday.startup;
+
+import net.tomasbot.matchday.api.service.ProperNameIndex;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WarmProperNameIndex implements CommandLineRunner {
+
+  private static final Logger logger = LogManager.getLogger(WarmProperNameIndex.class);
+
+  private final ProperNameIndex properNameIndex;
+
+  WarmProperNameIndex(ProperNameIndex properNameIndex) {
+    this.properNameIndex = properNameIndex;
+  }
+
+  @Override
+  public void run(String... args) {
+    logger.info("Warming ProperName index...");
+    properNameIndex.warm();
+  }
+}
@@ -21,11 +21,15 @@ package net.tomasbot.matchday.util;
 
 import com.google.gson.*;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
 import java.awt.*;
+import java.io.IOException;
 import java.io.Reader;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -173,6 +177,14 @@ public class JsonParser {
                       final String text = json.getAsJsonPrimitive().getAsString();
                       return LocalDateTime.parse(text, DATETIME_FORMATTER);
                     })
+            .registerTypeAdapter(
+                Instant.class,
+                (JsonSerializer<Instant>)
+                    (instant, type, context) -> new JsonPrimitive(instant.toString()))
+            .registerTypeAdapter(
+                Instant.class,
+                (JsonDeserializer<Instant>)
+                    (json, type, context) -> Instant.parse(json.getAsJsonPrimitive().getAsString()))
             .registerTypeHierarchyAdapter(
                 Path.class,
                 (JsonSerializer<Path>)
@@ -228,6 +240,21 @@ public class JsonParser {
     return gson.toJson(src, type);
   }
 
+  /**
+   * Create a writer with the same settings as toJson(), for writing a document piece by piece.
+   *
+   * @param writer The destination of the JSON
+   * @return A JsonWriter, to which values may be written with toJson(Object, Type, JsonWriter)
+   * @throws IOException If the writer cannot be created
+   */
+  public static JsonWriter newJsonWriter(Writer writer) throws IOException {
+    return gson.newJsonWriter(writer);
+  }
+
+  public static void toJson(Object src, Type type, JsonWriter writer) {
+    gson.toJson(src, type, writer);
+  }
+
   public static <T> T fromJson(String json, Class<T> clazz) {
     return gson.fromJson(json, clazz);
   }
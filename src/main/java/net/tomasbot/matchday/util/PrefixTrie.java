@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.tomasbot.matchday.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Maps string prefixes, such as base URLs, to values. The longest prefix of a key is found in time
+ * proportional to the length of the key, however many prefixes are mapped.
+ *
+ * @param <T> The type of the mapped values
+ */
+public class PrefixTrie<T> {
+
+  private final Node<T> root = new Node<>();
+
+  /**
+   * Map a prefix to a value. If the prefix is already mapped, the first value is kept.
+   *
+   * @param prefix The prefix
+   * @param value The value to be found for keys beginning with the prefix
+   */
+  public void put(@NotNull String prefix, @NotNull T value) {
+    Node<T> node = root;
+    for (int i = 0; i < prefix.length(); i++) {
+      node = node.children.computeIfAbsent(prefix.charAt(i), c -> new Node<>());
+    }
+    if (node.value == null) {
+      node.value = value;
+    }
+  }
+
+  /**
+   * Find the value of the longest mapped prefix of the given key.
+   *
+   * @param key The key, e.g., a URL
+   * @return The value of the longest prefix of the key, if any is mapped
+   */
+  public Optional<T> findLongestPrefix(@NotNull String key) {
+    Node<T> node = root;
+    T longest = node.value;
+    for (int i = 0; i < key.length(); i++) {
+      node = node.children.get(key.charAt(i));
+      if (node == null) {
+        break;
+      }
+      if (node.value != null) {
+        longest = node.value;
+      }
+    }
+    return Optional.ofNullable(longest);
+  }
+
+  private static final class Node<T> {
+    private final Map<Character, Node<T>> children = new HashMap<>();
+    private T value;
+  }
+}
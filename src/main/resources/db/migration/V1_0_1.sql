@@ -0,0 +1,4 @@
+ALTER TABLE event
+    ADD natural_key VARCHAR(64) NULL;
+
+CREATE UNIQUE INDEX UX_EVENT_NATURAL_KEY ON event (natural_key);
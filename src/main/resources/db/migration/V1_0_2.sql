@@ -0,0 +1,5 @@
+ALTER TABLE artwork
+    ADD content_hash VARCHAR(64) NULL;
+
+CREATE INDEX IX_ARTWORK_CONTENT_HASH ON artwork (content_hash);
+CREATE INDEX IX_ARTWORK_FILE ON artwork (file);
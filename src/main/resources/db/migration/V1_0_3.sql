@@ -0,0 +1,2 @@
+-- keyset pagination of Events: newest first, ties broken by ID
+CREATE INDEX IX_EVENT_DATE_EVENT_ID ON event (date, event_id);
@@ -0,0 +1,15 @@
+-- modification times, which validate cached API responses
+ALTER TABLE competition
+    ADD last_modified DATETIME(6) NULL;
+ALTER TABLE team
+    ADD last_modified DATETIME(6) NULL;
+ALTER TABLE event
+    ADD last_modified DATETIME(6) NULL;
+
+UPDATE competition SET last_modified = CURRENT_TIMESTAMP(6);
+UPDATE team SET last_modified = CURRENT_TIMESTAMP(6);
+UPDATE event SET last_modified = CURRENT_TIMESTAMP(6);
+
+-- the latest change to any Competition or Team revalidates every list of Events
+CREATE INDEX IX_COMPETITION_LAST_MODIFIED ON competition (last_modified);
+CREATE INDEX IX_TEAM_LAST_MODIFIED ON team (last_modified);
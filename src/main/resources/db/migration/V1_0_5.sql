@@ -0,0 +1,16 @@
+-- indexes for the filters & orderings of frequent repository queries; see QueryPlanTest
+
+-- stream locators of a video file, oldest first
+CREATE INDEX IX_VIDEO_STREAM_LOCATOR_VIDEO_FILE_TIMESTAMP
+    ON video_stream_locator (video_file_file_id, timestamp);
+
+-- stream playlists of a file source, oldest first
+CREATE INDEX IX_VIDEO_STREAM_LOCATOR_PLAYLIST_FILE_SOURCE_TIMESTAMP
+    ON video_stream_locator_playlist (file_source_file_src_id, timestamp);
+
+-- Events of a Competition, newest first
+CREATE INDEX IX_EVENT_COMPETITION_DATE ON event (competition_id, date, event_id);
+
+-- Teams, Competitions & Synonyms looked up by name
+CREATE INDEX IX_PROPER_NAME_NAME ON proper_name (name);
+CREATE INDEX IX_SYNONYM_NAME ON synonym (name);
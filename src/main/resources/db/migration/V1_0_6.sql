@@ -0,0 +1,54 @@
+-- one stream playlist per file source; concurrent first plays could each create one. The oldest
+-- playlist is kept; the others are deleted, along with their locators & states. Their stream
+-- directories on disk are not referenced by any row afterwards.
+CREATE TEMPORARY TABLE duplicate_playlist AS
+SELECT DISTINCT duplicate.id, duplicate.state_id
+FROM video_stream_locator_playlist duplicate
+         JOIN video_stream_locator_playlist kept
+              ON kept.file_source_file_src_id = duplicate.file_source_file_src_id
+                  AND kept.id < duplicate.id;
+
+CREATE TEMPORARY TABLE duplicate_locator AS
+SELECT locator.stream_locator_id, locator.state_id
+FROM video_stream_locator locator
+         JOIN video_stream_locator_playlist_stream_locators ls
+              ON ls.stream_locators_stream_locator_id = locator.stream_locator_id
+WHERE ls.video_stream_locator_playlist_id IN (SELECT id FROM duplicate_playlist);
+
+DELETE
+FROM video_stream_locator_playlist_stream_locators
+WHERE video_stream_locator_playlist_id IN (SELECT id FROM duplicate_playlist);
+
+DELETE
+FROM task_list_state_task_states
+WHERE task_list_state_id IN (SELECT state_id FROM duplicate_playlist);
+
+DELETE
+FROM video_stream_locator_playlist
+WHERE id IN (SELECT id FROM duplicate_playlist);
+
+DELETE
+FROM video_stream_locator
+WHERE stream_locator_id IN (SELECT stream_locator_id FROM duplicate_locator);
+
+DELETE
+FROM task_state
+WHERE id IN (SELECT state_id FROM duplicate_locator);
+
+DELETE
+FROM task_list_state
+WHERE id IN (SELECT state_id FROM duplicate_playlist);
+
+DELETE
+FROM stream_job_state
+WHERE id IN (SELECT state_id FROM duplicate_locator);
+
+DELETE
+FROM stream_job_state
+WHERE id IN (SELECT state_id FROM duplicate_playlist);
+
+DROP TEMPORARY TABLE duplicate_locator;
+DROP TEMPORARY TABLE duplicate_playlist;
+
+ALTER TABLE video_stream_locator_playlist
+    ADD CONSTRAINT UX_VIDEO_STREAM_LOCATOR_PLAYLIST_FILE_SOURCE UNIQUE (file_source_file_src_id);
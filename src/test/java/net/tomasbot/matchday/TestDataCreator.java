@@ -27,6 +27,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.gson.reflect.TypeToken;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Type;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -61,6 +62,7 @@ public class TestDataCreator {
 
   private static final String BASE_URL = "http://hal9000:7000";
   private static final Random numGen = new Random();
+  private static final long ARTWORK_RENDER_TIMEOUT_MS = 30_000;
 
   private final EventService eventService;
   private final VideoFileSrcRepository fileSrcRepository;
@@ -68,6 +70,7 @@ public class TestDataCreator {
   private final CompetitionService competitionService;
   private final TeamService teamService;
   private final FileServerUserService userService;
+  private final MatchArtworkRenderQueue artworkRenderQueue;
 
   @Autowired
   public TestDataCreator(
@@ -76,13 +79,15 @@ public class TestDataCreator {
       HighlightService highlightService,
       CompetitionService competitionService,
       TeamService teamService,
-      FileServerUserService userService) {
+      FileServerUserService userService,
+      MatchArtworkRenderQueue artworkRenderQueue) {
     this.eventService = eventService;
     this.fileSrcRepository = fileSrcRepository;
     this.highlightService = highlightService;
     this.competitionService = competitionService;
     this.teamService = teamService;
     this.userService = userService;
+    this.artworkRenderQueue = artworkRenderQueue;
   }
 
   private static int getRandomNumber(int min, int max) {
@@ -90,21 +95,6 @@ public class TestDataCreator {
     return Math.abs(number);
   }
 
-  public static void deleteGeneratedMatchArtwork(@NotNull Collection<Event> cleanupData)
-      throws IOException {
-    logger.info("Attempting to delete: {} test-generated files...", cleanupData.size());
-    for (Event event : cleanupData) {
-      final File file = event.getArtwork().getFile().toFile();
-      logger.info("Deleting test-generated Artwork file: {}", file);
-      final boolean deleted = file.delete();
-      if (deleted || !file.exists()) {
-        logger.info("Successfully deleted file: {}", file);
-      } else {
-        throw new IOException("Could not delete file: " + file);
-      }
-    }
-  }
-
   public static String getRandomizedName(@NotNull String name, int start, int end) {
     final int seed = getRandomNumber(start, end);
     return String.format("Test Competition %s [%d]", name, seed);
@@ -235,15 +225,62 @@ public class TestDataCreator {
     return (Match) eventService.save(testEvent);
   }
 
-  @Transactional
   public void deleteTestEvent(Event event) {
     logger.info("Deleting Event: {}", event);
     if (event != null && event.getEventId() != null) {
+      final Artwork artwork = findGeneratedArtwork(event);
       eventService.delete(event.getEventId());
+      try {
+        deleteArtworkFile(artwork);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
     }
     // if id == null, Event is not managed
   }
 
+  public void deleteGeneratedMatchArtwork(@NotNull Collection<Event> cleanupData)
+      throws IOException {
+    logger.info("Attempting to delete: {} test-generated files...", cleanupData.size());
+    for (Event event : cleanupData) {
+      deleteArtworkFile(findGeneratedArtwork(event));
+    }
+  }
+
+  /**
+   * Match artwork is rendered in the background, so the given instance may predate it. Wait for
+   * any pending render, then read the Artwork by Event ID.
+   */
+  private @Nullable Artwork findGeneratedArtwork(@NotNull Event event) {
+    final UUID eventId = event.getEventId();
+    if (eventId == null) {
+      return event.getArtwork();
+    }
+    final long deadline = System.currentTimeMillis() + ARTWORK_RENDER_TIMEOUT_MS;
+    try {
+      while (artworkRenderQueue.isPending(eventId) && System.currentTimeMillis() < deadline) {
+        Thread.sleep(100);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return eventService.fetchById(eventId).map(Event::getArtwork).orElseGet(event::getArtwork);
+  }
+
+  private static void deleteArtworkFile(@Nullable Artwork artwork) throws IOException {
+    if (artwork == null || artwork.getFile() == null) {
+      return;
+    }
+    final File file = artwork.getFile().toFile();
+    logger.info("Deleting test-generated Artwork file: {}", file);
+    final boolean deleted = file.delete();
+    if (deleted || !file.exists()) {
+      logger.info("Successfully deleted file: {}", file);
+    } else {
+      throw new IOException("Could not delete file: " + file);
+    }
+  }
+
   @Transactional
   @NotNull
   public Competition createTestCompetition() {
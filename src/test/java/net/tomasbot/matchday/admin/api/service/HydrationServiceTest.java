@@ -0,0 +1,208 @@
+package net.tomasbot.matchday.admin.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.gson.stream.JsonReader;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javax.persistence.EntityManager;
+import net.tomasbot.matchday.TestDataCreator;
+import net.tomasbot.matchday.api.service.CompetitionService;
+import net.tomasbot.matchday.api.service.TeamService;
+import net.tomasbot.matchday.api.service.admin.HydrationService;
+import net.tomasbot.matchday.model.Competition;
+import net.tomasbot.matchday.model.Team;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.Session;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@DisplayName("HydrationService validation tests")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HydrationServiceTest {
+
+  private static final Logger logger = LogManager.getLogger(HydrationServiceTest.class);
+
+  private static final int EVENT_COUNT = 100_000;
+  private static final int INSERT_BATCH_SIZE = 5_000;
+  // characters written between samples of the persistence context
+  private static final long ENTITY_SAMPLE_INTERVAL = 1 << 20;
+  // far fewer than the number of Events written
+  private static final long MAX_MANAGED_ENTITIES = 1_000;
+
+  private final HydrationService hydrationService;
+  private final TestDataCreator testDataCreator;
+  private final CompetitionService competitionService;
+  private final TeamService teamService;
+  private final JdbcTemplate jdbcTemplate;
+  private final EntityManager entityManager;
+  private final List<Path> cleanupFiles = new ArrayList<>();
+  private final List<Team> testTeams = new ArrayList<>();
+  private Competition testCompetition;
+
+  @Autowired
+  HydrationServiceTest(
+      HydrationService hydrationService,
+      TestDataCreator testDataCreator,
+      CompetitionService competitionService,
+      TeamService teamService,
+      JdbcTemplate jdbcTemplate,
+      EntityManager entityManager) {
+    this.hydrationService = hydrationService;
+    this.testDataCreator = testDataCreator;
+    this.competitionService = competitionService;
+    this.teamService = teamService;
+    this.jdbcTemplate = jdbcTemplate;
+    this.entityManager = entityManager;
+  }
+
+  private static int countEvents(@NotNull Path json) throws IOException {
+    try (Reader reader = Files.newBufferedReader(json);
+        JsonReader jsonReader = new JsonReader(reader)) {
+      jsonReader.beginObject();
+      while (jsonReader.hasNext()) {
+        if (jsonReader.nextName().equals("events")) {
+          int count = 0;
+          jsonReader.beginArray();
+          while (jsonReader.hasNext()) {
+            jsonReader.skipValue();
+            count++;
+          }
+          return count;
+        }
+        jsonReader.skipValue();
+      }
+    }
+    return -1;
+  }
+
+  @AfterAll
+  void cleanup() throws IOException {
+    logger.info("Cleaning up test data...");
+    if (testCompetition != null) {
+      final String competitionId = testCompetition.getId().toString();
+      jdbcTemplate.update(
+          "DELETE FROM match_game WHERE event_id IN "
+              + "(SELECT event_id FROM event WHERE competition_id = ?)",
+          competitionId);
+      jdbcTemplate.update("DELETE FROM event WHERE competition_id = ?", competitionId);
+      competitionService.delete(testCompetition.getId());
+    }
+    for (Team team : testTeams) {
+      teamService.delete(team.getId());
+    }
+    for (Path path : cleanupFiles) {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  private void insertTestEvents() {
+    testCompetition = testDataCreator.createTestCompetition("HydrationServiceTest");
+    final Team homeTeam = testDataCreator.createTestTeam("HydrationServiceTest Home");
+    final Team awayTeam = testDataCreator.createTestTeam("HydrationServiceTest Away");
+    testTeams.add(homeTeam);
+    testTeams.add(awayTeam);
+    final String competitionId = testCompetition.getId().toString();
+    final LocalDateTime start = LocalDateTime.now();
+
+    logger.info("Inserting {} test Events...", EVENT_COUNT);
+    for (int batch = 0; batch < EVENT_COUNT; batch += INSERT_BATCH_SIZE) {
+      final List<Object[]> events = new ArrayList<>();
+      final List<Object[]> matches = new ArrayList<>();
+      for (int i = batch; i < batch + INSERT_BATCH_SIZE; i++) {
+        final String eventId = UUID.randomUUID().toString();
+        final Timestamp date = Timestamp.valueOf(start.minusMinutes(i));
+        events.add(new Object[] {eventId, date, competitionId, i % 38 + 1});
+        matches.add(
+            new Object[] {eventId, homeTeam.getId().toString(), awayTeam.getId().toString()});
+      }
+      jdbcTemplate.batchUpdate(
+          "INSERT INTO event (event_id, date, competition_id, fixture_number) VALUES (?, ?, ?, ?)",
+          events);
+      jdbcTemplate.batchUpdate(
+          "INSERT INTO match_game (event_id, home_team_id, away_team_id) VALUES (?, ?, ?)",
+          matches);
+    }
+  }
+
+  @Test
+  @DisplayName("Validate a system image of 100k Events is written with few entities in memory")
+  void testDehydrateLargeLibrary() throws IOException {
+    // given
+    insertTestEvents();
+    final Path json = Files.createTempFile("matchday_dehydrate_test", ".json");
+    cleanupFiles.add(json);
+
+    // when
+    final SamplingWriter writer = new SamplingWriter(Files.newBufferedWriter(json));
+    try (writer) {
+      hydrationService.dehydrate(writer);
+    }
+    logger.info(
+        "Wrote {} characters; at most {} managed entities", writer.written, writer.maxEntities);
+
+    // then
+    assertThat(countEvents(json)).isGreaterThanOrEqualTo(EVENT_COUNT);
+    assertThat(writer.maxEntities).isPositive().isLessThan(MAX_MANAGED_ENTITIES);
+  }
+
+  /** Samples the persistence context while the system image is written. */
+  private final class SamplingWriter extends FilterWriter {
+
+    private long written;
+    private long nextEntitySample;
+    private long maxEntities;
+
+    SamplingWriter(@NotNull Writer out) {
+      super(out);
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+      super.write(c);
+      afterWrite(1);
+    }
+
+    @Override
+    public void write(char @NotNull [] cbuf, int off, int len) throws IOException {
+      super.write(cbuf, off, len);
+      afterWrite(len);
+    }
+
+    @Override
+    public void write(@NotNull String str, int off, int len) throws IOException {
+      super.write(str, off, len);
+      afterWrite(len);
+    }
+
+    private void afterWrite(int len) {
+      written += len;
+      if (written >= nextEntitySample) {
+        // the shared EntityManager resolves to the one used by the dehydrating transaction
+        final int entities = entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+        maxEntities = Math.max(maxEntities, entities);
+        nextEntitySample = written + ENTITY_SAMPLE_INTERVAL;
+      }
+    }
+  }
+}
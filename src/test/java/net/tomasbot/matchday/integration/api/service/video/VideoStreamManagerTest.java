@@ -22,19 +22,32 @@ package net.tomasbot.matchday.integration.api.service.video;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import net.tomasbot.matchday.TestDataCreator;
 import net.tomasbot.matchday.TestFileServerPlugin;
+import net.tomasbot.matchday.api.service.EventService;
 import net.tomasbot.matchday.api.service.FileServerPluginService;
 import net.tomasbot.matchday.api.service.FileServerUserService;
+import net.tomasbot.matchday.api.service.video.VideoStreamLocatorPlaylistService;
 import net.tomasbot.matchday.api.service.video.VideoStreamManager;
+import net.tomasbot.matchday.db.VideoStreamLocatorPlaylistRepo;
 import net.tomasbot.matchday.model.FileServerUser;
+import net.tomasbot.matchday.model.Match;
 import net.tomasbot.matchday.model.video.StreamJobState.JobStatus;
 import net.tomasbot.matchday.model.video.TaskListState;
+import net.tomasbot.matchday.model.video.VideoPlaylist;
 import net.tomasbot.matchday.model.video.VideoFileSource;
 import net.tomasbot.matchday.model.video.VideoStreamLocator;
 import net.tomasbot.matchday.model.video.VideoStreamLocatorPlaylist;
@@ -48,7 +61,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
@@ -59,8 +77,14 @@ class VideoStreamManagerTest {
   private static final Logger logger = LogManager.getLogger(VideoStreamManagerTest.class);
 
   private static final int WAIT_SECONDS = 5;
+  private static final int CONCURRENT_REQUESTS = 50;
 
+  private final TestDataCreator testDataCreator;
+  private final EventService eventService;
   private final VideoStreamManager streamManager;
+  private final VideoStreamLocatorPlaylistRepo playlistRepo;
+  private final VideoStreamLocatorPlaylistService playlistService;
+  private final TransactionTemplate newTransaction;
   private final ThreadPoolTaskExecutor executor;
   private final VideoFileSource testFileSource;
   private final FileServerPluginService dataSourcePluginService;
@@ -71,8 +95,18 @@ class VideoStreamManagerTest {
       @NotNull FileServerUserService userService,
       @NotNull List<ThreadPoolTaskExecutor> executors,
       @NotNull FileServerPluginService dataSourcePluginService,
-      VideoStreamManager streamManager) {
+      EventService eventService,
+      VideoStreamManager streamManager,
+      VideoStreamLocatorPlaylistRepo playlistRepo,
+      VideoStreamLocatorPlaylistService playlistService,
+      PlatformTransactionManager transactionManager) {
+    this.testDataCreator = testDataCreator;
+    this.eventService = eventService;
     this.streamManager = streamManager;
+    this.playlistRepo = playlistRepo;
+    this.playlistService = playlistService;
+    this.newTransaction = new TransactionTemplate(transactionManager);
+    this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     this.testFileSource = testDataCreator.createVideoFileSourceAndSave();
     this.executor = executors.get(0);
     this.dataSourcePluginService = dataSourcePluginService;
@@ -117,6 +151,97 @@ class VideoStreamManagerTest {
     streamManager.deleteLocalStreams(playlist);
   }
 
+  /** Playlists created in a transaction of their own outlive the test's; delete them likewise. */
+  private void deleteCommittedStreams(@NotNull UUID fileSrcId) {
+    newTransaction.executeWithoutResult(
+        status -> {
+          final List<VideoStreamLocatorPlaylist> playlists =
+              playlistRepo.fetchPlaylistsForFileSrc(fileSrcId);
+          for (VideoStreamLocatorPlaylist playlist : playlists) {
+            try {
+              streamManager.deleteLocalStreams(playlist);
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          }
+        });
+  }
+
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  @DisplayName("Validate concurrent first plays of an Event share one playlist")
+  void getOrCreateVideoStreamConcurrently() throws Exception {
+    // given
+    final Match match = testDataCreator.createTestMatch("VideoStreamManagerTest");
+    final UUID eventId = match.getEventId();
+    final UUID fileSrcId = match.getFileSources().iterator().next().getFileSrcId();
+    // more requests than pooled connections, each arriving as a request would, in no transaction
+    final ExecutorService requests = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+    final CountDownLatch start = new CountDownLatch(1);
+    final List<Future<VideoPlaylist>> results = new ArrayList<>();
+    try {
+      for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+        results.add(
+            requests.submit(
+                () -> {
+                  start.await();
+                  return eventService.getVideoStreamPlaylist(eventId, fileSrcId).orElseThrow();
+                }));
+      }
+
+      // when
+      start.countDown();
+      final Set<Set<Long>> locatorIds = new HashSet<>();
+      for (Future<VideoPlaylist> result : results) {
+        locatorIds.add(Set.copyOf(result.get(60, TimeUnit.SECONDS).getLocatorIds().keySet()));
+      }
+      final List<VideoStreamLocatorPlaylist> playlists =
+          playlistRepo.fetchPlaylistsForFileSrc(fileSrcId);
+      logger.info("{} requests received locators: {}", CONCURRENT_REQUESTS, locatorIds);
+
+      // then
+      assertThat(locatorIds).hasSize(1);
+      assertThat(playlists).hasSize(1);
+      assertThat(playlists.get(0).getStreamLocators())
+          .extracting(VideoStreamLocator::getStreamLocatorId)
+          .containsExactlyInAnyOrderElementsOf(locatorIds.iterator().next());
+    } finally {
+      requests.shutdownNow();
+      streamManager.killAllStreams();
+      TimeUnit.SECONDS.sleep(WAIT_SECONDS);
+      deleteCommittedStreams(fileSrcId);
+      testDataCreator.deleteTestEvent(match);
+    }
+  }
+
+  @Test
+  @Transactional(isolation = Isolation.SERIALIZABLE)
+  @DisplayName("Validate a playlist committed unseen by the caller is returned, not duplicated")
+  void getOrCreateVideoStreamAfterUnseenCommit() {
+    // given
+    final UUID fileSrcId = testFileSource.getFileSrcId();
+    try {
+      // the first read fixes this transaction's snapshot, so the next commit is not seen
+      assertThat(streamManager.getLocalStreamFor(fileSrcId)).isEmpty();
+      final VideoStreamLocatorPlaylist committed =
+          playlistService.createVideoStreamPlaylist(testFileSource);
+      assertThat(streamManager.getLocalStreamFor(fileSrcId)).isEmpty();
+      logger.info("Committed playlist outside the test transaction: {}", committed);
+
+      // when
+      final VideoStreamLocatorPlaylist playlist =
+          streamManager.getOrCreateVideoStreamFrom(testFileSource);
+      final List<VideoStreamLocatorPlaylist> playlists =
+          newTransaction.execute(status -> playlistRepo.fetchPlaylistsForFileSrc(fileSrcId));
+
+      // then
+      assertThat(playlist.getId()).isEqualTo(committed.getId());
+      assertThat(playlists).hasSize(1);
+    } finally {
+      deleteCommittedStreams(fileSrcId);
+    }
+  }
+
   @Test
   @DisplayName("Validate creation of VideoStreamLocatorPlaylists from VideoFileSources")
   void createVideoStreamFrom() {
@@ -99,8 +99,8 @@ class VideoStreamingServiceTest {
   }
 
   @AfterAll
-  static void cleanup() throws IOException {
-    TestDataCreator.deleteGeneratedMatchArtwork(cleanupData);
+  static void cleanup(@Autowired @NotNull TestDataCreator testDataCreator) throws IOException {
+    testDataCreator.deleteGeneratedMatchArtwork(cleanupData);
     logger.info("Attempting to delete test data...");
     for (String location : videoStorageDirs) {
       deleteDataIn(location);
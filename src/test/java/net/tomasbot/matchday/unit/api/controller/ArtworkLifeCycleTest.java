@@ -41,6 +41,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -146,6 +148,44 @@ class ArtworkLifeCycleTest {
 
   @Test
   @Order(3)
+  @DisplayName("Validate selected emblem is served with an ETag, and revalidated with 304")
+  void fetchSelectedEmblemConditionally() throws Exception {
+    // given
+    final String selectedUri = getEmblemCollectionUri(testCompetition.getId()) + "/selected";
+    logger.info("Fetching selected emblem from: {}", selectedUri);
+
+    // when
+    final MockHttpServletResponse response =
+        mvc.perform(MockMvcRequestBuilders.get(selectedUri).accept(MediaType.IMAGE_PNG))
+            .andReturn()
+            .getResponse();
+    final String etag = response.getHeader(HttpHeaders.ETAG);
+    logger.info(
+        "Got emblem: [{}] {} bytes, ETag: {}",
+        response.getStatus(),
+        response.getContentLength(),
+        etag);
+    final MockHttpServletResponse revalidated =
+        mvc.perform(
+                MockMvcRequestBuilders.get(selectedUri)
+                    .accept(MediaType.IMAGE_PNG)
+                    .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andReturn()
+            .getResponse();
+    logger.info("Revalidation returned: {}", revalidated.getStatus());
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(response.getContentAsByteArray())
+        .isEqualTo(ResourceFileReader.readBinaryData("data/TestUploadImage.png"));
+    assertThat(etag).isNotNull().startsWith("\"artwork-");
+    assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+    assertThat(revalidated.getStatus()).isEqualTo(304);
+    assertThat(revalidated.getContentAsByteArray()).isEmpty();
+  }
+
+  @Test
+  @Order(4)
   @DisplayName("Validate deleting Artwork with file data via API")
   void deleteArtwork() throws Exception {
     assertThat(deleteList).isNotEmpty();
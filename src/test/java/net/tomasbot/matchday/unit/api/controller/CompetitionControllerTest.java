@@ -21,7 +21,6 @@ package net.tomasbot.matchday.unit.api.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -89,13 +88,12 @@ class CompetitionControllerTest {
   }
 
   @AfterAll
-  static void teardown() throws IOException {
+  static void teardown() {
     testMatches.forEach(
         match -> {
           logger.info("Deleting test Match: {}", match);
           testDataCreator.deleteTestEvent(match);
         });
-    TestDataCreator.deleteGeneratedMatchArtwork(testMatches);
   }
 
   private Stream<Arguments> getAllTestCompetitionsArgs() {
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.tomasbot.matchday.unit.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.EntityManagerFactory;
+import net.tomasbot.matchday.TestDataCreator;
+import net.tomasbot.matchday.api.service.CompetitionService;
+import net.tomasbot.matchday.api.service.CountryService;
+import net.tomasbot.matchday.api.service.TeamService;
+import net.tomasbot.matchday.model.Color;
+import net.tomasbot.matchday.model.Competition;
+import net.tomasbot.matchday.model.Country;
+import net.tomasbot.matchday.model.Event;
+import net.tomasbot.matchday.model.Match;
+import net.tomasbot.matchday.model.Synonym;
+import net.tomasbot.matchday.model.Team;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Validate conditional GETs of JSON resources")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class ConditionalRequestTest {
+
+  private static final Logger logger = LogManager.getLogger(ConditionalRequestTest.class);
+
+  // the revision of the page, and the latest changes to Teams & Competitions
+  private static final long MAX_NOT_MODIFIED_STATEMENTS = 3;
+
+  private final List<Event> testMatches = new ArrayList<>();
+  private final TestDataCreator testDataCreator;
+  private final TeamService teamService;
+  private final CompetitionService competitionService;
+  private final CountryService countryService;
+  private final Statistics statistics;
+  @LocalServerPort private int port;
+  @Autowired private TestRestTemplate restTemplate;
+  private Match testMatch;
+
+  @Autowired
+  ConditionalRequestTest(
+      TestDataCreator testDataCreator,
+      TeamService teamService,
+      CompetitionService competitionService,
+      CountryService countryService,
+      @NotNull EntityManagerFactory entityManagerFactory) {
+    this.testDataCreator = testDataCreator;
+    this.teamService = teamService;
+    this.competitionService = competitionService;
+    this.countryService = countryService;
+    this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @BeforeAll
+  void setup() {
+    testMatch = testDataCreator.createTestMatch("ConditionalRequestTest");
+    testMatches.add(testMatch);
+  }
+
+  @AfterAll
+  void tearDown() {
+    testMatches.forEach(testDataCreator::deleteTestEvent);
+  }
+
+  private @NotNull String getUrl(@NotNull String path) {
+    return "http://localhost:" + port + "/api/v1" + path;
+  }
+
+  private @NotNull ResponseEntity<String> get(@NotNull String path, @Nullable String etag) {
+    final HttpHeaders headers = new HttpHeaders();
+    if (etag != null) {
+      headers.setIfNoneMatch(etag);
+    }
+    final String url = getUrl(path);
+    final ResponseEntity<String> response =
+        restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    logger.info("GET {} [If-None-Match: {}]: {}", url, etag, response.getStatusCode());
+    return response;
+  }
+
+  private @NotNull String getETag(@NotNull String path) {
+    final ResponseEntity<String> response = get(path, null);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    final String etag = response.getHeaders().getETag();
+    assertThat(etag).isNotNull().startsWith("W/");
+    assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache");
+    return etag;
+  }
+
+  private void addSynonym(@NotNull Team team) {
+    final Team existing = teamService.fetchById(team.getId()).orElseThrow();
+    existing.getName().addSynonym(new Synonym("ConditionalRequestTest " + System.nanoTime()));
+    teamService.update(existing);
+  }
+
+  private void assertRevalidated(@NotNull String path, @NotNull String etag) {
+    final ResponseEntity<String> notModified = get(path, etag);
+    assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(notModified.getBody()).isNull();
+    assertThat(notModified.getHeaders().getETag()).isEqualTo(etag);
+  }
+
+  private void assertModified(@NotNull String path, @NotNull String etag) {
+    final ResponseEntity<String> modified = get(path, etag);
+    assertThat(modified.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(modified.getBody()).isNotEmpty();
+    assertThat(modified.getHeaders().getETag()).isNotNull().isNotEqualTo(etag);
+  }
+
+  @Test
+  @DisplayName("Validate an unchanged Team is not sent again, and a changed Team is")
+  void testTeamRevalidation() {
+    // given
+    final Team team = testMatch.getHomeTeam();
+    final String path = "/teams/team/" + team.getId();
+    final ResponseEntity<String> response = get(path, null);
+    final String etag = response.getHeaders().getETag();
+    logger.info("Team ETag: {}, Last-Modified: {}", etag, response.getHeaders().getLastModified());
+
+    // then
+    assertThat(etag).isNotNull();
+    assertThat(response.getHeaders().getLastModified()).isPositive();
+    assertRevalidated(path, etag);
+
+    // when
+    addSynonym(team);
+
+    // then
+    assertModified(path, etag);
+  }
+
+  @Test
+  @DisplayName("Validate a Team is sent again when only its colors change")
+  void testTeamColorsRevalidation() {
+    // given
+    final Team team = teamService.fetchById(testMatch.getAwayTeam().getId()).orElseThrow();
+    final String path = "/teams/team/" + team.getId();
+    final String etag = getETag(path);
+
+    // then
+    assertRevalidated(path, etag);
+
+    // when
+    final int shade = (int) (System.nanoTime() % 256);
+    team.setColors(new ArrayList<>(List.of(new Color(shade, 255 - shade, 0))));
+    teamService.update(team);
+
+    // then
+    assertModified(path, etag);
+  }
+
+  @Test
+  @DisplayName("Validate a page of Teams is revalidated until one of its Teams changes")
+  void testTeamPageRevalidation() {
+    // given
+    final String path = "/teams/?page=0&size=1000";
+    final String etag = getETag(path);
+
+    // then
+    assertRevalidated(path, etag);
+
+    // when
+    addSynonym(testMatch.getAwayTeam());
+
+    // then
+    assertModified(path, etag);
+  }
+
+  @Test
+  @DisplayName("Validate a Match is sent again when one of its Teams changes")
+  void testMatchRevalidation() {
+    // given
+    final String path = "/matches/match/" + testMatch.getEventId();
+    final String etag = getETag(path);
+
+    // then
+    assertRevalidated(path, etag);
+
+    // when
+    addSynonym(testMatch.getHomeTeam());
+
+    // then
+    assertModified(path, etag);
+  }
+
+  @Test
+  @DisplayName("Validate an unchanged page of Events is answered without loading any Events")
+  void testEventPageRevalidation() {
+    // given
+    final String path = "/events/?page=0&size=16";
+    final String etag = getETag(path);
+    final boolean statisticsEnabled = statistics.isStatisticsEnabled();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+
+    // when
+    assertRevalidated(path, etag);
+    final long statements = statistics.getPrepareStatementCount();
+    statistics.setStatisticsEnabled(statisticsEnabled);
+    logger.info("Answered conditional request with {} statements", statements);
+
+    // then
+    assertThat(statements).isLessThanOrEqualTo(MAX_NOT_MODIFIED_STATEMENTS);
+  }
+
+  @Test
+  @DisplayName("Validate Events & Competitions are sent again when a Competition changes")
+  void testCompetitionRevalidation() {
+    // given
+    final List<Country> countries = countryService.getAllCountries();
+    final Competition competition =
+        competitionService.fetchById(testMatch.getCompetition().getId()).orElseThrow();
+    final String eventsPath = "/events/?page=0&size=16";
+    final String competitionsPath = "/competitions/";
+    final String eventsETag = getETag(eventsPath);
+    final String competitionsETag = getETag(competitionsPath);
+
+    // when
+    final Country country =
+        countries.get(0).equals(competition.getCountry()) ? countries.get(1) : countries.get(0);
+    competition.setCountry(country);
+    competitionService.update(competition);
+
+    // then
+    assertModified(eventsPath, eventsETag);
+    assertModified(competitionsPath, competitionsETag);
+  }
+}
@@ -21,7 +21,6 @@ package net.tomasbot.matchday.unit.api.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -85,13 +84,12 @@ class TeamControllerTest {
   }
 
   @AfterAll
-  static void tearDown() throws IOException {
+  static void tearDown() {
     testMatches.forEach(
         event -> {
           logger.info("Deleting test Match: {}", event);
           testDataCreator.deleteTestEvent(event);
         });
-    TestDataCreator.deleteGeneratedMatchArtwork(testMatches);
   }
 
   private Stream<Arguments> getAllTeamsArgs() {
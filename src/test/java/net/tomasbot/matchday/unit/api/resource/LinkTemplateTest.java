@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.tomasbot.matchday.unit.api.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+import java.util.Map;
+import java.util.UUID;
+import net.tomasbot.matchday.api.controller.CompetitionController;
+import net.tomasbot.matchday.api.controller.MatchController;
+import net.tomasbot.matchday.api.controller.RootController;
+import net.tomasbot.matchday.api.controller.TeamController;
+import net.tomasbot.matchday.api.resource.LinkTemplate;
+import net.tomasbot.matchday.model.ArtworkRole;
+import net.tomasbot.matchday.util.Constants.LinkRelations;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@DisplayName("Validate links expanded from templates are identical to linkTo(methodOn(...))")
+class LinkTemplateTest {
+
+  private static final Logger logger = LogManager.getLogger(LinkTemplateTest.class);
+
+  private static void bindRequest(@NotNull String scheme, @NotNull String host, int port) {
+    final MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setScheme(scheme);
+    request.setServerName(host);
+    request.setServerPort(port);
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+  }
+
+  private static void assertIdentical(@NotNull Link expected, @NotNull Link actual) {
+    logger.info("Expected link: {}, got: {}", expected, actual);
+    assertThat(actual.getHref()).isEqualTo(expected.getHref());
+    assertThat(actual.getRel()).isEqualTo(expected.getRel());
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @AfterEach
+  void resetRequest() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  @DisplayName("Validate entity links are expanded identically")
+  void testEntityLinks() throws Exception {
+    // given
+    bindRequest("http", "localhost", 8080);
+    final LinkTemplate selfLink =
+        LinkTemplate.forEntity(id -> methodOn(MatchController.class).fetchMatchById(id));
+    final LinkTemplate eventsLink =
+        LinkTemplate.forEntity(
+            id ->
+                methodOn(TeamController.class)
+                    .fetchEventsForTeam(
+                        id, RootController.DEFAULT_PAGE, RootController.DEFAULT_PAGE_SIZE));
+
+    // when, then: the first expansion compiles the template, later ones reuse it
+    for (int i = 0; i < 3; i++) {
+      final UUID id = UUID.randomUUID();
+      assertIdentical(
+          linkTo(methodOn(MatchController.class).fetchMatchById(id)).withSelfRel(),
+          selfLink.withSelfRel(id));
+      assertIdentical(
+          linkTo(
+                  methodOn(TeamController.class)
+                      .fetchEventsForTeam(
+                          id, RootController.DEFAULT_PAGE, RootController.DEFAULT_PAGE_SIZE))
+              .withRel(LinkRelations.EVENTS_REL),
+          eventsLink.withRel(LinkRelations.EVENTS_REL, id));
+    }
+  }
+
+  @Test
+  @DisplayName("Validate artwork links are expanded identically for each role")
+  void testArtworkLinks() throws Exception {
+    // given
+    bindRequest("http", "localhost", 8080);
+    final Map<ArtworkRole, LinkTemplate> imageLinks =
+        LinkTemplate.forEach(
+            ArtworkRole.class,
+            role ->
+                LinkTemplate.forArtwork(
+                    (id, artworkId) ->
+                        methodOn(CompetitionController.class)
+                            .fetchArtworkImageData(id, role, artworkId)));
+
+    for (ArtworkRole role : ArtworkRole.values()) {
+      for (long artworkId = 1; artworkId < 1_000_000; artworkId *= 37) {
+        // when
+        final UUID id = UUID.randomUUID();
+        final Link expected =
+            linkTo(
+                    methodOn(CompetitionController.class)
+                        .fetchArtworkImageData(id, role, artworkId))
+                .withRel(LinkRelations.IMAGE_REL);
+        final Link actual = imageLinks.get(role).withRel(LinkRelations.IMAGE_REL, id, artworkId);
+
+        // then
+        assertIdentical(expected, actual);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Validate links follow the base URI of the current request")
+  void testBaseUriPerRequest() throws Exception {
+    // given
+    final LinkTemplate selfLink =
+        LinkTemplate.forEntity(id -> methodOn(TeamController.class).fetchTeamByName(id));
+    final UUID id = UUID.randomUUID();
+
+    // when
+    bindRequest("http", "localhost", 8080);
+    final Link first = selfLink.withSelfRel(id);
+    final Link firstExpected =
+        linkTo(methodOn(TeamController.class).fetchTeamByName(id)).withSelfRel();
+    bindRequest("https", "matchday.example.com", 443);
+    final Link second = selfLink.withSelfRel(id);
+    final Link secondExpected =
+        linkTo(methodOn(TeamController.class).fetchTeamByName(id)).withSelfRel();
+
+    // then
+    assertIdentical(firstExpected, first);
+    assertIdentical(secondExpected, second);
+    assertThat(second.getHref()).startsWith("https://matchday.example.com/");
+  }
+
+  @Test
+  @DisplayName("Validate links are built in full when there is no current request")
+  void testWithoutRequest() throws Exception {
+    // given
+    final LinkTemplate selfLink =
+        LinkTemplate.forEntity(id -> methodOn(MatchController.class).fetchMatchById(id));
+    final UUID id = UUID.randomUUID();
+
+    // when
+    final Link actual = selfLink.withSelfRel(id);
+
+    // then
+    assertIdentical(
+        linkTo(methodOn(MatchController.class).fetchMatchById(id)).withSelfRel(), actual);
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.tomasbot.matchday.unit.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.imageio.ImageIO;
+import net.tomasbot.matchday.api.service.ArtworkService;
+import net.tomasbot.matchday.api.service.InvalidArtworkException;
+import net.tomasbot.matchday.model.Artwork;
+import net.tomasbot.matchday.model.Image;
+import net.tomasbot.matchday.model.ImageResource;
+import net.tomasbot.matchday.util.ResourceFileReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@DisplayName("Testing for Artwork service")
+class ArtworkServiceTest {
+
+  private static final Logger logger = LogManager.getLogger(ArtworkServiceTest.class);
+  private static final List<Artwork> cleanupData = new ArrayList<>();
+  private static ArtworkService artworkService;
+
+  @Autowired
+  ArtworkServiceTest(ArtworkService artworkService) {
+    ArtworkServiceTest.artworkService = artworkService;
+  }
+
+  @AfterAll
+  static void cleanup() throws IOException {
+    for (Artwork artwork : cleanupData) {
+      logger.info("Deleting test Artwork: {}", artwork);
+      artworkService.deleteArtwork(artwork);
+    }
+  }
+
+  @Test
+  @DisplayName("Validate an image in its declared format is stored unchanged")
+  void testPassThroughStorage() throws IOException {
+    // given
+    final byte[] data = ResourceFileReader.readBinaryData("data/TestUploadImage.png");
+    final Image image = new Image(data, MediaType.IMAGE_PNG);
+
+    // when
+    final Artwork artwork = artworkService.createArtwork(image);
+    cleanupData.add(artwork);
+    logger.info("Created Artwork: {}", artwork);
+
+    // then
+    assertThat(artwork.getWidth()).isEqualTo(450);
+    assertThat(artwork.getHeight()).isEqualTo(450);
+    assertThat(artwork.getFileSize()).isEqualTo(data.length);
+    assertThat(Files.readAllBytes(artwork.getFile())).isEqualTo(data);
+  }
+
+  @Test
+  @DisplayName("Validate an image in another format is converted to the declared format")
+  void testConversion() throws IOException {
+    // given
+    final byte[] data = ResourceFileReader.readBinaryData("data/TestUploadImage.png");
+    final Image image = new Image(data, MediaType.IMAGE_GIF);
+
+    // when
+    final Artwork artwork = artworkService.createArtwork(image);
+    cleanupData.add(artwork);
+    logger.info("Created converted Artwork: {}", artwork);
+
+    // then
+    final byte[] stored = Files.readAllBytes(artwork.getFile());
+    assertThat(new String(stored, 0, 3)).isEqualTo("GIF");
+    assertThat(artwork.getFileSize()).isEqualTo(stored.length);
+    assertThat(artwork.getWidth()).isEqualTo(450);
+  }
+
+  @Test
+  @DisplayName("Validate identical images share one file, which is kept until no Artwork uses it")
+  void testDeduplicatedStorage() throws IOException {
+    // given - an image no other test uses
+    final BufferedImage unique = new BufferedImage(400, 400, BufferedImage.TYPE_INT_RGB);
+    unique.setRGB(0, 0, (int) System.nanoTime());
+    final ByteArrayOutputStream os = new ByteArrayOutputStream();
+    ImageIO.write(unique, "png", os);
+    final byte[] data = os.toByteArray();
+    final Image image = new Image(data, MediaType.IMAGE_PNG);
+
+    // when
+    final Artwork first = artworkService.createArtwork(image);
+    final Artwork second = artworkService.createArtwork(image);
+    logger.info("Created Artwork: {} and {}", first, second);
+
+    // then
+    assertThat(first.getId()).isNotEqualTo(second.getId());
+    assertThat(first.getFile()).isEqualTo(second.getFile());
+    assertThat(first.getContentHash()).isEqualTo(ArtworkService.getContentHash(data));
+    assertThat(first.getFile().getFileName().toString()).startsWith(first.getContentHash());
+
+    artworkService.deleteArtwork(first);
+    assertThat(second.getFile()).exists();
+    artworkService.deleteArtwork(second);
+    assertThat(second.getFile()).doesNotExist();
+  }
+
+  @Test
+  @DisplayName("Validate images with illegal dimensions are rejected")
+  void testRejectSmallImage() throws IOException {
+    // given
+    final ByteArrayOutputStream os = new ByteArrayOutputStream();
+    ImageIO.write(new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB), "png", os);
+    final Image image = new Image(os.toByteArray(), MediaType.IMAGE_PNG);
+
+    // then
+    assertThatThrownBy(() -> artworkService.createArtwork(image))
+        .isInstanceOf(InvalidArtworkException.class);
+  }
+
+  @Test
+  @DisplayName("Validate data which is not an image is rejected")
+  void testRejectNonImage() {
+    // given
+    final Image image = new Image("not an image".getBytes(), MediaType.IMAGE_PNG);
+
+    // then
+    assertThatThrownBy(() -> artworkService.createArtwork(image))
+        .isInstanceOf(InvalidArtworkException.class);
+  }
+
+  @Test
+  @DisplayName("Validate resized artwork is created once, reused, and removed with its original")
+  void testResizedArtwork() throws IOException {
+    // given
+    final byte[] data = ResourceFileReader.readBinaryData("data/TestUploadImage.png");
+    final Artwork artwork = artworkService.createArtwork(new Image(data, MediaType.IMAGE_PNG));
+    logger.info("Created Artwork: {}", artwork);
+
+    // when
+    final ImageResource resized = artworkService.readArtworkResource(artwork, 128);
+    final ImageResource again = artworkService.readArtworkResource(artwork, 128);
+    final ImageResource unscaled = artworkService.readArtworkResource(artwork, 512);
+    final Path derivative = resized.data().getFile().toPath();
+    logger.info("Resized Artwork: {} bytes at {}", resized.contentLength(), derivative);
+    final BufferedImage image = ImageIO.read(derivative.toFile());
+
+    // then
+    assertThat(image.getWidth()).isEqualTo(128);
+    assertThat(image.getHeight()).isEqualTo(128);
+    assertThat(resized.contentLength()).isLessThan(data.length);
+    assertThat(again.etag()).isEqualTo(resized.etag());
+    assertThat(unscaled.contentLength()).isEqualTo(data.length);
+    assertThat(unscaled.etag()).isNotEqualTo(resized.etag());
+    assertThatThrownBy(() -> artworkService.readArtworkResource(artwork, 100))
+        .isInstanceOf(IllegalArgumentException.class);
+
+    artworkService.deleteArtwork(artwork);
+    assertThat(derivative).doesNotExist();
+  }
+}
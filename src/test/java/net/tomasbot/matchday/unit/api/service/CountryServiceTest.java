@@ -35,6 +35,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import net.tomasbot.matchday.api.service.CountryService;
 import net.tomasbot.matchday.model.Country;
+import net.tomasbot.matchday.model.ImageResource;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
@@ -96,4 +97,27 @@ class CountryServiceTest {
     // then
     assertThat(actualBytes).isEqualTo(expectedBytes);
   }
+
+  @Test
+  @DisplayName("Validate flag resources are tagged, and the tag is stable between reads")
+  void getFlagResource() throws IOException {
+    // given
+    final String countryName = "Spain";
+    final byte[] expectedData = countryService.getFlag(countryName);
+
+    // when
+    final ImageResource first = countryService.getFlagResource(countryName);
+    final ImageResource second = countryService.getFlagResource(countryName);
+    logger.info(
+        "Flag resource for {}: {} bytes, ETag: {}",
+        countryName,
+        first.contentLength(),
+        first.etag());
+
+    // then
+    assertThat(first.contentLength()).isEqualTo(expectedData.length);
+    assertThat(first.data().getInputStream().readAllBytes()).isEqualTo(expectedData);
+    assertThat(first.contentType().toString()).isEqualTo("image/svg+xml");
+    assertThat(first.etag()).isNotNull().isEqualTo(second.etag());
+  }
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.tomasbot.matchday.unit.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.tomasbot.matchday.TestDataCreator;
+import net.tomasbot.matchday.api.service.CompetitionService;
+import net.tomasbot.matchday.api.service.CountryService;
+import net.tomasbot.matchday.api.service.EntityCache;
+import net.tomasbot.matchday.api.service.TeamService;
+import net.tomasbot.matchday.model.Competition;
+import net.tomasbot.matchday.model.Country;
+import net.tomasbot.matchday.model.Synonym;
+import net.tomasbot.matchday.model.Team;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@DisplayName("Validate the second-level cache of Teams, Competitions & names")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EntityCacheTest {
+
+  private static final Logger logger = LogManager.getLogger(EntityCacheTest.class);
+  private static final Random random = new Random();
+
+  private final EntityCache entityCache;
+  private final TeamService teamService;
+  private final CompetitionService competitionService;
+  private final CountryService countryService;
+  private final TestDataCreator testDataCreator;
+  private final JdbcTemplate jdbcTemplate;
+  private final Statistics statistics;
+  private final List<Team> cleanupTeams = new ArrayList<>();
+  private final List<Competition> cleanupCompetitions = new ArrayList<>();
+
+  @Autowired
+  EntityCacheTest(
+      EntityCache entityCache,
+      TeamService teamService,
+      CompetitionService competitionService,
+      CountryService countryService,
+      TestDataCreator testDataCreator,
+      JdbcTemplate jdbcTemplate,
+      EntityManagerFactory entityManagerFactory) {
+    this.entityCache = entityCache;
+    this.teamService = teamService;
+    this.competitionService = competitionService;
+    this.countryService = countryService;
+    this.testDataCreator = testDataCreator;
+    this.jdbcTemplate = jdbcTemplate;
+    this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @AfterAll
+  void cleanup() throws IOException {
+    logger.info("Deleting test Teams & Competitions...");
+    for (Team team : cleanupTeams) {
+      teamService.delete(team.getId());
+    }
+    for (Competition competition : cleanupCompetitions) {
+      competitionService.delete(competition.getId());
+    }
+  }
+
+  private @NotNull Team createTeam(@NotNull String prefix) {
+    final Team team = testDataCreator.createTestTeam(getRandomName(prefix));
+    cleanupTeams.add(team);
+    return team;
+  }
+
+  private static @NotNull String getRandomName(@NotNull String prefix) {
+    return prefix + " " + random.nextInt(1_000_000);
+  }
+
+  private static List<String> getSynonyms(@NotNull Team team) {
+    return team.getName().getSynonyms().stream().map(Synonym::getName).toList();
+  }
+
+  private @NotNull Team fetchTeam(@NotNull Team team) {
+    return teamService.fetchById(team.getId()).orElseThrow();
+  }
+
+  @Test
+  @DisplayName("Validate a Team which has been read is served from the cache")
+  void testReadIsCached() {
+    // given
+    final Team team = createTeam("Cached Team");
+    final boolean statisticsEnabled = statistics.isStatisticsEnabled();
+    statistics.setStatisticsEnabled(true);
+    fetchTeam(team);
+    final CacheRegionStatistics regionStatistics = entityCache.getStatistics(Team.class);
+    assertThat(regionStatistics).isNotNull();
+    final long hitsBefore = regionStatistics.getHitCount();
+
+    // when
+    final Team cached = fetchTeam(team);
+    final long hitsAfter = regionStatistics.getHitCount();
+    statistics.setStatisticsEnabled(statisticsEnabled);
+    logger.info("Team cache hits before: {}, after: {}", hitsBefore, hitsAfter);
+
+    // then
+    assertThat(cached).isEqualTo(team);
+    assertThat(entityCache.contains(Team.class, team.getId())).isTrue();
+    assertThat(hitsAfter).isGreaterThan(hitsBefore);
+  }
+
+  @Test
+  @DisplayName("Validate Synonyms added to or removed from a cached Team are read back")
+  void testUpdateTeamThenRead() {
+    // given
+    final Team team = createTeam("Updated Team");
+    final String synonym = getRandomName("Synonym");
+    final Team cached = fetchTeam(team);
+
+    // when
+    cached.getName().addSynonym(new Synonym(synonym));
+    teamService.update(cached);
+    final Team added = fetchTeam(team);
+    logger.info("Synonyms after adding: {}", getSynonyms(added));
+
+    added.getName().getSynonyms().removeIf(name -> name.getName().equals(synonym));
+    teamService.update(added);
+    final Team removed = fetchTeam(team);
+    logger.info("Synonyms after removing: {}", getSynonyms(removed));
+
+    // then
+    assertThat(getSynonyms(added)).contains(synonym);
+    assertThat(getSynonyms(removed)).doesNotContain(synonym);
+  }
+
+  @Test
+  @DisplayName("Validate a change to the Country of a cached Competition is read back")
+  void testUpdateCompetitionThenRead() {
+    // given
+    final List<Country> countries = countryService.getAllCountries();
+    assertThat(countries.size()).isGreaterThanOrEqualTo(2);
+    final Competition competition =
+        testDataCreator.createTestCompetition(getRandomName("Updated Competition"));
+    cleanupCompetitions.add(competition);
+    final Competition cached = competitionService.fetchById(competition.getId()).orElseThrow();
+
+    // when
+    cached.setCountry(countries.get(0));
+    competitionService.update(cached);
+    final Competition first = competitionService.fetchById(competition.getId()).orElseThrow();
+    first.setCountry(countries.get(1));
+    competitionService.update(first);
+    final Competition second = competitionService.fetchById(competition.getId()).orElseThrow();
+
+    // then
+    assertThat(first.getCountry().getName()).isEqualTo(countries.get(0).getName());
+    assertThat(second.getCountry().getName()).isEqualTo(countries.get(1).getName());
+  }
+
+  @Test
+  @DisplayName("Validate evicting the cache exposes changes made directly to the database")
+  void testEvictAllAfterDirectWrite() {
+    // given
+    final Team team = createTeam("Restored Team");
+    final String originalName = team.getName().getName();
+    final String restoredName = getRandomName("Restored Name");
+    fetchTeam(team);
+
+    try {
+      // when
+      jdbcTemplate.update(
+          "UPDATE proper_name SET name = ? WHERE id = ?", restoredName, team.getName().getId());
+      final Team stale = fetchTeam(team);
+      entityCache.evictAll();
+      final Team restored = fetchTeam(team);
+      logger.info("Name before eviction: {}, after: {}", stale.getName(), restored.getName());
+
+      // then
+      assertThat(stale.getName().getName()).isEqualTo(originalName);
+      assertThat(restored.getName().getName()).isEqualTo(restoredName);
+    } finally {
+      jdbcTemplate.update(
+          "UPDATE proper_name SET name = ? WHERE id = ?", originalName, team.getName().getId());
+      entityCache.evictAll();
+    }
+  }
+}
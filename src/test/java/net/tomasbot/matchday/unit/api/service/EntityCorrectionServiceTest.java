@@ -82,8 +82,8 @@ class EntityCorrectionServiceTest {
   }
 
   @AfterAll
-  static void cleanup() throws IOException {
-    TestDataCreator.deleteGeneratedMatchArtwork(cleanupData);
+  static void cleanup(@Autowired @NotNull TestDataCreator testDataCreator) throws IOException {
+    testDataCreator.deleteGeneratedMatchArtwork(cleanupData);
   }
 
   @BeforeEach
@@ -162,4 +162,37 @@ class EntityCorrectionServiceTest {
     assertThat(testEvent.getFixture()).isEqualTo(testFixture);
     assertThat(testEvent.getDate()).isEqualTo(testDate);
   }
+
+  @Test
+  @DisplayName("Ensure unknown names are left as-is across repeated corrections of each type")
+  void testRepeatedCorrectionOfUnknownNames() throws ReflectiveOperationException {
+    // given
+    final Competition unknownCompetition = new Competition("Unknown Competition " + seed);
+    final Team unknownHome = new Team("Unknown Home Team " + seed);
+    final Team unknownAway = new Team("Unknown Away Team " + seed);
+    final Match match =
+        Match.builder()
+            .competition(unknownCompetition)
+            .homeTeam(unknownHome)
+            .awayTeam(unknownAway)
+            .date(LocalDateTime.now())
+            .build();
+    final Highlight highlight =
+        Highlight.highlightBuilder()
+            .competition(unknownCompetition)
+            .date(LocalDateTime.now())
+            .build();
+
+    // when
+    entityCorrectionService.correctEntityFields(match);
+    entityCorrectionService.correctEntityFields(highlight);
+    entityCorrectionService.correctEntityFields(match);
+    entityCorrectionService.correctEntityFields(highlight);
+
+    // then
+    assertThat(match.getCompetition()).isSameAs(unknownCompetition);
+    assertThat(match.getHomeTeam()).isSameAs(unknownHome);
+    assertThat(match.getAwayTeam()).isSameAs(unknownAway);
+    assertThat(highlight.getCompetition()).isSameAs(unknownCompetition);
+  }
 }
@@ -93,8 +93,9 @@ class EventServiceTest {
   }
 
   @AfterAll
-  public static void cleanup() throws IOException {
-    TestDataCreator.deleteGeneratedMatchArtwork(cleanupData);
+  public static void cleanup(@Autowired @NotNull TestDataCreator testDataCreator)
+      throws IOException {
+    testDataCreator.deleteGeneratedMatchArtwork(cleanupData);
   }
 
   private @NotNull Match createUnsavedMatch(String name) {
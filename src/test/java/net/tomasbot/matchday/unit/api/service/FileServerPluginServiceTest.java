@@ -128,6 +128,27 @@ class FileServerPluginServiceTest {
     assertThat(fileServerPluginService.isPluginEnabled(testPluginId)).isTrue();
   }
 
+  @Test
+  @DisplayName("Validate URLs are routed only to enabled plugins")
+  void testEnabledPluginForUrl() {
+    // given
+    final UUID testPluginId = testFileServerPlugin.getPluginId();
+    final URL firstHalfUrl = testDataCreator.getFirstHalfUrl();
+    logger.info("Routing URL: {}", firstHalfUrl);
+
+    // when
+    final FileServerPlugin enabled = fileServerPluginService.getEnabledPluginForUrl(firstHalfUrl);
+    fileServerPluginService.disablePlugin(testPluginId);
+    final FileServerPlugin disabled = fileServerPluginService.getEnabledPluginForUrl(firstHalfUrl);
+    fileServerPluginService.enablePlugin(testPluginId);
+    final FileServerPlugin reEnabled = fileServerPluginService.getEnabledPluginForUrl(firstHalfUrl);
+
+    // then
+    assertThat(enabled).isEqualTo(testFileServerPlugin);
+    assertThat(disabled).isNotEqualTo(testFileServerPlugin);
+    assertThat(reEnabled).isEqualTo(testFileServerPlugin);
+  }
+
   @Test
   @DisplayName("Validate plugin internal URL extraction")
   void getDownloadUrl() throws IOException {
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.tomasbot.matchday.unit.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import net.tomasbot.matchday.TestDataCreator;
+import net.tomasbot.matchday.api.service.MatchArtworkRegenerationService;
+import net.tomasbot.matchday.api.service.MatchArtworkRenderQueue;
+import net.tomasbot.matchday.api.service.MatchService;
+import net.tomasbot.matchday.model.Artwork;
+import net.tomasbot.matchday.model.ArtworkRegenerationJob;
+import net.tomasbot.matchday.model.Event;
+import net.tomasbot.matchday.model.Match;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@DisplayName("Testing for Match artwork regeneration")
+class MatchArtworkRegenerationServiceTest {
+
+  private static final Logger logger =
+      LogManager.getLogger(MatchArtworkRegenerationServiceTest.class);
+  private static final List<Event> cleanupData = new ArrayList<>();
+
+  private final MatchService matchService;
+  private final MatchArtworkRenderQueue renderQueue;
+  private final MatchArtworkRegenerationService regenerationService;
+  private final Match testMatch;
+
+  @Autowired
+  MatchArtworkRegenerationServiceTest(
+      @NotNull TestDataCreator testDataCreator,
+      MatchService matchService,
+      MatchArtworkRenderQueue renderQueue,
+      MatchArtworkRegenerationService regenerationService) {
+    this.matchService = matchService;
+    this.renderQueue = renderQueue;
+    this.regenerationService = regenerationService;
+    this.testMatch = testDataCreator.createTestMatch();
+  }
+
+  @AfterAll
+  static void cleanup(@Autowired @NotNull TestDataCreator testDataCreator) throws IOException {
+    testDataCreator.deleteGeneratedMatchArtwork(cleanupData);
+  }
+
+  private static void awaitJob(@NotNull ArtworkRegenerationJob job) throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + 30_000;
+    while (!job.isDone() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(100);
+    }
+  }
+
+  @Test
+  @DisplayName("Ensure all Matches of a Team get new artwork, and old artwork files are removed")
+  void testRegenerateForTeam() throws IOException, InterruptedException {
+    // given
+    final UUID matchId = testMatch.getEventId();
+    while (renderQueue.isPending(matchId)) {
+      Thread.sleep(100);
+    }
+    final Artwork original = matchService.refreshMatchArtwork(matchId);
+    final Path originalFile = original.getFile();
+    logger.info("Original Match artwork: {}", original);
+
+    // when
+    final ArtworkRegenerationJob job =
+        regenerationService.regenerateForTeam(testMatch.getHomeTeam().getId());
+    awaitJob(job);
+    logger.info("Regeneration finished: {}", job);
+    final Optional<Match> regenerated = matchService.fetchById(matchId);
+
+    // then
+    assertThat(job.isDone()).isTrue();
+    assertThat(job.getFailures()).isEmpty();
+    assertThat(job.getRendered()).isGreaterThanOrEqualTo(1);
+    assertThat(regenerationService.fetchJob(job.getJobId())).contains(job);
+    assertThat(regenerated).isPresent();
+    final Artwork artwork = regenerated.get().getArtwork();
+    cleanupData.add(regenerated.get());
+    assertThat(artwork).isNotNull();
+    assertThat(artwork.getId()).isNotEqualTo(original.getId());
+    assertThat(artwork.getFile()).exists();
+    assertThat(originalFile).doesNotExist();
+  }
+
+  @Test
+  @DisplayName("Ensure a job with no Matches is complete immediately")
+  void testRegenerateNothing() {
+    // when
+    final ArtworkRegenerationJob job = regenerationService.regenerate("Test", List.of());
+    logger.info("Empty regeneration job: {}", job);
+
+    // then
+    assertThat(job.isDone()).isTrue();
+    assertThat(job.getTotal()).isZero();
+    assertThat(job.getProcessed()).isZero();
+  }
+}
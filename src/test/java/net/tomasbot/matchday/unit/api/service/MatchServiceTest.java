@@ -22,18 +22,31 @@ package net.tomasbot.matchday.unit.api.service;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import javax.persistence.EntityManagerFactory;
 import net.tomasbot.matchday.TestDataCreator;
+import net.tomasbot.matchday.api.service.EventKeyIndex;
+import net.tomasbot.matchday.api.service.MatchArtworkRenderQueue;
 import net.tomasbot.matchday.api.service.MatchService;
+import net.tomasbot.matchday.api.service.TeamService;
 import net.tomasbot.matchday.model.Competition;
 import net.tomasbot.matchday.model.Event;
+import net.tomasbot.matchday.model.EventCursor;
+import net.tomasbot.matchday.model.Fixture;
+import net.tomasbot.matchday.model.IngestReport;
 import net.tomasbot.matchday.model.Match;
+import net.tomasbot.matchday.model.ProperName;
 import net.tomasbot.matchday.model.Team;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.DisplayName;
@@ -42,7 +55,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
@@ -51,15 +68,39 @@ class MatchServiceTest {
 
   private static final Logger logger = LogManager.getLogger(MatchServiceTest.class);
   private static final List<Event> cleanupData = new ArrayList<>();
+  // page & count queries, plus batched loads of names, artwork, colors & locales
+  private static final int MAX_LIST_QUERIES = 12;
+  private final TestDataCreator testDataCreator;
   private final MatchService matchService;
+  private final MatchArtworkRenderQueue artworkRenderQueue;
+  private final EntityManagerFactory entityManagerFactory;
+  private final TeamService teamService;
+  private final EventKeyIndex eventKeyIndex;
+  private final TransactionTemplate transactionTemplate;
+  private final JdbcTemplate jdbcTemplate;
   // Test data
   private final Competition testCompetition;
   private final Team testTeam;
   private final Match testMatch;
 
   @Autowired
-  public MatchServiceTest(@NotNull TestDataCreator testDataCreator, MatchService matchService) {
+  public MatchServiceTest(
+      @NotNull TestDataCreator testDataCreator,
+      MatchService matchService,
+      MatchArtworkRenderQueue artworkRenderQueue,
+      EntityManagerFactory entityManagerFactory,
+      TeamService teamService,
+      EventKeyIndex eventKeyIndex,
+      PlatformTransactionManager transactionManager,
+      JdbcTemplate jdbcTemplate) {
+    this.testDataCreator = testDataCreator;
     this.matchService = matchService;
+    this.artworkRenderQueue = artworkRenderQueue;
+    this.entityManagerFactory = entityManagerFactory;
+    this.teamService = teamService;
+    this.eventKeyIndex = eventKeyIndex;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.jdbcTemplate = jdbcTemplate;
     this.testMatch = testDataCreator.createTestMatch();
     cleanupData.add(testMatch);
     this.testCompetition = testMatch.getCompetition();
@@ -67,8 +108,8 @@ class MatchServiceTest {
   }
 
   @AfterAll
-  static void cleanup() throws IOException {
-    TestDataCreator.deleteGeneratedMatchArtwork(cleanupData);
+  static void cleanup(@Autowired @NotNull TestDataCreator testDataCreator) throws IOException {
+    testDataCreator.deleteGeneratedMatchArtwork(cleanupData);
   }
 
   @Test
@@ -98,6 +139,94 @@ class MatchServiceTest {
         });
   }
 
+  @Test
+  @DisplayName("Ensure a page of 50 Matches is listed in a fixed number of queries")
+  void fetchAllPagedQueryCount() throws InterruptedException {
+    // given
+    final int pageSize = 50;
+    for (int i = 0; i < pageSize; i++) {
+      cleanupData.add(testDataCreator.createTestMatch("Paged "));
+    }
+    // ensure artwork rendering does not add to the count
+    final long deadline = System.currentTimeMillis() + 60_000;
+    while (artworkRenderQueue.getPendingCount() > 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(100);
+    }
+    final Statistics statistics =
+        entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    final boolean statisticsEnabled = statistics.isStatisticsEnabled();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+
+    // when
+    final Page<Match> matches = matchService.fetchAllPaged(0, pageSize);
+    final long queryCount = statistics.getPrepareStatementCount();
+    statistics.setStatisticsEnabled(statisticsEnabled);
+    logger.info("Listed {} Matches in {} queries", matches.getNumberOfElements(), queryCount);
+
+    // then
+    assertThat(matches.getNumberOfElements()).isEqualTo(pageSize);
+    assertThat(queryCount).isLessThanOrEqualTo(MAX_LIST_QUERIES);
+    for (Match match : matches) {
+      assertThat(Hibernate.isInitialized(match.getHomeTeam().getColors())).isTrue();
+      assertThat(Hibernate.isInitialized(match.getAwayTeam().getEmblem().getCollection()))
+          .isTrue();
+      assertThat(Hibernate.isInitialized(match.getFileSources())).isFalse();
+    }
+  }
+
+  @Test
+  @DisplayName("Ensure scrolling by cursor visits every Match once, newest first")
+  void testScrollMatches() {
+    // given
+    final Match first = testDataCreator.createTestMatch("Scroll ");
+    final Match second = testDataCreator.createTestMatch("Scroll ");
+    cleanupData.add(first);
+    cleanupData.add(second);
+    final int totalCount = matchService.fetchAll().size();
+
+    // when
+    final List<Match> scrolled = new ArrayList<>();
+    EventCursor cursor = null;
+    Slice<Match> slice;
+    do {
+      slice = matchService.fetchSlice(cursor, 7);
+      scrolled.addAll(slice.getContent());
+      if (slice.hasContent()) {
+        // cursors are passed to clients & back
+        cursor = EventCursor.decode(EventCursor.after(slice.getContent()).encode());
+      }
+    } while (slice.hasNext());
+    logger.info("Scrolled through {} of {} Matches", scrolled.size(), totalCount);
+
+    // then
+    final List<UUID> ids = scrolled.stream().map(Match::getEventId).toList();
+    assertThat(ids).hasSize(totalCount);
+    assertThat(new HashSet<>(ids)).hasSize(totalCount);
+    assertThat(ids).contains(first.getEventId(), second.getEventId());
+    for (int i = 1; i < scrolled.size(); i++) {
+      assertThat(scrolled.get(i).getDate()).isBeforeOrEqualTo(scrolled.get(i - 1).getDate());
+    }
+  }
+
+  @Test
+  @DisplayName("Ensure scrolling through the Matches of a Team by cursor")
+  void testScrollMatchesForTeam() {
+    // when
+    final Slice<Match> firstSlice = matchService.fetchMatchesForTeam(testTeam.getId(), null, 1);
+    final EventCursor cursor = EventCursor.after(firstSlice.getContent());
+    final Slice<Match> nextSlice = matchService.fetchMatchesForTeam(testTeam.getId(), cursor, 1);
+    logger.info("Got Matches for Team: {}, then: {}", firstSlice, nextSlice);
+
+    // then
+    assertThat(firstSlice.getContent()).hasSize(1);
+    final Match latest = firstSlice.getContent().get(0);
+    assertThat(List.of(latest.getHomeTeam(), latest.getAwayTeam())).contains(testTeam);
+    assertThat(nextSlice.getContent())
+        .extracting(Match::getEventId)
+        .doesNotContain(latest.getEventId());
+  }
+
   @Test
   @DisplayName("Ensure fetches all Matches for specified Team")
   void fetchMatchesForTeam() {
@@ -114,4 +243,173 @@ class MatchServiceTest {
     logger.info("Got ({}) Matches:\n{}", actualEventCount, events);
     assertThat(actualEventCount).isGreaterThanOrEqualTo(expectedEventCount);
   }
+
+  @Test
+  @DisplayName("Ensure a batch of Matches merges duplicates and creates new Matches")
+  void testSaveBatch() {
+    // given
+    final Match duplicate =
+        Match.builder()
+            .date(testMatch.getDate())
+            .competition(testCompetition)
+            .homeTeam(testTeam)
+            .awayTeam(testMatch.getAwayTeam())
+            .fixture(new Fixture(1))
+            .season(testMatch.getSeason())
+            .build();
+    duplicate.addFileSource(testDataCreator.createVideoFileSource());
+    final Match fresh =
+        Match.builder()
+            .date(testMatch.getDate())
+            .competition(testCompetition)
+            .homeTeam(testTeam)
+            .awayTeam(testDataCreator.createTestTeam("Batch Away Team " + UUID.randomUUID()))
+            .fixture(new Fixture(2))
+            .season(testMatch.getSeason())
+            .build();
+    fresh.addFileSource(testDataCreator.createVideoFileSource());
+    final IngestReport report = new IngestReport(Match.class);
+    logger.info("Saving batch of Matches: {}, {}", duplicate, fresh);
+
+    // when
+    matchService.saveBatch(List.of(duplicate, fresh), report);
+    cleanupData.add(fresh);
+    logger.info("Batch saved: {}", report);
+
+    // then
+    assertThat(report.getFailed()).isZero();
+    assertThat(report.getMerged()).isEqualTo(1);
+    assertThat(report.getCreated()).isEqualTo(1);
+    assertThat(fresh.getEventId()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("Ensure a Match which fails correction is skipped, and the rest of its batch saved")
+  void testSaveBatchWithMalformedMatch() {
+    // given
+    // correcting a Team without a name fails with a NullPointerException
+    final Match malformed = copyOf(testMatch, new Team(new ProperName()), 3);
+    malformed.addFileSource(testDataCreator.createVideoFileSource());
+    final Match fresh = copyOf(testMatch, testTeam, 4);
+    fresh.addFileSource(testDataCreator.createVideoFileSource());
+    final IngestReport report = new IngestReport(Match.class);
+
+    // when
+    matchService.saveBatch(List.of(malformed, fresh), report);
+    cleanupData.add(fresh);
+    logger.info("Batch with malformed Match saved: {}", report);
+
+    // then
+    assertThat(report.getFailed()).isEqualTo(1);
+    assertThat(report.getCreated()).isEqualTo(1);
+    assertThat(matchService.fetchById(fresh.getEventId())).isPresent();
+  }
+
+  @Test
+  @DisplayName("Ensure artwork for a new Match is rendered in the background")
+  void testBackgroundArtworkRendering() throws InterruptedException {
+    // given
+    final UUID matchId = testMatch.getEventId();
+    final long deadline = System.currentTimeMillis() + 30_000;
+
+    // when
+    while (artworkRenderQueue.isPending(matchId) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(100);
+    }
+    final Optional<Match> rendered = matchService.fetchById(matchId);
+    logger.info("After rendering, Match is: {}", rendered);
+
+    // then
+    assertThat(artworkRenderQueue.isPending(matchId)).isFalse();
+    assertThat(rendered).isPresent();
+    assertThat(rendered.get().getArtwork()).isNotNull();
+    cleanupData.add(rendered.get());
+  }
+
+  private static @NotNull Match copyOf(@NotNull Match match, @NotNull Team homeTeam, int fixture) {
+    return Match.builder()
+        .date(match.getDate())
+        .competition(match.getCompetition())
+        .homeTeam(homeTeam)
+        .awayTeam(match.getAwayTeam())
+        .fixture(new Fixture(fixture))
+        .season(match.getSeason())
+        .build();
+  }
+
+  @Test
+  @DisplayName("Ensure renaming a Team re-keys its Matches, so they are still merged on ingest")
+  void testRenameTeamRekeysMatches() {
+    // given
+    final Match match = testDataCreator.createTestMatch("Rename ");
+    cleanupData.add(match);
+    final Team team = teamService.fetchById(match.getHomeTeam().getId()).orElseThrow();
+    final ProperName renamed = new ProperName("Renamed Team " + UUID.randomUUID());
+    renamed.setId(team.getName().getId());
+    team.setName(renamed);
+
+    // when
+    final Team updated = teamService.update(team);
+    final Match duplicate = copyOf(match, updated, 1);
+    duplicate.addFileSource(testDataCreator.createVideoFileSource());
+    final Match saved = matchService.save(duplicate);
+    logger.info("After renaming home Team to: {}, saved: {}", renamed, saved);
+
+    // then
+    assertThat(saved.getEventId()).isEqualTo(match.getEventId());
+    assertThat(saved.getNaturalKey()).isNotEqualTo(match.getNaturalKey());
+    assertThat(eventKeyIndex.mayContain(saved.getNaturalKey())).isTrue();
+  }
+
+  @Test
+  @DisplayName("Ensure a rolled back delete leaves the Match's key in the index")
+  void testDeleteRollbackKeepsKey() {
+    // given
+    final Match match = testDataCreator.createTestMatch("Rollback ");
+    cleanupData.add(match);
+    final String naturalKey = match.getNaturalKey();
+
+    // when
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          try {
+            matchService.delete(match.getEventId());
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+          status.setRollbackOnly();
+        });
+
+    // then
+    assertThat(matchService.fetchById(match.getEventId())).isPresent();
+    assertThat(eventKeyIndex.mayContain(naturalKey)).isTrue();
+  }
+
+  @Test
+  @DisplayName("Ensure Matches duplicated before natural keys existed are merged, and updatable")
+  void testWarmMergesLegacyDuplicates() {
+    // given
+    final Match original = testDataCreator.createTestMatch("Legacy ");
+    cleanupData.add(original);
+    final Match duplicate = copyOf(original, original.getHomeTeam(), 2);
+    duplicate.addFileSource(testDataCreator.createVideoFileSource());
+    final UUID duplicateId = matchService.save(duplicate).getEventId();
+    // as though both were saved before natural keys existed
+    jdbcTemplate.update(
+        "UPDATE event SET natural_key = NULL, fixture_number = 1 WHERE event_id = ?",
+        duplicateId.toString());
+
+    // when
+    eventKeyIndex.warm();
+    final Match merged = matchService.fetchById(original.getEventId()).orElseThrow();
+    merged.setDate(merged.getDate().plusHours(1));
+    final Match updated = matchService.update(merged);
+    logger.info("Merged legacy duplicate into: {}", updated);
+
+    // then
+    assertThat(matchService.fetchById(duplicateId)).isEmpty();
+    assertThat(updated.getEventId()).isEqualTo(original.getEventId());
+    assertThat(updated.getFileSources()).hasSize(2);
+    assertThat(updated.getNaturalKey()).isEqualTo(original.getNaturalKey());
+  }
 }
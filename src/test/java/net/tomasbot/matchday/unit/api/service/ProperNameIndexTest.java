@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.tomasbot.matchday.unit.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.UUID;
+import net.tomasbot.matchday.api.service.ProperNameIndex;
+import net.tomasbot.matchday.api.service.ProperNameIndex.Entry;
+import net.tomasbot.matchday.api.service.TeamService;
+import net.tomasbot.matchday.model.Synonym;
+import net.tomasbot.matchday.model.Team;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@DisplayName("Testing for the ProperName index")
+class ProperNameIndexTest {
+
+  private static final Logger logger = LogManager.getLogger(ProperNameIndexTest.class);
+
+  private final ProperNameIndex properNameIndex;
+  private final TeamService teamService;
+
+  @Autowired
+  ProperNameIndexTest(ProperNameIndex properNameIndex, TeamService teamService) {
+    this.properNameIndex = properNameIndex;
+    this.teamService = teamService;
+  }
+
+  @Test
+  @DisplayName("Ensure a saved Team can be resolved by name & synonym, until it is deleted")
+  void testTeamIndexing() throws IOException {
+    // given
+    final String suffix = UUID.randomUUID().toString().substring(0, 8);
+    final String teamName = "Indexed Team " + suffix;
+    final String synonymName = "Index FC " + suffix;
+    final Team team = new Team(teamName);
+    team.getName().addSynonym(new Synonym(synonymName));
+
+    // when
+    final Team saved = teamService.save(team);
+    logger.info("Saved Team: {}; index contains {} names", saved, properNameIndex.size());
+
+    // then
+    final Optional<Entry> byName = properNameIndex.resolve(Team.class, teamName.toUpperCase());
+    final Optional<Entry> bySynonym = properNameIndex.resolve(Team.class, synonymName);
+    logger.info("Resolved by name: {}; by synonym: {}", byName, bySynonym);
+    assertThat(byName).isPresent();
+    assertThat(bySynonym).isPresent();
+    assertThat(byName.get().entityId()).isEqualTo(saved.getId());
+    assertThat(byName.get().synonym()).isFalse();
+    assertThat(bySynonym.get().entityId()).isEqualTo(saved.getId());
+    assertThat(bySynonym.get().synonym()).isTrue();
+
+    teamService.delete(saved.getId());
+    assertThat(properNameIndex.resolve(Team.class, teamName)).isEmpty();
+    assertThat(properNameIndex.resolve(Team.class, synonymName)).isEmpty();
+  }
+}
@@ -22,11 +22,16 @@ package net.tomasbot.matchday.unit.api.service;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import javax.persistence.EntityManagerFactory;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.DisplayName;
@@ -37,10 +42,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import net.tomasbot.matchday.TestDataCreator;
+import net.tomasbot.matchday.api.service.EventService;
 import net.tomasbot.matchday.api.service.TeamService;
 import net.tomasbot.matchday.model.Competition;
 import net.tomasbot.matchday.model.Event;
+import net.tomasbot.matchday.model.Fixture;
 import net.tomasbot.matchday.model.Match;
+import net.tomasbot.matchday.model.ProperName;
+import net.tomasbot.matchday.model.Season;
 import net.tomasbot.matchday.model.Team;
 
 @ExtendWith(SpringExtension.class)
@@ -51,13 +60,23 @@ class TeamServiceTest {
 
   private static final Logger logger = LogManager.getLogger(TeamServiceTest.class);
   private static final List<Event> cleanupData = new ArrayList<>();
+  private final TestDataCreator testDataCreator;
   private final TeamService teamService;
+  private final EventService eventService;
+  private final EntityManagerFactory entityManagerFactory;
   private final Competition testCompetition;
   private final Team testTeam;
 
   @Autowired
-  public TeamServiceTest(@NotNull TestDataCreator testDataCreator, TeamService teamService) {
+  public TeamServiceTest(
+      @NotNull TestDataCreator testDataCreator,
+      TeamService teamService,
+      EventService eventService,
+      EntityManagerFactory entityManagerFactory) {
+    this.testDataCreator = testDataCreator;
     this.teamService = teamService;
+    this.eventService = eventService;
+    this.entityManagerFactory = entityManagerFactory;
     Match testMatch = testDataCreator.createTestMatch();
     cleanupData.add(testMatch);
     this.testCompetition = testMatch.getCompetition();
@@ -65,8 +84,8 @@ class TeamServiceTest {
   }
 
   @AfterAll
-  static void cleanup() throws IOException {
-    TestDataCreator.deleteGeneratedMatchArtwork(cleanupData);
+  static void cleanup(@Autowired @NotNull TestDataCreator testDataCreator) throws IOException {
+    testDataCreator.deleteGeneratedMatchArtwork(cleanupData);
   }
 
   @Test
@@ -101,6 +120,96 @@ class TeamServiceTest {
     assertThat(teams).contains(testTeam);
   }
 
+  @Test
+  @DisplayName("Validate the Teams of a Competition are cached until a Match in it is written")
+  void fetchTeamsByCompetitionIdCached() {
+    // given
+    final Statistics statistics =
+        entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    final boolean statisticsEnabled = statistics.isStatisticsEnabled();
+    statistics.setStatisticsEnabled(true);
+    teamService.fetchTeamsByCompetitionId(testCompetition.getId());
+    final long initialStatements = statistics.getPrepareStatementCount();
+
+    // when
+    final List<Team> cached = teamService.fetchTeamsByCompetitionId(testCompetition.getId());
+    final long cachedStatements = statistics.getPrepareStatementCount() - initialStatements;
+    statistics.setStatisticsEnabled(statisticsEnabled);
+    logger.info("Read {} cached Teams in {} statements", cached.size(), cachedStatements);
+
+    // then
+    assertThat(cached).contains(testTeam);
+    assertThat(cachedStatements).isZero();
+
+    // when
+    final Match added =
+        (Match)
+            eventService.save(
+                Match.builder()
+                    .date(LocalDateTime.now())
+                    .competition(testCompetition)
+                    .homeTeam(testDataCreator.createTestTeam("Roster Home Team"))
+                    .awayTeam(testDataCreator.createTestTeam("Roster Away Team"))
+                    .fixture(new Fixture(2))
+                    .season(new Season())
+                    .build());
+    cleanupData.add(added);
+    final List<Team> afterSave = teamService.fetchTeamsByCompetitionId(testCompetition.getId());
+    logger.info("Teams after a Match was added: {}", afterSave);
+
+    // then
+    assertThat(afterSave).contains(testTeam, added.getHomeTeam(), added.getAwayTeam());
+
+    // when
+    eventService.delete(added.getEventId());
+    final List<Team> afterDelete = teamService.fetchTeamsByCompetitionId(testCompetition.getId());
+    logger.info("Teams after a Match was deleted: {}", afterDelete);
+
+    // then
+    assertThat(afterDelete).contains(testTeam).doesNotContain(added.getHomeTeam());
+  }
+
+  @Test
+  @DisplayName("Validate a cached roster is read in one query, and in name order, when evicted")
+  void fetchTeamsByCompetitionIdEvicted() {
+    // given
+    final Match match = testDataCreator.createTestMatch("Roster Order");
+    cleanupData.add(match);
+    final UUID competitionId = match.getCompetition().getId();
+    final UUID homeTeamId = match.getHomeTeam().getId();
+    final UUID awayTeamId = match.getAwayTeam().getId();
+    assertThat(teamService.fetchTeamsByCompetitionId(competitionId))
+        .extracting(Team::getId)
+        .containsExactly(awayTeamId, homeTeamId);
+
+    // when
+    final Team renamed = teamService.fetchById(awayTeamId).orElseThrow();
+    final ProperName name = new ProperName("Zz Renamed Away Team " + UUID.randomUUID());
+    name.setId(renamed.getName().getId());
+    renamed.setName(name);
+    teamService.update(renamed);
+    // renaming re-keys the Match, which evicts the roster; it is cached again here
+    teamService.fetchTeamsByCompetitionId(competitionId);
+    final SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    sessionFactory.getCache().evictEntityData(Team.class);
+    final Statistics statistics = sessionFactory.getStatistics();
+    final boolean statisticsEnabled = statistics.isStatisticsEnabled();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+    final List<Team> teams = teamService.fetchTeamsByCompetitionId(competitionId);
+    final long queries = statistics.getQueryExecutionCount();
+    // Teams loaded one at a time by ID, rather than by a query
+    final long fetches = statistics.getEntityStatistics(Team.class.getName()).getFetchCount();
+    statistics.setStatisticsEnabled(statisticsEnabled);
+    logger.info("Read {} evicted Teams in {} queries, {} fetches", teams.size(), queries, fetches);
+
+    // then
+    assertThat(teams).extracting(Team::getId).containsExactly(homeTeamId, awayTeamId);
+    assertThat(queries).isEqualTo(1);
+    assertThat(fetches).isZero();
+    eventService.delete(match.getEventId());
+  }
+
   @Test
   @DisplayName("Validate saving team to database")
   void saveTeam() {
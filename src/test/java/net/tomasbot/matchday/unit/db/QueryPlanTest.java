@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.tomasbot.matchday.unit.db;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.persistence.EntityManagerFactory;
+import net.tomasbot.matchday.TestDataCreator;
+import net.tomasbot.matchday.db.ArtworkRepository;
+import net.tomasbot.matchday.db.EventRepository;
+import net.tomasbot.matchday.db.MatchRepository;
+import net.tomasbot.matchday.db.SynonymRepository;
+import net.tomasbot.matchday.db.TeamRepository;
+import net.tomasbot.matchday.db.VideoStreamLocatorPlaylistRepo;
+import net.tomasbot.matchday.db.VideoStreamLocatorRepo;
+import net.tomasbot.matchday.model.Event;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@DisplayName("Repository query plan validation tests")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+  private static final Logger logger = LogManager.getLogger(QueryPlanTest.class);
+
+  private static final String MIGRATIONS = "classpath:db/migration/V*.sql";
+  // the baseline schema only indexes keys, which the test schema already does
+  private static final String BASELINE = "V1_0_0.sql";
+  private static final Pattern CREATE_INDEX =
+      Pattern.compile("(?is)^CREATE\\s+(?:UNIQUE\\s+)?INDEX\\s+(\\w+)\\s+(ON\\s.+)$");
+  private static final Pattern TABLE_SCAN = Pattern.compile("(\\w+)\\.tableScan");
+  private static final int SEED_MATCHES = 10;
+  // H2 cannot merge indexes, so a disjunction of the home & away Team is tested against every Match
+  private static final Set<String> TEAM_DISJUNCTION_SCANS = Set.of("MATCH_GAME", "EVENT");
+
+  private final TestDataCreator testDataCreator;
+  private final JdbcTemplate jdbcTemplate;
+  private final SessionFactoryImplementor sessionFactory;
+  private final List<Event> cleanupData = new ArrayList<>();
+  // the schema is shared with the other tests of this context, so the indexes added are dropped
+  private final List<String> appliedIndexes = new ArrayList<>();
+
+  @Autowired
+  QueryPlanTest(
+      TestDataCreator testDataCreator,
+      JdbcTemplate jdbcTemplate,
+      EntityManagerFactory entityManagerFactory) {
+    this.testDataCreator = testDataCreator;
+    this.jdbcTemplate = jdbcTemplate;
+    this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+  }
+
+  private static @NotNull String getQuery(@NotNull Class<?> repository, @NotNull String method) {
+    return Arrays.stream(repository.getMethods())
+        .filter(m -> m.getName().equals(method))
+        .map(m -> m.getAnnotation(Query.class))
+        .filter(Objects::nonNull)
+        .map(Query::value)
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("No @Query for: " + method));
+  }
+
+  private static @NotNull Arguments audit(@NotNull Class<?> repository, @NotNull String method) {
+    return audit(repository, method, Set.of());
+  }
+
+  private static @NotNull Arguments audit(
+      @NotNull Class<?> repository, @NotNull String method, @NotNull Set<String> allowedScans) {
+    final String name = repository.getSimpleName() + "." + method;
+    return Arguments.of(name, getQuery(repository, method), allowedScans);
+  }
+
+  // derived queries have no @Query; their JPQL is written as Spring Data would derive it
+  private static @NotNull Arguments derived(@NotNull String name, @NotNull String jpql) {
+    return Arguments.of(name + " (derived)", jpql, Set.of());
+  }
+
+  private static @NotNull Stream<Arguments> getAuditedQueries() {
+    return Stream.of(
+        audit(VideoStreamLocatorRepo.class, "getStreamLocatorsFor"),
+        audit(VideoStreamLocatorPlaylistRepo.class, "fetchPlaylistsForFileSrc"),
+        audit(VideoStreamLocatorPlaylistRepo.class, "fetchPlaylistContaining"),
+        audit(EventRepository.class, "fetchEventsByCompetition"),
+        audit(EventRepository.class, "fetchEventForFileSource"),
+        derived(
+            "EventRepository.findByNaturalKey",
+            "SELECT ev FROM Event ev WHERE ev.naturalKey = :naturalKey"),
+        audit(MatchRepository.class, "fetchMatchesByTeam", TEAM_DISJUNCTION_SCANS),
+        audit(MatchRepository.class, "fetchMatchIdsByTeam", TEAM_DISJUNCTION_SCANS),
+        audit(MatchRepository.class, "fetchMatchIdsByCompetition"),
+        audit(SynonymRepository.class, "findSynonymsFor"),
+        audit(TeamRepository.class, "fetchTeamsById"),
+        audit(ArtworkRepository.class, "countReferences"),
+        audit(ArtworkRepository.class, "countOtherReferences"),
+        derived(
+            "TeamRepository.findTeamByNameName", "SELECT t FROM Team t WHERE t.name.name = :name"),
+        derived(
+            "CompetitionRepository.findCompetitionByNameName",
+            "SELECT c FROM Competition c WHERE c.name.name = :name"));
+  }
+
+  @BeforeAll
+  void setup() throws IOException {
+    for (int i = 0; i < SEED_MATCHES; i++) {
+      cleanupData.add(testDataCreator.createTestMatch("QueryPlanTest"));
+    }
+    applyMigrationIndexes();
+  }
+
+  @AfterAll
+  void cleanup() {
+    logger.info("Deleting test data...");
+    cleanupData.forEach(testDataCreator::deleteTestEvent);
+    logger.info("Dropping migration indexes: {}", appliedIndexes);
+    appliedIndexes.forEach(index -> jdbcTemplate.execute("DROP INDEX IF EXISTS " + index));
+  }
+
+  /** Create the indexes of the Flyway migrations, which are disabled for tests. */
+  private void applyMigrationIndexes() throws IOException {
+    final PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+    for (Resource migration : resolver.getResources(MIGRATIONS)) {
+      if (BASELINE.equals(migration.getFilename())) {
+        continue;
+      }
+      final String script = new String(migration.getInputStream().readAllBytes(), UTF_8);
+      for (String statement : script.split(";")) {
+        final String ddl =
+            statement
+                .lines()
+                .filter(line -> !line.isBlank() && !line.trim().startsWith("--"))
+                .collect(Collectors.joining(" "))
+                .trim();
+        final Matcher matcher = CREATE_INDEX.matcher(ddl);
+        if (matcher.matches() && !indexExists(matcher.group(1))) {
+          // uniqueness does not change the plan, and test data need not satisfy it
+          logger.info("Applying index from {}: {}", migration.getFilename(), ddl);
+          jdbcTemplate.execute("CREATE INDEX " + matcher.group(1) + " " + matcher.group(2));
+          appliedIndexes.add(matcher.group(1));
+        }
+      }
+    }
+  }
+
+  private boolean indexExists(@NotNull String index) {
+    final Integer count =
+        jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE UPPER(INDEX_NAME) = UPPER(?)",
+            Integer.class,
+            index);
+    return count != null && count > 0;
+  }
+
+  private @NotNull String toSql(@NotNull String jpql) {
+    return sessionFactory
+        .getQueryPlanCache()
+        .getHQLQueryPlan(jpql, false, Collections.emptyMap())
+        .getSqlStrings()[0];
+  }
+
+  private String explain(@NotNull String sql) {
+    final PreparedStatementCallback<String> explain =
+        ps -> {
+          final int parameters = ps.getParameterMetaData().getParameterCount();
+          for (int i = 1; i <= parameters; i++) {
+            ps.setObject(i, null);
+          }
+          try (ResultSet rs = ps.executeQuery()) {
+            return rs.next() ? rs.getString(1) : null;
+          }
+        };
+    return jdbcTemplate.execute("EXPLAIN " + sql, explain);
+  }
+
+  @ParameterizedTest(name = "[{index}] {0}")
+  @MethodSource("getAuditedQueries")
+  @DisplayName("Validate frequent repository queries do not scan whole tables")
+  void testQueryIsIndexed(String name, String jpql, Set<String> allowedScans) {
+    // given
+    final String sql = toSql(jpql);
+    logger.info("Explaining {}: {}", name, sql);
+
+    // when
+    final String plan = explain(sql);
+    logger.info("Query plan for {}:\n{}", name, plan);
+    final List<String> scannedTables =
+        TABLE_SCAN
+            .matcher(Objects.requireNonNull(plan))
+            .results()
+            .map(scan -> scan.group(1).toUpperCase())
+            .filter(table -> !allowedScans.contains(table))
+            .toList();
+
+    // then
+    assertThat(scannedTables).as("Tables scanned by %s", name).isEmpty();
+  }
+}
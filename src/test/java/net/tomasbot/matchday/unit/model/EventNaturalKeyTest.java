@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.tomasbot.matchday.unit.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import net.tomasbot.matchday.model.Competition;
+import net.tomasbot.matchday.model.Fixture;
+import net.tomasbot.matchday.model.Highlight;
+import net.tomasbot.matchday.model.Match;
+import net.tomasbot.matchday.model.Season;
+import net.tomasbot.matchday.model.Team;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Validation for Event natural keys")
+class EventNaturalKeyTest {
+
+  private static final Logger logger = LogManager.getLogger(EventNaturalKeyTest.class);
+
+  private static @NotNull Match createMatch(String home, String away, int fixture) {
+    return Match.builder()
+        .competition(new Competition("Test Competition"))
+        .homeTeam(new Team(home))
+        .awayTeam(new Team(away))
+        .season(new Season(2023, 2024))
+        .fixture(new Fixture(fixture))
+        .date(LocalDateTime.now())
+        .build();
+  }
+
+  @Test
+  @DisplayName("Ensure identical Matches have identical natural keys, regardless of date")
+  void testIdenticalMatchKeys() {
+    // given
+    final Match match = createMatch("Home Team", "Away Team", 1);
+    final Match duplicate = createMatch("HOME TEAM ", "Away Team", 1);
+    duplicate.setDate(match.getDate().plusHours(2));
+
+    // when
+    final String key = match.computeNaturalKey();
+    final String duplicateKey = duplicate.computeNaturalKey();
+    logger.info("Natural keys: {}, {}", key, duplicateKey);
+
+    // then
+    assertThat(key).hasSize(64).isEqualTo(duplicateKey);
+  }
+
+  @Test
+  @DisplayName("Ensure Matches which differ in identifying fields have different natural keys")
+  void testDifferentMatchKeys() {
+    // given
+    final Match match = createMatch("Home Team", "Away Team", 1);
+    final Match reversed = createMatch("Away Team", "Home Team", 1);
+    final Match otherFixture = createMatch("Home Team", "Away Team", 2);
+
+    // when
+    final String key = match.computeNaturalKey();
+    logger.info("Comparing natural key: {}", key);
+
+    // then
+    assertThat(key).isNotEqualTo(reversed.computeNaturalKey());
+    assertThat(key).isNotEqualTo(otherFixture.computeNaturalKey());
+  }
+
+  @Test
+  @DisplayName("Ensure natural keys do not depend on the default Locale")
+  void testLocaleIndependentKeys() {
+    // given
+    final Match match = createMatch("INTER MILAN", "Away Team", 1);
+    final String key = match.computeNaturalKey();
+    final Locale defaultLocale = Locale.getDefault();
+
+    // when
+    final String turkishKey;
+    try {
+      // Turkish lower-cases 'I' to a dotless 'ı'
+      Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+      turkishKey = match.computeNaturalKey();
+    } finally {
+      Locale.setDefault(defaultLocale);
+    }
+    logger.info("Natural keys: {}, {}", key, turkishKey);
+
+    // then
+    assertThat(turkishKey).isEqualTo(key);
+  }
+
+  @Test
+  @DisplayName("Ensure a Highlight never shares a natural key with a Match")
+  void testHighlightKeyDiffersFromMatch() {
+    // given
+    final Match match = createMatch("Home Team", "Away Team", 1);
+    final Highlight highlight =
+        Highlight.highlightBuilder()
+            .competition(match.getCompetition())
+            .season(match.getSeason())
+            .fixture(match.getFixture())
+            .date(match.getDate())
+            .build();
+
+    // when
+    final String highlightKey = highlight.computeNaturalKey();
+    logger.info("Highlight natural key: {}", highlightKey);
+
+    // then
+    assertThat(highlightKey).isNotEqualTo(match.computeNaturalKey());
+  }
+
+  @Test
+  @DisplayName("Ensure an incomplete Event still yields a natural key")
+  void testIncompleteEventKey() {
+    // given
+    final Match match = new Match();
+
+    // when
+    final String key = match.computeNaturalKey();
+    logger.info("Natural key of empty Match: {}", key);
+
+    // then
+    assertThat(key).isNotBlank();
+  }
+}
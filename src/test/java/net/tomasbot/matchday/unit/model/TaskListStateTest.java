@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.tomasbot.matchday.unit.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import net.tomasbot.matchday.model.video.StreamJobState.JobStatus;
+import net.tomasbot.matchday.model.video.TaskListState;
+import net.tomasbot.matchday.model.video.TaskState;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Validation for TaskListState aggregates")
+class TaskListStateTest {
+
+  private static final Logger logger = LogManager.getLogger(TaskListStateTest.class);
+
+  @Test
+  @DisplayName("Ensure an empty task list is CREATED with no progress")
+  void testEmptyTaskList() {
+    // given
+    final TaskListState listState = TaskListState.builder().build();
+
+    // then
+    assertThat(listState.getStatus()).isEqualTo(JobStatus.CREATED);
+    assertThat(listState.getCompletionRatio()).isEqualTo(0.0);
+  }
+
+  @Test
+  @DisplayName("Ensure the aggregate follows changes made to its task states")
+  void testAggregateFollowsTaskStates() {
+    // given
+    final TaskListState listState = TaskListState.builder().build();
+    final List<TaskState> taskStates =
+        List.of(new TaskState(), new TaskState(), new TaskState(), new TaskState());
+    taskStates.forEach(listState::addTaskState);
+    assertThat(listState.getStatus()).isEqualTo(JobStatus.CREATED);
+
+    // when
+    taskStates.get(0).setStatus(JobStatus.STREAMING);
+    taskStates.get(0).setCompletionRatio(0.5);
+    taskStates.get(1).setStatus(JobStatus.COMPLETED);
+    taskStates.get(1).setCompletionRatio(1.0);
+    logger.info("Aggregate state after progress: {}", listState);
+
+    // then
+    assertThat(listState.getStatus()).isEqualTo(JobStatus.COMPLETED);
+    assertThat(listState.getCompletionRatio()).isEqualTo(1.5 / 4);
+
+    // when
+    taskStates.get(2).setStatus(JobStatus.ERROR);
+    taskStates.get(2).setCompletionRatio(-1.0);
+
+    // then
+    assertThat(listState.getStatus()).isEqualTo(JobStatus.ERROR);
+    assertThat(listState.getCompletionRatio()).isEqualTo(0.5 / 4);
+
+    // when
+    listState.removeTaskState(taskStates.get(2));
+    taskStates.get(2).setStatus(JobStatus.STOPPED);
+
+    // then
+    assertThat(listState.getStatus()).isEqualTo(JobStatus.COMPLETED);
+    assertThat(listState.getCompletionRatio()).isEqualTo(1.5 / 3);
+  }
+
+  @Test
+  @DisplayName("Ensure task states added before the first read are tallied")
+  void testAggregateBuiltOnFirstRead() {
+    // given
+    final TaskListState listState = TaskListState.builder().build();
+    final TaskState stopped = new TaskState(JobStatus.STOPPED, 0.25);
+    final TaskState streaming = new TaskState(JobStatus.STREAMING, 0.75);
+
+    // when
+    listState.getTaskStates().add(stopped);
+    listState.getTaskStates().add(streaming);
+
+    // then
+    assertThat(listState.getStatus()).isEqualTo(JobStatus.STOPPED);
+    assertThat(listState.getCompletionRatio()).isEqualTo(0.5);
+
+    // when
+    stopped.setStatus(JobStatus.QUEUED);
+
+    // then
+    assertThat(listState.getStatus()).isEqualTo(JobStatus.STREAMING);
+  }
+}
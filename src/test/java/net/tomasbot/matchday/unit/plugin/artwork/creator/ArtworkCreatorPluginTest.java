@@ -25,6 +25,8 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.xml.bind.JAXBException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
@@ -37,9 +39,11 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import net.tomasbot.matchday.model.Color;
+import net.tomasbot.matchday.model.ImageReference;
 import net.tomasbot.matchday.model.Match;
 import net.tomasbot.matchday.model.Param;
 import net.tomasbot.matchday.plugin.artwork.creator.ArtworkCreatorPlugin;
+import net.tomasbot.matchday.plugin.artwork.creator.ArtworkCreatorPluginProperties;
 import net.tomasbot.matchday.util.ResourceFileReader;
 
 @SpringBootTest
@@ -49,10 +53,12 @@ class ArtworkCreatorPluginTest {
 
   private static final Logger logger = LogManager.getLogger(ArtworkCreatorPluginTest.class);
   private final ArtworkCreatorPlugin plugin;
+  private final ArtworkCreatorPluginProperties properties;
 
   @Autowired
-  ArtworkCreatorPluginTest(ArtworkCreatorPlugin plugin) {
+  ArtworkCreatorPluginTest(ArtworkCreatorPlugin plugin, ArtworkCreatorPluginProperties properties) {
     this.plugin = plugin;
+    this.properties = properties;
   }
 
   @Test
@@ -112,6 +118,45 @@ class ArtworkCreatorPluginTest {
     assertThat(artwork.data().length).isGreaterThanOrEqualTo(expectedImageSize);
   }
 
+  @Test
+  @DisplayName("Validate referenced emblems are decoded once, then reused")
+  void testEmblemReuse() throws IOException, JAXBException {
+    // given
+    // a private instance, so emblems cached by other tests don't affect the count
+    final ArtworkCreatorPlugin plugin = new ArtworkCreatorPlugin(properties);
+    final AtomicInteger loads = new AtomicInteger();
+    final byte[] logoImage = ResourceFileReader.readBinaryData("data/TestUploadImage.png");
+    final ImageReference.ImageLoader loader =
+        () -> {
+          loads.incrementAndGet();
+          return logoImage;
+        };
+    final Collection<Param<?>> params =
+        createReferenceParams(
+            new ImageReference("test-home-emblem", loader),
+            new ImageReference("test-away-emblem", loader));
+
+    // when
+    final net.tomasbot.matchday.model.Image first = plugin.createArtwork(Match.class, params);
+    final net.tomasbot.matchday.model.Image second = plugin.createArtwork(Match.class, params);
+    logger.info("Emblems were loaded {} times over 2 renders", loads.get());
+
+    // then
+    assertThat(loads.get()).isEqualTo(2);
+    assertThat(plugin.getCachedImageCount()).isEqualTo(2);
+    assertThat(second.data()).isEqualTo(first.data());
+  }
+
+  private @NotNull @Unmodifiable Collection<Param<?>> createReferenceParams(
+      @NotNull ImageReference homeEmblem, @NotNull ImageReference awayEmblem) {
+    final Param<ImageReference> homeTeamEmblem = new Param<>("#home-team-emblem", homeEmblem);
+    final Param<ImageReference> awayTeamEmblem = new Param<>("#away-team-emblem", awayEmblem);
+    final Param<Color> homeTeamColor = new Param<>("#home-team-color", new Color(0, 0, 255));
+    final Param<Color> awayTeamColor = new Param<>("#away-team-color", new Color(0, 255, 255));
+    final Param<MediaType> type = new Param<>("#type", MediaType.IMAGE_PNG);
+    return List.of(homeTeamEmblem, homeTeamColor, awayTeamEmblem, awayTeamColor, type);
+  }
+
   private @NotNull @Unmodifiable Collection<Param<?>> createTemplateParams() throws IOException {
     final Color home = new Color(0, 0, 255);
     final Color away = new Color(0, 255, 255);
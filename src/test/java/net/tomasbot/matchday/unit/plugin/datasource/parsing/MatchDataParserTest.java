@@ -19,9 +19,10 @@
 
 package net.tomasbot.matchday.unit.plugin.datasource.parsing;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.IOException;
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.List;
 import java.util.regex.Pattern;
@@ -45,10 +46,17 @@ import net.tomasbot.matchday.TestDataCreator;
 import net.tomasbot.matchday.model.DataSource;
 import net.tomasbot.matchday.model.Event;
 import net.tomasbot.matchday.model.Match;
+import net.tomasbot.matchday.model.PatternKit;
 import net.tomasbot.matchday.model.PlaintextDataSource;
+import net.tomasbot.matchday.model.video.VideoFile;
+import net.tomasbot.matchday.model.video.VideoFileSource;
 import net.tomasbot.matchday.plugin.datasource.blogger.HtmlBloggerParser;
 import net.tomasbot.matchday.plugin.datasource.blogger.model.BloggerEntry;
+import net.tomasbot.matchday.plugin.datasource.parsing.ListFolder;
 import net.tomasbot.matchday.plugin.datasource.parsing.MatchDataParser;
+import net.tomasbot.matchday.plugin.datasource.parsing.TextParser;
+import net.tomasbot.matchday.plugin.datasource.parsing.VideoFilePackFolder;
+import net.tomasbot.matchday.plugin.datasource.parsing.fabric.Bolt;
 import net.tomasbot.matchday.util.ResourceFileReader;
 
 @ExtendWith(SpringExtension.class)
@@ -60,14 +68,18 @@ public class MatchDataParserTest {
   private static final String TEST_DATA_FILE = "data/blogger/blogger_html_single_team.html";
   private static String testHtml;
   private final MatchDataParser matchDataParser;
+  private final TextParser textParser;
   // test resources
   private final DataSource<Match> testDataSource;
 
   @Autowired
   public MatchDataParserTest(
-      @NotNull TestDataCreator testDataCreator, MatchDataParser matchDataParser)
+      @NotNull TestDataCreator testDataCreator,
+      MatchDataParser matchDataParser,
+      TextParser textParser)
       throws IOException {
     this.matchDataParser = matchDataParser;
+    this.textParser = textParser;
     this.testDataSource = testDataCreator.readTestLiveDataSource(); // .readTestHtmlDataSource();
     testHtml = readTestResources();
   }
@@ -133,4 +145,76 @@ public class MatchDataParserTest {
           assertThat(event.getCompetition()).isNotNull();
         });
   }
+
+  @ParameterizedTest(name = "[{index}] Testing with sample data: {0}")
+  @MethodSource("getBloggerEntryArgs")
+  @DisplayName("Ensure prefiltered parsing finds the same Events as parsing with every PatternKit")
+  void testPrefilteredParsingEquivalence(@NotNull BloggerEntry entry) {
+    // given
+    final String data = entry.getContent().getData();
+    final List<? extends Match> expected = parseWithoutPrefilter(data);
+
+    // when
+    final List<? extends Match> actual =
+        matchDataParser.getEntityStream(testDataSource, data).toList();
+    logger.info("Found: {} Events, expected: {}", actual.size(), expected.size());
+
+    // then
+    assertThat(actual).isEqualTo(expected);
+    for (int i = 0; i < expected.size(); i++) {
+      final Match expectedMatch = expected.get(i);
+      final Match actualMatch = actual.get(i);
+      assertThat(actualMatch.getFileSources()).isEqualTo(expectedMatch.getFileSources());
+      assertThat(getVideoFileUrls(actualMatch))
+          .containsExactlyInAnyOrderElementsOf(getVideoFileUrls(expectedMatch));
+    }
+  }
+
+  private static @NotNull List<List<URL>> getVideoFileUrls(@NotNull Event event) {
+    return event.getFileSources().stream()
+        .flatMap(fileSource -> fileSource.getVideoFilePacks().stream())
+        .map(pack -> pack.stream().map(VideoFile::getExternalUrl).toList())
+        .toList();
+  }
+
+  /** Parse as MatchDataParser did before PatternKits were prefiltered: every kit, every post. */
+  private @NotNull List<? extends Match> parseWithoutPrefilter(@NotNull String data) {
+    final PlaintextDataSource<Match> dataSource = (PlaintextDataSource<Match>) testDataSource;
+    final Document document = Jsoup.parse(data);
+    final String text = document.text();
+
+    final Stream<? extends Match> eventStream =
+        parseText(dataSource.getPatternKitsFor(Match.class), text);
+    final Stream<? extends VideoFileSource> fileSourceStream =
+        parseText(dataSource.getPatternKitsFor(VideoFileSource.class), text);
+    final Stream<VideoFile> videoFileStream =
+        parseText(dataSource.getPatternKitsFor(VideoFile.class), text);
+    Stream<URL> links = Stream.empty();
+    for (PatternKit<? extends URL> patternKit : dataSource.getPatternKitsFor(URL.class)) {
+      final String query = String.format("a[href~=%s]", patternKit.getPattern());
+      final Stream<URL> urls =
+          document.select(query).stream().map(link -> createUrl(link.attr("href")));
+      links = Stream.concat(links, urls);
+    }
+
+    return Bolt.of(links)
+        .zipInto(videoFileStream, VideoFile::setExternalUrl)
+        .foldInto(fileSourceStream, new VideoFilePackFolder<>(), VideoFileSource::addVideoFilePack)
+        .foldInto(eventStream, new ListFolder<>(), Match::addAllFileSources)
+        .stream()
+        .toList();
+  }
+
+  @SuppressWarnings("unchecked cast")
+  private <T> Stream<T> parseText(@NotNull List<PatternKit<? extends T>> patternKits, String data) {
+    return (Stream<T>) textParser.createEntityStreams(patternKits, data);
+  }
+
+  private static URL createUrl(@NotNull String link) {
+    try {
+      return new URL(link);
+    } catch (MalformedURLException e) {
+      return null;
+    }
+  }
 }
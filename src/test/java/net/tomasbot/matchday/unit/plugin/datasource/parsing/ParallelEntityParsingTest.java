@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.tomasbot.matchday.unit.plugin.datasource.parsing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import net.tomasbot.matchday.TestDataCreator;
+import net.tomasbot.matchday.model.DataSource;
+import net.tomasbot.matchday.model.Match;
+import net.tomasbot.matchday.plugin.datasource.blogger.HtmlBloggerParser;
+import net.tomasbot.matchday.plugin.datasource.blogger.model.BloggerEntry;
+import net.tomasbot.matchday.plugin.datasource.parsing.HypertextEntityParser;
+import net.tomasbot.matchday.util.ResourceFileReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@DisplayName("Validate parallel parsing of independent posts")
+class ParallelEntityParsingTest {
+
+  private static final Logger logger = LogManager.getLogger(ParallelEntityParsingTest.class);
+  private static final String TEST_DATA_FILE = "data/blogger/blogger_html_single_team.html";
+  private static final int CORPUS_SIZE = 400;
+
+  private final HypertextEntityParser entityParser;
+  private final DataSource<Match> testDataSource;
+  private final List<String> corpus;
+  private final int maxInFlight;
+
+  @Autowired
+  ParallelEntityParsingTest(
+      @NotNull TestDataCreator testDataCreator,
+      HypertextEntityParser entityParser,
+      @Value("${parsing.parallel.in-flight}") int maxInFlight)
+      throws IOException {
+    this.entityParser = entityParser;
+    this.maxInFlight = maxInFlight;
+    this.testDataSource = testDataCreator.readTestLiveDataSource();
+    this.corpus = readCorpus();
+  }
+
+  private static @NotNull List<String> readCorpus() throws IOException {
+    final String html = ResourceFileReader.readTextResource(TEST_DATA_FILE);
+    final List<BloggerEntry> entries =
+        new HtmlBloggerParser().parseBlogger(html).getFeed().getEntry();
+    assertThat(entries).isNotEmpty();
+
+    final List<String> posts = new ArrayList<>(CORPUS_SIZE);
+    for (int i = 0; i < CORPUS_SIZE; i++) {
+      posts.add(entries.get(i % entries.size()).getContent().getData());
+    }
+    return posts;
+  }
+
+  private @NotNull List<Match> parseSequentially() {
+    return corpus.stream()
+        .flatMap(data -> entityParser.getEntityStream(testDataSource, data))
+        .map(Match.class::cast)
+        .toList();
+  }
+
+  private @NotNull List<Match> parseInParallel() {
+    return entityParser.getEntityStreamsInParallel(testDataSource, corpus.stream()).toList();
+  }
+
+  private boolean isEmpty(@NotNull String post) {
+    return entityParser.getEntityStream(testDataSource, post).findAny().isEmpty();
+  }
+
+  @Test
+  @DisplayName("Ensure parallel parsing yields the same entities, in the same order")
+  void testParallelParsingPreservesOrder() {
+    // when
+    final List<Match> sequential = parseSequentially();
+    final List<Match> parallel = parseInParallel();
+    logger.info("Parsed {} Matches from {} posts", sequential.size(), corpus.size());
+
+    // then
+    assertThat(sequential).isNotEmpty();
+    assertThat(parallel).containsExactlyElementsOf(sequential);
+    for (int i = 0; i < sequential.size(); i++) {
+      assertThat(parallel.get(i).getFileSources())
+          .hasSameSizeAs(sequential.get(i).getFileSources());
+    }
+  }
+
+  @Test
+  @DisplayName("Ensure posts are parsed only a bounded distance ahead of the consumer")
+  void testParallelParsingIsBounded() {
+    // given
+    // posts before the first with a Match must all be read
+    int emptyPosts = 0;
+    while (isEmpty(corpus.get(emptyPosts))) {
+      emptyPosts++;
+    }
+    final AtomicInteger submitted = new AtomicInteger();
+    final Stream<String> posts = corpus.stream().peek(post -> submitted.incrementAndGet());
+
+    // when
+    final Optional<Match> first;
+    try (Stream<Match> matches = entityParser.getEntityStreamsInParallel(testDataSource, posts)) {
+      first = matches.findFirst();
+    }
+    logger.info("Read {} of {} posts for the first Match: {}", submitted, corpus.size(), first);
+
+    // then
+    assertThat(first).isPresent();
+    assertThat(submitted.get()).isLessThanOrEqualTo(emptyPosts + maxInFlight);
+  }
+}
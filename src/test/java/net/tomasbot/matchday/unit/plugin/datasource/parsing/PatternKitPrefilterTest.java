@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.tomasbot.matchday.unit.plugin.datasource.parsing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import net.tomasbot.matchday.model.PatternKit;
+import net.tomasbot.matchday.plugin.datasource.parsing.PatternKitPrefilter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Validate literal-anchor prefiltering of PatternKits")
+class PatternKitPrefilterTest {
+
+  private static final Logger logger = LogManager.getLogger(PatternKitPrefilterTest.class);
+
+  private static @NotNull PatternKit<String> createPatternKit(@NotNull String regex) {
+    final PatternKit<String> patternKit = new PatternKit<>(String.class);
+    patternKit.setPattern(Pattern.compile(regex));
+    return patternKit;
+  }
+
+  @Test
+  @DisplayName("Ensure PatternKits whose literals are absent from the text are rejected")
+  void testMissingAnchorRejected() {
+    // given
+    final PatternKit<String> matchday = createPatternKit("Matchday (\\d+) - ([\\w ]+) vs\\. ");
+    final PatternKit<String> competition = createPatternKit("Competition: ([\\w ]+)");
+    final PatternKitPrefilter prefilter =
+        PatternKitPrefilter.compile(List.of(matchday, competition));
+
+    // when
+    final PatternKitPrefilter.Scan scan = prefilter.scan("Competition: La Liga; Round of 16");
+    logger.info("Matchday may match: {}", scan.mayMatch(matchday));
+
+    // then
+    assertThat(scan.mayMatch(matchday)).isFalse();
+    assertThat(scan.mayMatch(competition)).isTrue();
+    assertThat(scan.filter(List.of(matchday, competition))).containsExactly(competition);
+  }
+
+  @Test
+  @DisplayName("Ensure anchors are matched case-insensitively")
+  void testCaseInsensitiveAnchors() {
+    // given
+    final PatternKit<String> patternKit = createPatternKit("(?i)highlights: (.*)");
+    final PatternKitPrefilter prefilter = PatternKitPrefilter.compile(List.of(patternKit));
+
+    // when
+    final boolean mayMatch = prefilter.scan("EXTENDED HIGHLIGHTS: 1080p").mayMatch(patternKit);
+
+    // then
+    assertThat(mayMatch).isTrue();
+  }
+
+  @Test
+  @DisplayName("Ensure patterns without usable literals are never rejected")
+  void testPatternsWithoutAnchorsAccepted() {
+    // given
+    final List<PatternKit<String>> patternKits =
+        List.of(
+            createPatternKit("(Final|Semi-final) (\\d+)"),
+            createPatternKit("Final|Semi-final"),
+            createPatternKit("\\d{2}/\\d{2}"),
+            createPatternKit("\\x41BCDEF"),
+            createPatternKit("abcd?e*"));
+    final PatternKitPrefilter prefilter = PatternKitPrefilter.compile(patternKits);
+
+    // when
+    final PatternKitPrefilter.Scan scan = prefilter.scan("ABCDEF Semi-final 2 24/25 abc");
+
+    // then
+    patternKits.forEach(patternKit -> assertThat(scan.mayMatch(patternKit)).isTrue());
+  }
+
+  @Test
+  @DisplayName("Ensure PatternKits not known to the prefilter are never rejected")
+  void testUnknownPatternKit() {
+    // given
+    final PatternKitPrefilter prefilter = PatternKitPrefilter.compile(List.of());
+
+    // when
+    final boolean mayMatch = prefilter.scan("").mayMatch(createPatternKit("anything"));
+
+    // then
+    assertThat(mayMatch).isTrue();
+  }
+}
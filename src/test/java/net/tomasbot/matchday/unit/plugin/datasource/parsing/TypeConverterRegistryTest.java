@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.tomasbot.matchday.unit.plugin.datasource.parsing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import net.tomasbot.matchday.model.Fixture;
+import net.tomasbot.matchday.plugin.datasource.parsing.TypeConverterRegistry;
+import net.tomasbot.matchday.plugin.datasource.parsing.type.FixtureHandler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Validate type resolution & conversion by TypeConverterRegistry")
+class TypeConverterRegistryTest {
+
+  private static final Logger logger = LogManager.getLogger(TypeConverterRegistryTest.class);
+  private final TypeConverterRegistry registry =
+      new TypeConverterRegistry(List.of(new FixtureHandler()));
+
+  @BeforeEach
+  void setup() {
+    registry.resetConversionFailures();
+  }
+
+  @Test
+  @DisplayName("Validate conversion using a registered TypeHandler")
+  void testRegisteredTypeHandler() {
+    // when
+    final Object fixture = registry.convert("Matchday 12", Fixture.class);
+    logger.info("Converted Fixture: {}", fixture);
+
+    // then
+    assertThat(fixture).isInstanceOf(Fixture.class);
+    assertThat(((Fixture) fixture).getFixtureNumber()).isEqualTo(12);
+  }
+
+  @Test
+  @DisplayName("Validate conversion using a static String method or String constructor")
+  void testReflectiveStrategies() {
+    // when
+    final Object integer = registry.convert("42", Integer.class);
+    final Object uri = registry.convert("https://www.example.com/test", URI.class);
+    logger.info("Converted Integer: {}, URI: {}", integer, uri);
+
+    // then
+    assertThat(integer).isEqualTo(42);
+    assertThat(uri).isEqualTo(URI.create("https://www.example.com/test"));
+    assertThat(registry.getConversionFailures()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Ensure failed conversions are counted per type")
+  void testConversionFailureCounts() {
+    // given
+    final int attempts = 5;
+
+    // when
+    for (int i = 0; i < attempts; i++) {
+      assertThat(registry.convert("not a number", Integer.class)).isNull();
+      assertThat(registry.convert("anything", Object.class)).isNull();
+    }
+    final Map<Class<?>, Long> failures = registry.getConversionFailures();
+    logger.info("Conversion failures: {}", failures);
+
+    // then
+    assertThat(registry.canConvert(Integer.class)).isTrue();
+    assertThat(registry.canConvert(Object.class)).isFalse();
+    assertThat(failures).containsEntry(Integer.class, (long) attempts);
+    assertThat(failures).containsEntry(Object.class, (long) attempts);
+  }
+
+  @Test
+  @DisplayName("Validate conversion failures are published as a gauge per type")
+  void testConversionFailureGauges() {
+    // given
+    final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    registry.convert("before binding", Integer.class);
+    registry.bindTo(meterRegistry);
+
+    // when
+    registry.convert("after binding", Integer.class);
+    registry.convert("anything", Object.class);
+    final Gauge integerFailures = findFailureGauge(meterRegistry, Integer.class);
+    final Gauge objectFailures = findFailureGauge(meterRegistry, Object.class);
+    logger.info("Failure gauges: {}, {}", integerFailures.value(), objectFailures.value());
+
+    // then
+    assertThat(integerFailures.value()).isEqualTo(2);
+    assertThat(objectFailures.value()).isEqualTo(1);
+    registry.resetConversionFailures();
+    assertThat(integerFailures.value()).isZero();
+  }
+
+  private static Gauge findFailureGauge(MeterRegistry meterRegistry, Class<?> type) {
+    return meterRegistry
+        .get("matchday.parsing.conversion.failures")
+        .tag("type", type.getName())
+        .gauge();
+  }
+}
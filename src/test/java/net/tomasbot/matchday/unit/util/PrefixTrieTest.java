@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026.
+ *
+ * This file is part of Matchday.
+ *
+ * Matchday is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Matchday is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Matchday.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package net.tomasbot.matchday.unit.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import net.tomasbot.matchday.util.PrefixTrie;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PrefixTrieTest {
+
+  private static final Logger logger = LogManager.getLogger(PrefixTrieTest.class);
+
+  @Test
+  @DisplayName("Validate the longest mapped prefix of a URL is found")
+  void testFindLongestPrefix() {
+    // given
+    final PrefixTrie<String> trie = new PrefixTrie<>();
+    trie.put("https://example.com/", "site");
+    trie.put("https://example.com/football/", "football");
+    trie.put("https://other.org/", "other");
+
+    // when
+    final Optional<String> nested = trie.findLongestPrefix("https://example.com/football/1.html");
+    final Optional<String> site = trie.findLongestPrefix("https://example.com/tennis/1.html");
+    final Optional<String> unmapped = trie.findLongestPrefix("https://example.org/football/");
+    logger.info("Found: {}, {}, {}", nested, site, unmapped);
+
+    // then
+    assertThat(nested).contains("football");
+    assertThat(site).contains("site");
+    assertThat(unmapped).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Validate the first value mapped to a prefix is kept")
+  void testPutDuplicatePrefix() {
+    // given
+    final PrefixTrie<String> trie = new PrefixTrie<>();
+
+    // when
+    trie.put("https://example.com/", "first");
+    trie.put("https://example.com/", "second");
+
+    // then
+    assertThat(trie.findLongestPrefix("https://example.com/")).contains("first");
+  }
+}